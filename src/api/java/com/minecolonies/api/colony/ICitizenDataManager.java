@@ -34,4 +34,14 @@ public interface ICitizenDataManager
      * @return The citizen data view.
      */
     ICitizenDataView createFromNetworkData(@NotNull final int id, @NotNull final FriendlyByteBuf networkBuffer, final IColonyView colonyView);
+
+    /**
+     * Creates a new citizen data view from a given network buffer, without looking up or touching the existing views of the colony. Safe to call off the client thread.
+     *
+     * @param id            the id of the citizen.
+     * @param networkBuffer The network buffer to read from.
+     * @param colonyView    the colony the citizen belongs to.
+     * @return The citizen data view, null if it could not be read.
+     */
+    ICitizenDataView createNewFromNetworkData(final int id, @NotNull final FriendlyByteBuf networkBuffer, final IColonyView colonyView);
 }
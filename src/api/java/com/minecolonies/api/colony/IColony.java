@@ -262,6 +262,13 @@ public interface IColony
 
     IRaiderManager getRaiderManager();
 
+    /**
+     * Get the shared threat map of the colony guards.
+     *
+     * @return the threat manager.
+     */
+    IThreatManager getThreatManager();
+
     /**
      * Get the event manager of the colony.
      *
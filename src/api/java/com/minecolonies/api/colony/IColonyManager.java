@@ -332,6 +332,16 @@ public interface IColonyManager
      */
     void handleColonyViewCitizensMessage(int colonyId, int citizenId, FriendlyByteBuf buf, ResourceKey<Level> dim);
 
+    /**
+     * Calls {@link IColonyView#handleColonyViewVisitorMessage(FriendlyByteBuf, boolean)} if {@link #getColonyView(int, ResourceKey)} gives a not-null result.
+     *
+     * @param colonyId ID of the colony.
+     * @param buf      {@link FriendlyByteBuf} with the visitor data.
+     * @param refresh  if the visitors are a full snapshot.
+     * @param dim      the dimension.
+     */
+    void handleColonyViewVisitorMessage(int colonyId, FriendlyByteBuf buf, boolean refresh, ResourceKey<Level> dim);
+
     /**
      * Returns result of {@link IColonyView#handleColonyViewWorkOrderMessage(FriendlyByteBuf)} (int, ByteBuf)} if {@link #getColonyView(int, ResourceKey)} gives a not-null result. If {@link
      * #getColonyView(int, ResourceKey)} is null, returns null.
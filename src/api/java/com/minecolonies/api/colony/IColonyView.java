@@ -222,10 +222,17 @@ public interface IColonyView extends IColony
     @Nullable
     IMessage handleColonyViewCitizensMessage(int id, FriendlyByteBuf buf);
 
+    /**
+     * Add or replace a citizen view which was decoded elsewhere.
+     *
+     * @param citizen the citizen view, null is ignored.
+     */
+    void addCitizenView(@Nullable ICitizenDataView citizen);
+
     /**
      * Handles visitor view messages
      * @param refresh if all need to be refreshed.
-     * @param visitorViewData the new data to set
+     * @param visitorViewData the new data to set, followed by the ids of the removed visitors
      */
     void handleColonyViewVisitorMessage(final FriendlyByteBuf visitorViewData, final boolean refresh);
 
@@ -266,6 +273,13 @@ public interface IColonyView extends IColony
     @Nullable
     IMessage handleColonyBuildingViewMessage(BlockPos buildingId, @NotNull FriendlyByteBuf buf);
 
+    /**
+     * Add or replace a building view which was decoded elsewhere.
+     *
+     * @param building the building view, null is ignored.
+     */
+    void addBuildingView(@Nullable IBuildingView building);
+
     /**
      * Update a players permissions.
      *
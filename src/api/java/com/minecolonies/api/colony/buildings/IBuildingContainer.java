@@ -1,5 +1,6 @@
 package com.minecolonies.api.colony.buildings;
 
+import com.minecolonies.api.inventory.BuildingStorageView;
 import com.minecolonies.api.tileentities.AbstractTileEntityColonyBuilding;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
@@ -58,6 +59,13 @@ public interface IBuildingContainer extends ISchematicProvider, ICapabilityProvi
      */
     List<BlockPos> getContainers();
 
+    /**
+     * Get the aggregated storage view over all containers of the building.
+     *
+     * @return the view.
+     */
+    BuildingStorageView getStorageView();
+
     /**
      * Register a blockState and position. We suppress this warning since this parameter will be used in child classes which override this method.
      *
@@ -75,10 +75,23 @@ public interface ICitizenManager extends IEntityManager
     /**
      * Get all citizens.
      *
-     * @return a copy of the list of citizens.
+     * @return an immutable view of the citizens, rebuilt only when citizens are added or removed.
      */
     List<ICitizenData> getCitizens();
 
+    /**
+     * Get all citizens which currently hold a job of the given type (or a subtype of it).
+     *
+     * @param jobType the job class to match, may be an abstract job type like the guard job.
+     * @return an immutable list of matching citizens.
+     */
+    List<ICitizenData> getCitizensByJob(@NotNull final Class<?> jobType);
+
+    /**
+     * Called when the job of a citizen changed, invalidating the job index.
+     */
+    void onCitizenAssignmentChanged();
+
     /**
      * Get max citizens of the colony.
      *
@@ -1,6 +1,7 @@
 package com.minecolonies.api.colony.managers.interfaces;
 
 import com.minecolonies.api.colony.ICitizenData;
+import com.minecolonies.api.colony.IColony;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.core.BlockPos;
 
@@ -114,6 +115,13 @@ public interface IRaiderManager
      */
     void onNightFall();
 
+    /**
+     * Plan ahead for the next raid on colony tick.
+     *
+     * @param colony the colony.
+     */
+    void onColonyTick(IColony colony);
+
     /**
      * Returns the amount of nights since the last raid
      *
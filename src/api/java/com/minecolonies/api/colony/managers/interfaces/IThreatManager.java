@@ -0,0 +1,56 @@
+package com.minecolonies.api.colony.managers.interfaces;
+
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.phys.AABB;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Colony wide map of the potentially hostile entities around the guards, shared by all guards of the colony.
+ */
+public interface IThreatManager
+{
+    /**
+     * Refresh the threat map, called at a fixed interval from the colony tick.
+     *
+     * @return false, to not change the colony state.
+     */
+    boolean tick();
+
+    /**
+     * Get the potential threats whose last known position is within the given area.
+     *
+     * @param area the area to check.
+     * @return the list of threats, the guard still has to decide if it may attack them.
+     */
+    List<LivingEntity> getThreats(@NotNull AABB area);
+
+    /**
+     * Get the entity a threat was attacking at the last refresh.
+     *
+     * @param threat the threat.
+     * @return the attacked entity or null if none or not a known threat.
+     */
+    @Nullable
+    LivingEntity getThreatTarget(@NotNull LivingEntity threat);
+
+    /**
+     * Check if a threat was attacking a citizen of this colony at the last refresh.
+     *
+     * @param threat the threat.
+     * @return true if so.
+     */
+    boolean isAttackingColony(@NotNull LivingEntity threat);
+
+    /**
+     * Check if the observer can see the target. Results are shared between observers in the same chunk section for a short time.
+     *
+     * @param observer the observing entity.
+     * @param target   the target.
+     * @return true if there is a line of sight.
+     */
+    boolean hasLineOfSight(@NotNull Mob observer, @NotNull LivingEntity target);
+}
@@ -0,0 +1,258 @@
+package com.minecolonies.api.compatibility;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.minecolonies.api.crafting.registry.ModRecipeSerializer;
+import com.minecolonies.api.util.Log;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import net.minecraft.core.Registry;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.Container;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.item.crafting.RecipeSerializer;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraftforge.fml.ModList;
+import net.minecraftforge.fml.loading.FMLPaths;
+import net.minecraftforge.registries.ForgeRegistries;
+import net.minecraftforge.registries.IForgeRegistry;
+import net.minecraftforge.registries.tags.ITagManager;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Disk cache of the compatibility manager discovery results. Entries are keyed by a fingerprint of everything discovery reads: the installed mods, the registries
+ * including their numeric ids (the results are stored in network format), the item and entity tags and the relevant recipes. An unchanged modpack can then skip
+ * discovery entirely.
+ */
+final class CompatibilityDiscoveryCache
+{
+    /**
+     * Version of the cache format, bump whenever discovery or its serialization changes.
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * Max amount of cache files kept, one per modpack/world id mapping.
+     */
+    private static final int MAX_CACHED_FILES = 4;
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private CompatibilityDiscoveryCache()
+    {
+    }
+
+    /**
+     * Calculate the fingerprint of the current discovery inputs.
+     *
+     * @param recipeManager the recipe manager.
+     * @return the hex fingerprint.
+     */
+    static String fingerprint(@NotNull final RecipeManager recipeManager)
+    {
+        final Hasher hasher = Hashing.sha256().newHasher();
+        hasher.putInt(FORMAT_VERSION);
+
+        ModList.get().forEachModFile(file -> file.getModInfos().forEach(mod -> hasher.putUnencodedChars(mod.getModId()).putChar(';').putUnencodedChars(mod.getVersion().toString()).putChar(';')));
+
+        hashRegistry(hasher, Registry.ITEM);
+        hashRegistry(hasher, Registry.BLOCK);
+        hashRegistry(hasher, Registry.ENTITY_TYPE);
+        hashRegistry(hasher, Registry.ENCHANTMENT);
+        hashRegistry(hasher, Registry.POTION);
+
+        hashTags(hasher, ForgeRegistries.ITEMS);
+        hashTags(hasher, ForgeRegistries.ENTITY_TYPES);
+
+        hashRecipes(hasher, recipeManager, RecipeType.SMELTING);
+        hashRecipes(hasher, recipeManager, ModRecipeSerializer.CompostRecipeType.get());
+
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Read the cached results.
+     *
+     * @param fingerprint the fingerprint of the current inputs.
+     * @param reader      reads the results.
+     * @return true if the results were read, false if there is no valid cache entry.
+     */
+    static boolean read(@NotNull final String fingerprint, @NotNull final Consumer<FriendlyByteBuf> reader)
+    {
+        final Path file = getCacheFolder().resolve(fingerprint);
+        if (!Files.isRegularFile(file))
+        {
+            return false;
+        }
+
+        try
+        {
+            final ByteBuf buffer = Unpooled.wrappedBuffer(Files.readAllBytes(file));
+            reader.accept(new FriendlyByteBuf(buffer));
+            buffer.release();
+
+            // Touch, so pruning keeps the recently used ones.
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return true;
+        }
+        catch (final IOException | RuntimeException e)
+        {
+            Log.getLogger().warn("Failed to read cached compatibility discovery, discovering again", e);
+            try
+            {
+                Files.deleteIfExists(file);
+            }
+            catch (final IOException ignored)
+            {
+                // Overwritten after the discovery anyway.
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Store the results, dropping the least recently used entries beyond the limit.
+     *
+     * @param fingerprint the fingerprint of the current inputs.
+     * @param writer      writes the results.
+     */
+    static void write(@NotNull final String fingerprint, @NotNull final Consumer<FriendlyByteBuf> writer)
+    {
+        final ByteBuf buffer = Unpooled.buffer();
+        try
+        {
+            writer.accept(new FriendlyByteBuf(buffer));
+
+            final Path folder = getCacheFolder();
+            Files.createDirectories(folder);
+            Files.write(folder.resolve(fingerprint), ByteBufUtil.getBytes(buffer));
+
+            final List<Path> files;
+            try (Stream<Path> stream = Files.list(folder))
+            {
+                files = stream.filter(Files::isRegularFile).sorted(Comparator.comparingLong(CompatibilityDiscoveryCache::getLastModified).reversed()).toList();
+            }
+
+            for (int i = MAX_CACHED_FILES; i < files.size(); i++)
+            {
+                Files.deleteIfExists(files.get(i));
+            }
+        }
+        catch (final IOException | RuntimeException e)
+        {
+            Log.getLogger().warn("Failed to cache compatibility discovery", e);
+        }
+        finally
+        {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Hash the keys and numeric ids of a registry.
+     *
+     * @param hasher   the hasher.
+     * @param registry the registry.
+     */
+    private static <T> void hashRegistry(final Hasher hasher, final Registry<T> registry)
+    {
+        for (final T entry : registry)
+        {
+            hasher.putInt(registry.getId(entry));
+            hasher.putUnencodedChars(String.valueOf(registry.getKey(entry))).putChar(';');
+        }
+    }
+
+    /**
+     * Hash the tags of a registry with their members, in sorted order.
+     *
+     * @param hasher   the hasher.
+     * @param registry the registry.
+     */
+    private static <T> void hashTags(final Hasher hasher, final IForgeRegistry<T> registry)
+    {
+        final ITagManager<T> tags = registry.tags();
+        if (tags == null)
+        {
+            return;
+        }
+
+        final List<TagKey<T>> tagKeys = new ArrayList<>(tags.getTagNames().toList());
+        tagKeys.sort(Comparator.comparing(TagKey::location));
+        for (final TagKey<T> tagKey : tagKeys)
+        {
+            hasher.putUnencodedChars(tagKey.location().toString()).putChar('#');
+            tags.getTag(tagKey).stream()
+              .map(registry::getKey)
+              .map(String::valueOf)
+              .sorted()
+              .forEach(key -> hasher.putUnencodedChars(key).putChar(';'));
+        }
+    }
+
+    /**
+     * Hash the network form of all recipes of a type, in id order.
+     *
+     * @param hasher        the hasher.
+     * @param recipeManager the recipe manager.
+     * @param type          the recipe type.
+     */
+    @SuppressWarnings("unchecked")
+    private static <C extends Container, T extends Recipe<C>> void hashRecipes(final Hasher hasher, final RecipeManager recipeManager, final RecipeType<T> type)
+    {
+        final List<T> recipes = new ArrayList<>(recipeManager.getAllRecipesFor(type));
+        recipes.sort(Comparator.comparing(Recipe::getId));
+
+        final ByteBuf buffer = Unpooled.buffer();
+        final FriendlyByteBuf buf = new FriendlyByteBuf(buffer);
+        for (final T recipe : recipes)
+        {
+            buf.writeResourceLocation(recipe.getId());
+            ((RecipeSerializer<T>) recipe.getSerializer()).toNetwork(buf, recipe);
+        }
+        hasher.putBytes(buffer.nioBuffer());
+        buffer.release();
+    }
+
+    /**
+     * Get the cache folder.
+     *
+     * @return the path.
+     */
+    private static Path getCacheFolder()
+    {
+        return FMLPaths.GAMEDIR.get().resolve("minecolonies").resolve("discoverycache");
+    }
+
+    /**
+     * Get the last modified time of a file.
+     *
+     * @param file the file.
+     * @return the time in millis, 0 if unknown.
+     */
+    private static long getLastModified(final Path file)
+    {
+        try
+        {
+            return Files.getLastModifiedTime(file).toMillis();
+        }
+        catch (final IOException e)
+        {
+            return 0;
+        }
+    }
+}
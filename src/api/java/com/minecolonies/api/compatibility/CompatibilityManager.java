@@ -40,8 +40,13 @@ import net.minecraftforge.fml.ModList;
 import net.minecraftforge.registries.ForgeRegistries;
 import net.minecraftforge.registries.IForgeRegistry;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -54,6 +59,11 @@ import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_SAP_LEAF;
  */
 public class CompatibilityManager implements ICompatibilityManager
 {
+    /**
+     * Max amount of threads running discovery passes.
+     */
+    private static final int DISCOVERY_THREADS = 6;
+
     /**
      * BiMap of saplings and leaves.
      */
@@ -112,6 +122,16 @@ public class CompatibilityManager implements ICompatibilityManager
      */
     private final Set<ItemStorage> edibles = new HashSet<>();
 
+    /**
+     * Edibles by min nutrition, built on first request after each discovery.
+     */
+    private final Map<Integer, Set<ItemStorage>> ediblesByMinNutrition = new ConcurrentHashMap<>();
+
+    /**
+     * The possible compost inputs, built on first request after each discovery.
+     */
+    private Set<ItemStorage> compostInputs = null;
+
     /**
      * Set of all possible diseases.
      */
@@ -181,8 +201,10 @@ public class CompatibilityManager implements ICompatibilityManager
         plantables.clear();
         food.clear();
         edibles.clear();
+        ediblesByMinNutrition.clear();
         fuel.clear();
         compostRecipes.clear();
+        compostInputs = null;
 
         luckyOres.clear();
         recruitmentCostsWeights.clear();
@@ -201,15 +223,36 @@ public class CompatibilityManager implements ICompatibilityManager
     public void discover(@NotNull final RecipeManager recipeManager)
     {
         clear();
-        discoverAllItems();
 
-        discoverSaplings();
-        discoverOres();
-        discoverPlantables();
-        discoverFood();
-        discoverFuel();
-        discoverMobs();
-        discoverCompostRecipes(recipeManager);
+        final String fingerprint = CompatibilityDiscoveryCache.fingerprint(recipeManager);
+        if (CompatibilityDiscoveryCache.read(fingerprint, this::readDiscovered))
+        {
+            Log.getLogger().info("Loaded cached compatibility discovery {}", fingerprint);
+        }
+        else
+        {
+            clear();
+
+            // The passes only write their own collections, food and fuel need the item list first.
+            final ForkJoinPool pool = createDiscoveryPool();
+            try
+            {
+                final CompletableFuture<Void> items = CompletableFuture.runAsync(this::discoverAllItems, pool)
+                  .thenCompose(ignored -> CompletableFuture.allOf(CompletableFuture.runAsync(this::discoverFood, pool), CompletableFuture.runAsync(this::discoverFuel, pool)));
+                CompletableFuture.allOf(items,
+                  CompletableFuture.runAsync(this::discoverSaplings, pool),
+                  CompletableFuture.runAsync(this::discoverOres, pool),
+                  CompletableFuture.runAsync(this::discoverPlantables, pool),
+                  CompletableFuture.runAsync(this::discoverMobs, pool),
+                  CompletableFuture.runAsync(() -> discoverCompostRecipes(recipeManager), pool)).join();
+            }
+            finally
+            {
+                pool.shutdown();
+            }
+
+            CompatibilityDiscoveryCache.write(fingerprint, this::writeDiscovered);
+        }
 
         discoverLuckyOres();
         discoverRecruitCosts();
@@ -218,6 +261,22 @@ public class CompatibilityManager implements ICompatibilityManager
         discoverModCompat();
     }
 
+    /**
+     * Create the pool for the discovery passes. Its threads use the mod class loader, mods may load classes through the context class loader in their item code.
+     *
+     * @return the pool, to be shut down after use.
+     */
+    private static ForkJoinPool createDiscoveryPool()
+    {
+        final ClassLoader classLoader = CompatibilityManager.class.getClassLoader();
+        return new ForkJoinPool(Math.max(1, Math.min(DISCOVERY_THREADS, Runtime.getRuntime().availableProcessors() - 1)), pool -> {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("Minecolonies Compatibility Discovery " + thread.getPoolIndex());
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        }, (thread, throwable) -> Log.getLogger().error("Minecolonies Compatibility Discovery errored! ", throwable), false);
+    }
+
     /**
      * Transfer server-discovered item lists to client, to avoid double-handling (and
      * potentially getting different answers).
@@ -251,7 +310,46 @@ public class CompatibilityManager implements ICompatibilityManager
     {
         clear();
         discoverAllItems();
+        readDiscoveredLists(buf);
+
+        // the below are loaded from config files, which have been synched already by this point
+        discoverLuckyOres();
+        discoverRecruitCosts();
+        discoverDiseases();
+        discoverFreeBlocksAndPos();
+        discoverModCompat();
+    }
 
+    /**
+     * Write the discovery results, including the item list, for the disk cache.
+     *
+     * @param buf the buffer to write to.
+     */
+    private void writeDiscovered(@NotNull final FriendlyByteBuf buf)
+    {
+        buf.writeCollection(allItems, FriendlyByteBuf::writeItem);
+        serialize(buf);
+    }
+
+    /**
+     * Read the discovery results, including the item list, from the disk cache.
+     *
+     * @param buf the buffer to read from.
+     */
+    private void readDiscovered(@NotNull final FriendlyByteBuf buf)
+    {
+        allItems = ImmutableList.copyOf(buf.readList(FriendlyByteBuf::readItem));
+        allItemsSet = allItems.stream().map(stack -> new ItemStorage(stack, true)).collect(ImmutableSet.toImmutableSet());
+        readDiscoveredLists(buf);
+    }
+
+    /**
+     * Read the discovered lists written by {@link #serialize(FriendlyByteBuf)}.
+     *
+     * @param buf the buffer to read from.
+     */
+    private void readDiscoveredLists(@NotNull final FriendlyByteBuf buf)
+    {
         saplings.addAll(deserializeItemStorageList(buf));
         oreBlocks.addAll(deserializeBlockList(buf));
         smeltableOres.addAll(deserializeItemStorageList(buf));
@@ -269,13 +367,6 @@ public class CompatibilityManager implements ICompatibilityManager
         Log.getLogger().info("Synchronized {} monsters", monsters.size());
 
         discoverCompostRecipes(deserializeCompostRecipes(buf));
-
-        // the below are loaded from config files, which have been synched already by this point
-        discoverLuckyOres();
-        discoverRecruitCosts();
-        discoverDiseases();
-        discoverFreeBlocksAndPos();
-        discoverModCompat();
     }
 
     private static void serializeItemStorageList(@NotNull final FriendlyByteBuf buf,
@@ -406,15 +497,17 @@ public class CompatibilityManager implements ICompatibilityManager
     public Set<ItemStorage> getEdibles(final int minNutrition)
     {
         if (edibles.isEmpty()) Log.getLogger().error("getEdibles when empty");
-        final Set<ItemStorage> filteredEdibles = new HashSet<>();
-        for (final ItemStorage storage : edibles)
-        {
-            if ((storage.getItem().getFoodProperties(storage.getItemStack(), null) != null && storage.getItem().getFoodProperties().getNutrition() >= minNutrition))
+        return ediblesByMinNutrition.computeIfAbsent(minNutrition, key -> {
+            final Set<ItemStorage> filteredEdibles = new HashSet<>();
+            for (final ItemStorage storage : edibles)
             {
-                filteredEdibles.add(storage);
+                if ((storage.getItem().getFoodProperties(storage.getItemStack(), null) != null && storage.getItem().getFoodProperties().getNutrition() >= key))
+                {
+                    filteredEdibles.add(storage);
+                }
             }
-        }
-        return filteredEdibles;
+            return Collections.unmodifiableSet(filteredEdibles);
+        });
     }
 
     @Override
@@ -435,9 +528,20 @@ public class CompatibilityManager implements ICompatibilityManager
     public Set<ItemStorage> getCompostInputs()
     {
         if (compostRecipes.isEmpty()) Log.getLogger().error("getCompostInputs when empty");
-        return compostRecipes.keySet().stream()
-                .map(item -> new ItemStorage(new ItemStack(item)))
-                .collect(Collectors.toSet());
+        if (compostInputs == null)
+        {
+            compostInputs = compostRecipes.keySet().stream()
+                    .map(item -> new ItemStorage(new ItemStack(item)))
+                    .collect(Collectors.toUnmodifiableSet());
+        }
+        return compostInputs;
+    }
+
+    @Override
+    @Nullable
+    public CompostRecipe getCompostRecipe(@NotNull final Item item)
+    {
+        return compostRecipes.get(item);
     }
 
     @Override
@@ -15,6 +15,7 @@ import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Map;
@@ -83,7 +84,7 @@ public interface ICompatibilityManager
     /**
      * Get a set of all edibles for citizens.
      * @param minNutrition the min nutrition of the food.
-     * @return list of edible food.
+     * @return an immutable set of edible food.
      */
     Set<ItemStorage> getEdibles(final int minNutrition);
 
@@ -116,6 +117,15 @@ public interface ICompatibilityManager
      */
     Set<ItemStorage> getCompostInputs();
 
+    /**
+     * Get the compost recipe for an input item.
+     *
+     * @param item the input item.
+     * @return the recipe or null if the item can't be composted.
+     */
+    @Nullable
+    CompostRecipe getCompostRecipe(@NotNull Item item);
+
     /**
      * Get a copy of the list of plantables.
      *
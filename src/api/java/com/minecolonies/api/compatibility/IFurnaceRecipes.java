@@ -3,6 +3,7 @@ package com.minecolonies.api.compatibility;
 import com.minecolonies.api.crafting.RecipeStorage;
 import net.minecraft.world.item.ItemStack;
 
+import java.util.List;
 import java.util.function.Predicate;
 
 /**
@@ -19,10 +20,27 @@ public interface IFurnaceRecipes
     ItemStack getSmeltingResult(final ItemStack itemStack);
 
     /**
-     * Get the first smelting recipe by result for a certain itemStack predicate.
+     * Get the first smelting recipe by result for a certain itemStack predicate. This has to test every distinct output, use {@link
+     * #getFirstSmeltingRecipeByResult(ItemStack)} when the result is known.
      *
      * @param stackPredicate the predicate to test.
      * @return the result or null if not existent.
      */
     public RecipeStorage getFirstSmeltingRecipeByResult(final Predicate<ItemStack> stackPredicate);
+
+    /**
+     * Get the first smelting recipe producing a certain result, looked up by the result item.
+     *
+     * @param result the result, its count is ignored.
+     * @return the recipe or null if not existent.
+     */
+    RecipeStorage getFirstSmeltingRecipeByResult(final ItemStack result);
+
+    /**
+     * Get all smelting recipes producing a certain result.
+     *
+     * @param result the result, its count is ignored.
+     * @return the matching recipes, empty if none.
+     */
+    List<RecipeStorage> getSmeltingRecipesByResult(final ItemStack result);
 }
@@ -3,11 +3,13 @@ package com.minecolonies.api.entity.ai.statemachine.tickratestatemachine;
 import com.minecolonies.api.entity.ai.statemachine.basestatemachine.BasicStateMachine;
 import com.minecolonies.api.entity.ai.statemachine.states.AIBlockingEventType;
 import com.minecolonies.api.entity.ai.statemachine.states.IState;
+import it.unimi.dsi.fastutil.ints.Int2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Random;
+import java.util.*;
 import java.util.function.Consumer;
 
 import static com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickRateConstants.MAX_TICKRATE;
@@ -39,6 +41,11 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
     private final List<ITickingTransition<S>> stateBlockingTransitions;
     private final List<ITickingTransition<S>> eventTransitions;
 
+    /**
+     * The schedules of the transition lists, built on first use and dropped whenever transitions are added or removed.
+     */
+    private final Map<List<ITickingTransition<S>>, TransitionSchedule<S>> schedules = new IdentityHashMap<>();
+
     /**
      * Construct a new StateMachine
      *
@@ -79,37 +86,42 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
             tickCounter = 1;
         }
 
-        for (final ITickingTransition<S> transition : aiBlockingTransitions)
+        if (checkDueTransitions(aiBlockingTransitions) || checkDueTransitions(eventTransitions) || checkDueTransitions(stateBlockingTransitions))
         {
-            if (checkTransition(transition))
-            {
-                return;
-            }
+            return;
         }
 
-        for (final ITickingTransition<S> transition : eventTransitions)
-        {
-            if (checkTransition(transition))
-            {
-                return;
-            }
-        }
+        checkDueTransitions(currentStateTransitions);
+    }
 
-        for (final ITickingTransition<S> transition : stateBlockingTransitions)
+    /**
+     * Check the transitions of a list which are due this tick, in the order they were added.
+     *
+     * @param transitions the transitions.
+     * @return true if a transition worked and we should stop executing this tick
+     */
+    private boolean checkDueTransitions(final List<ITickingTransition<S>> transitions)
+    {
+        if (transitions == null || transitions.isEmpty())
         {
-            if (checkTransition(transition))
-            {
-                return;
-            }
+            return false;
         }
 
-        for (final ITickingTransition<S> transition : currentStateTransitions)
-        {
-            if (checkTransition(transition))
-            {
-                return;
-            }
-        }
+        return schedules.computeIfAbsent(transitions, TransitionSchedule::new).check(this, tickCounter);
+    }
+
+    @Override
+    public void addTransition(final ITickingTransition<S> transition)
+    {
+        super.addTransition(transition);
+        schedules.clear();
+    }
+
+    @Override
+    public void removeTransition(final ITickingTransition<S> transition)
+    {
+        super.removeTransition(transition);
+        schedules.clear();
     }
 
     /**
@@ -141,4 +153,140 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
         this.tickRate = tickRate;
         tickRateCounter = new Random().nextInt(tickRate);
     }
+
+    /**
+     * Transitions of a list grouped by tick rate and offset, so a tick only visits the ones which are due.
+     */
+    private static final class TransitionSchedule<S extends IState>
+    {
+        /**
+         * The transitions, in the order they were added.
+         */
+        private final List<ITickingTransition<S>> transitions;
+
+        /**
+         * The distinct tick rates.
+         */
+        private final int[] rates;
+
+        /**
+         * Per tick rate and offset the indices of the transitions, ascending. Null if none.
+         */
+        private final int[][][] buckets;
+
+        /**
+         * The buckets which are due in the current tick.
+         */
+        private final int[][] due;
+
+        /**
+         * The tick rate of each due bucket.
+         */
+        private final int[] dueRates;
+
+        /**
+         * The position within each due bucket.
+         */
+        private final int[] cursors;
+
+        /**
+         * Create the schedule of a transition list.
+         *
+         * @param transitions the transitions.
+         */
+        private TransitionSchedule(final List<ITickingTransition<S>> transitions)
+        {
+            this.transitions = new ArrayList<>(transitions);
+
+            final Int2ObjectMap<List<IntList>> byRate = new Int2ObjectLinkedOpenHashMap<>();
+            for (int i = 0; i < this.transitions.size(); i++)
+            {
+                final ITickingTransition<S> transition = this.transitions.get(i);
+                final int rate = transition.getTickRate();
+                // An offset beyond the rate is never due.
+                if (transition.getTickOffset() < rate)
+                {
+                    final List<IntList> offsets = byRate.computeIfAbsent(rate, r -> new ArrayList<>(Collections.nCopies(r, null)));
+                    if (offsets.get(transition.getTickOffset()) == null)
+                    {
+                        offsets.set(transition.getTickOffset(), new IntArrayList());
+                    }
+                    offsets.get(transition.getTickOffset()).add(i);
+                }
+            }
+
+            rates = byRate.keySet().toIntArray();
+            buckets = new int[rates.length][][];
+            for (int i = 0; i < rates.length; i++)
+            {
+                final List<IntList> offsets = byRate.get(rates[i]);
+                buckets[i] = new int[rates[i]][];
+                for (int offset = 0; offset < rates[i]; offset++)
+                {
+                    if (offsets.get(offset) != null)
+                    {
+                        buckets[i][offset] = offsets.get(offset).toIntArray();
+                    }
+                }
+            }
+            due = new int[rates.length][];
+            dueRates = new int[rates.length];
+            cursors = new int[rates.length];
+        }
+
+        /**
+         * Check the due transitions, merging the due buckets back into the order the transitions were added in.
+         *
+         * @param machine     the statemachine.
+         * @param tickCounter the current tick counter.
+         * @return true if a transition worked and we should stop executing this tick
+         */
+        private boolean check(final TickRateStateMachine<S> machine, final int tickCounter)
+        {
+            int dueCount = 0;
+            for (int i = 0; i < rates.length; i++)
+            {
+                final int[] bucket = buckets[i][tickCounter % rates[i]];
+                if (bucket != null)
+                {
+                    due[dueCount] = bucket;
+                    dueRates[dueCount] = rates[i];
+                    cursors[dueCount] = 0;
+                    dueCount++;
+                }
+            }
+
+            while (true)
+            {
+                int next = -1;
+                int nextIndex = Integer.MAX_VALUE;
+                for (int i = 0; i < dueCount; i++)
+                {
+                    if (cursors[i] < due[i].length && due[i][cursors[i]] < nextIndex)
+                    {
+                        nextIndex = due[i][cursors[i]];
+                        next = i;
+                    }
+                }
+
+                if (next == -1)
+                {
+                    return false;
+                }
+                cursors[next]++;
+
+                final ITickingTransition<S> transition = transitions.get(nextIndex);
+                if (transition.getTickRate() != dueRates[next])
+                {
+                    // The tick rate of the transition was changed, rebuild on the next tick.
+                    machine.schedules.clear();
+                }
+
+                if (machine.checkTransition(transition))
+                {
+                    return true;
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,377 @@
+package com.minecolonies.api.inventory;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.buildings.IBuildingContainer;
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.tileentities.TileEntityRack;
+import com.minecolonies.api.util.InventoryUtils;
+import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.api.util.WorldUtil;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.ChestBlockEntity;
+import net.minecraftforge.registries.ForgeRegistries;
+import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static com.minecolonies.api.util.constant.WindowConstants.ASC_SORT;
+import static com.minecolonies.api.util.constant.WindowConstants.COUNT_ASC_SORT;
+import static com.minecolonies.api.util.constant.WindowConstants.COUNT_DESC_SORT;
+import static com.minecolonies.api.util.constant.WindowConstants.DESC_SORT;
+
+/**
+ * Aggregated view of the storage of all containers of a building. The rack content is cached and only rebuilt after one of the racks notified a change, so repeated
+ * count queries don't have to visit every container. Vanilla chests offer no change notification, they are still scanned on each query.
+ */
+public class BuildingStorageView
+{
+    /**
+     * The building the view belongs to.
+     */
+    private final IBuildingContainer building;
+
+    /**
+     * The colony of the building.
+     */
+    private final IColony colony;
+
+    /**
+     * Aggregated content of all racks of the building.
+     */
+    private final Map<ItemStorage, Integer> rackContent = new HashMap<>();
+
+    /**
+     * Positions of vanilla chests of the building.
+     */
+    private final List<BlockPos> chests = new ArrayList<>();
+
+    /**
+     * Container positions which were not loaded on the last rebuild.
+     */
+    private final List<BlockPos> unloaded = new ArrayList<>();
+
+    /**
+     * Amount of free rack slots.
+     */
+    private int freeSlots = 0;
+
+    /**
+     * If the cached content has to be rebuilt.
+     */
+    private boolean dirty = true;
+
+    /**
+     * Modification version, increased on every change of the underlying containers.
+     */
+    private long version = 0;
+
+    /**
+     * Filter of the last query.
+     */
+    private String lastQueryFilter = null;
+
+    /**
+     * Sort of the last query.
+     */
+    private int lastQuerySort = -1;
+
+    /**
+     * Version the last query result was built for.
+     */
+    private long lastQueryVersion = -1;
+
+    /**
+     * Result of the last query, kept so paging through it does not sort again.
+     */
+    private List<ItemStorage> lastQueryResult = Collections.emptyList();
+
+    /**
+     * Create a new storage view.
+     *
+     * @param building the building.
+     * @param colony   its colony.
+     */
+    public BuildingStorageView(final IBuildingContainer building, final IColony colony)
+    {
+        this.building = building;
+        this.colony = colony;
+    }
+
+    /**
+     * Notify the view that the content or the set of containers changed.
+     */
+    public void markDirty()
+    {
+        dirty = true;
+        version++;
+    }
+
+    /**
+     * Get the modification version, it changes whenever the content of the building storage might have changed.
+     *
+     * @return the version.
+     */
+    public long getVersion()
+    {
+        refresh();
+        return version;
+    }
+
+    /**
+     * Count the items matching the storage in all racks and chests.
+     *
+     * @param storage the storage to match.
+     * @return the amount.
+     */
+    public int getCount(@NotNull final ItemStorage storage)
+    {
+        refresh();
+
+        int count = 0;
+        if (storage.ignoreDamageValue() || storage.ignoreNBT())
+        {
+            if (rackContent.containsKey(storage))
+            {
+                for (final Map.Entry<ItemStorage, Integer> entry : rackContent.entrySet())
+                {
+                    if (entry.getKey().equals(storage))
+                    {
+                        count += entry.getValue();
+                    }
+                }
+            }
+        }
+        else
+        {
+            count = rackContent.getOrDefault(storage, 0);
+        }
+
+        if (!chests.isEmpty())
+        {
+            count += getChestCount(stack -> ItemStackUtils.compareItemStacksIgnoreStackSize(stack, storage.getItemStack(), !storage.ignoreDamageValue(), !storage.ignoreNBT()));
+        }
+        return count;
+    }
+
+    /**
+     * Count the items matching the predicate in all racks.
+     *
+     * @param predicate the predicate to match.
+     * @return the amount.
+     */
+    public int getRackCount(@NotNull final Predicate<ItemStack> predicate)
+    {
+        refresh();
+
+        int count = 0;
+        for (final Map.Entry<ItemStorage, Integer> entry : rackContent.entrySet())
+        {
+            if (predicate.test(entry.getKey().getItemStack()))
+            {
+                count += entry.getValue();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the aggregated content of all racks.
+     *
+     * @return an unmodifiable view of the content.
+     */
+    public Map<ItemStorage, Integer> getRackContent()
+    {
+        refresh();
+        return Collections.unmodifiableMap(rackContent);
+    }
+
+    /**
+     * Get the aggregated rack content matching a filter, sorted for display. The result is kept until the content, the filter or the sort changes. Display names are in
+     * the language of the server, so filter and sort only use the registry name and the translation key of the items, which are the same for every player.
+     *
+     * @param filter the lower case filter, matched against the registry name and translation key of the items, spaces match underscores, empty for all.
+     * @param sort   the sort, one of the sort constants of {@link com.minecolonies.api.util.constant.WindowConstants}.
+     * @return an unmodifiable list of the matching items, with their total amount.
+     */
+    public List<ItemStorage> query(@NotNull final String filter, final int sort)
+    {
+        final long currentVersion = getVersion();
+        if (currentVersion == lastQueryVersion && sort == lastQuerySort && filter.equals(lastQueryFilter))
+        {
+            return lastQueryResult;
+        }
+
+        final String keyFilter = filter.trim().replace(' ', '_');
+        final List<ItemStorage> result = new ArrayList<>();
+        for (final Map.Entry<ItemStorage, Integer> entry : rackContent.entrySet())
+        {
+            final ItemStack stack = entry.getKey().getItemStack();
+            if (keyFilter.isEmpty()
+                  || getRegistryName(stack).contains(keyFilter)
+                  || stack.getDescriptionId().toLowerCase(Locale.US).contains(keyFilter))
+            {
+                result.add(new ItemStorage(stack, entry.getValue(), entry.getKey().ignoreDamageValue()));
+            }
+        }
+
+        final Comparator<ItemStorage> compareByName = Comparator.comparing((ItemStorage storage) -> getRegistryPath(storage.getItemStack()))
+                                                        .thenComparing(storage -> getRegistryName(storage.getItemStack()));
+        final Comparator<ItemStorage> compareByCount = Comparator.comparingInt(ItemStorage::getAmount).thenComparing(compareByName);
+        switch (sort)
+        {
+            case ASC_SORT -> result.sort(compareByName);
+            case DESC_SORT -> result.sort(compareByName.reversed());
+            case COUNT_ASC_SORT -> result.sort(compareByCount);
+            case COUNT_DESC_SORT -> result.sort(compareByCount.reversed());
+            default -> result.sort(Comparator.comparingInt((ItemStorage storage) -> StringUtils.getLevenshteinDistance(getRegistryPath(storage.getItemStack()), keyFilter))
+                                     .thenComparing(compareByName));
+        }
+
+        lastQueryFilter = filter;
+        lastQuerySort = sort;
+        lastQueryVersion = currentVersion;
+        lastQueryResult = Collections.unmodifiableList(result);
+        return lastQueryResult;
+    }
+
+    /**
+     * Get the registry name of the item of a stack.
+     *
+     * @param stack the stack.
+     * @return the registry name, with namespace.
+     */
+    private static String getRegistryName(final ItemStack stack)
+    {
+        return String.valueOf(ForgeRegistries.ITEMS.getKey(stack.getItem()));
+    }
+
+    /**
+     * Get the path of the registry name of the item of a stack, it orders items the same way regardless of the mod adding them.
+     *
+     * @param stack the stack.
+     * @return the registry path.
+     */
+    private static String getRegistryPath(final ItemStack stack)
+    {
+        final ResourceLocation key = ForgeRegistries.ITEMS.getKey(stack.getItem());
+        return key == null ? "" : key.getPath();
+    }
+
+    /**
+     * Get the amount of free slots in all racks.
+     *
+     * @return the amount.
+     */
+    public int getFreeSlots()
+    {
+        refresh();
+        return freeSlots;
+    }
+
+    /**
+     * Check if the building stores items in vanilla chests.
+     *
+     * @return true if so.
+     */
+    public boolean hasChests()
+    {
+        refresh();
+        return !chests.isEmpty();
+    }
+
+    /**
+     * Count the items matching the predicate in the vanilla chests.
+     *
+     * @param predicate the predicate to match.
+     * @return the amount.
+     */
+    private int getChestCount(final Predicate<ItemStack> predicate)
+    {
+        final Level world = colony.getWorld();
+        int count = 0;
+        for (final BlockPos pos : chests)
+        {
+            if (WorldUtil.isBlockLoaded(world, pos))
+            {
+                final BlockEntity entity = world.getBlockEntity(pos);
+                if (entity instanceof ChestBlockEntity)
+                {
+                    count += InventoryUtils.getItemCountInProvider(entity, predicate);
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Rebuild the cached content if anything changed since the last rebuild.
+     */
+    private void refresh()
+    {
+        final Level world = colony.getWorld();
+        if (world == null)
+        {
+            return;
+        }
+
+        if (!dirty)
+        {
+            // Racks loaded after the last rebuild have not registered with us yet.
+            for (final BlockPos pos : unloaded)
+            {
+                if (WorldUtil.isBlockLoaded(world, pos))
+                {
+                    markDirty();
+                    break;
+                }
+            }
+
+            if (!dirty)
+            {
+                return;
+            }
+        }
+
+        rackContent.clear();
+        chests.clear();
+        unloaded.clear();
+        freeSlots = 0;
+
+        for (final BlockPos pos : building.getContainers())
+        {
+            if (!WorldUtil.isBlockLoaded(world, pos))
+            {
+                unloaded.add(pos);
+                continue;
+            }
+
+            final BlockEntity entity = world.getBlockEntity(pos);
+            if (entity instanceof TileEntityRack rack)
+            {
+                rack.setStorageView(this);
+                for (final Map.Entry<ItemStorage, Integer> entry : rack.getAllContent().entrySet())
+                {
+                    rackContent.merge(entry.getKey(), entry.getValue(), Integer::sum);
+                }
+                freeSlots += rack.getFreeSlots();
+            }
+            else if (entity instanceof ChestBlockEntity)
+            {
+                chests.add(pos);
+            }
+        }
+        dirty = false;
+    }
+}
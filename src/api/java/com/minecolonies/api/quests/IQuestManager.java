@@ -38,6 +38,12 @@ public interface IQuestManager extends INBTSerializable<CompoundTag>
      */
     void onColonyTick();
 
+    /**
+     * Notify the manager of a colony change, the quests depending on it are re-evaluated on the next colony tick.
+     * @param signal the kind of change.
+     */
+    void onSignal(QuestTriggerSignal signal);
+
     /**
      * Deactivate a given quest.
      * @param questID the id of the quest.
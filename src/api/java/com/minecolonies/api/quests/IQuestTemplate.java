@@ -5,6 +5,7 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.entity.player.Player;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Quest Data Instance.
@@ -64,4 +65,10 @@ public interface IQuestTemplate
      * @return the list of parent quests.
      */
     List<ResourceLocation> getParents();
+
+    /**
+     * Get the colony changes the triggers of this quest depend on.
+     * @return the set of signals.
+     */
+    Set<QuestTriggerSignal> getTriggerSignals();
 }
@@ -7,6 +7,9 @@ import com.google.gson.JsonPrimitive;
 import com.minecolonies.api.colony.IColony;
 import net.minecraft.nbt.*;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Quest triggers are used to check if a colony fulfills certain conditions for a quest to be made available.
  */
@@ -18,6 +21,16 @@ public interface IQuestTriggerTemplate
      */
     ITriggerReturnData canTriggerQuest(final IColony colony);
 
+    /**
+     * Get the colony changes the result of this trigger depends on.
+     * Defaults to all signals, so unknown triggers are re-evaluated on every colony tick.
+     * @return the set of signals.
+     */
+    default Set<QuestTriggerSignal> getSignals()
+    {
+        return EnumSet.allOf(QuestTriggerSignal.class);
+    }
+
     /**
      * Match a nbt tag and a json element tag.
      * @param nbtTag the nbt tag to check.
@@ -0,0 +1,28 @@
+package com.minecolonies.api.quests;
+
+/**
+ * The colony changes a quest trigger depends on. A quest is only re-evaluated for a colony once one of the signals of its triggers fired there.
+ */
+public enum QuestTriggerSignal
+{
+    /**
+     * Re-evaluate on every colony tick, for triggers which are not based on colony state (e.g. random chance).
+     */
+    ALWAYS,
+
+    /**
+     * A change to the colony state not covered by the other signals, like research. As not every state change fires it, quests depending on it are also
+     * re-evaluated at a fixed, slow interval.
+     */
+    COLONY_STATE,
+
+    /**
+     * A building was added, removed or changed level.
+     */
+    BUILDINGS,
+
+    /**
+     * A change to the citizens of the colony or their data.
+     */
+    CITIZENS
+}
@@ -0,0 +1,14 @@
+package com.minecolonies.api.tileentities;
+
+/**
+ * Describes what a single cell of a field needs. Cells are unknown until the farmer looked at them and again after a block change in their column.
+ */
+public enum ScarecrowCellState
+{
+    UNKNOWN,
+    NONE,
+    UNTILLED,
+    TILLED,
+    GROWING,
+    MATURE
+}
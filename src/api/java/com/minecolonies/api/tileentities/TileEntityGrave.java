@@ -48,6 +48,11 @@ public class TileEntityGrave extends AbstractTileEntityGrave
      */
     private static final String TAG_GRAVE_DATA = "gravedata";
 
+    /**
+     * The game time the decay timer was last updated at, -1 if not yet.
+     */
+    private long lastDecayUpdate = -1;
+
     public TileEntityGrave(final BlockEntityType<? extends TileEntityGrave> type, final BlockPos pos, final BlockState state)
     {
         super(type, pos, state);
@@ -142,6 +147,7 @@ public class TileEntityGrave extends AbstractTileEntityGrave
 
         decay_timer         = compound.contains(TAG_DECAY_TIMER) ? compound.getInt(TAG_DECAY_TIMER) : DEFAULT_DECAY_TIMER;
         decayed             = compound.contains(TAG_DECAYED) ? compound.getBoolean(TAG_DECAYED) :false;
+        lastDecayUpdate     = compound.contains(TAG_DECAY_UPDATE) ? compound.getLong(TAG_DECAY_UPDATE) : -1;
 
         if (compound.getAllKeys().contains(TAG_GRAVE_DATA))
         {
@@ -158,6 +164,7 @@ public class TileEntityGrave extends AbstractTileEntityGrave
 
         compound.putInt(TAG_DECAY_TIMER, decay_timer);
         compound.putBoolean(TAG_DECAYED, decayed);
+        compound.putLong(TAG_DECAY_UPDATE, lastDecayUpdate);
 
         if(graveData != null)
         {
@@ -228,23 +235,54 @@ public class TileEntityGrave extends AbstractTileEntityGrave
         if (this.hasLevel() && !level.isClientSide && decay_timer != -1)
         {
             decay_timer -= delay;
+            if (decay_timer <= 0 && !decayed)
+            {
+                decayed = true;
+                decay_timer += DEFAULT_DECAY_TIMER;
+                updateBlockState();
+            }
+
             if (decay_timer <= 0)
             {
-                if (!decayed)
-                {
-                    decayed = true;
-                    decay_timer = DEFAULT_DECAY_TIMER;
-                    updateBlockState();
-                }
-                else
-                {
-                    InventoryUtils.dropItemHandler(inventory, level, this.worldPosition.getX(), this.worldPosition.getY(), this.worldPosition.getZ());
-                    level.setBlockAndUpdate(this.worldPosition, Blocks.AIR.defaultBlockState());
-                    return false;
-                }
+                InventoryUtils.dropItemHandler(inventory, level, this.worldPosition.getX(), this.worldPosition.getY(), this.worldPosition.getZ());
+                level.setBlockAndUpdate(this.worldPosition, Blocks.AIR.defaultBlockState());
+                return false;
             }
         }
 
         return true;
     }
+
+    /**
+     * Catch up the decay with the game time passed since the last update, this may decay or remove the grave.
+     *
+     * @return true if the grave still exist, false otherwise
+     */
+    public boolean updateDecay()
+    {
+        if (!this.hasLevel() || level.isClientSide)
+        {
+            return true;
+        }
+
+        final long gameTime = level.getGameTime();
+        final long elapsed = lastDecayUpdate < 0 ? 0 : Math.max(0, gameTime - lastDecayUpdate);
+        lastDecayUpdate = gameTime;
+        setChanged();
+        return onColonyTick(Math.min(elapsed, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Get the game time at which the grave reaches its next decay stage.
+     *
+     * @return the game time, or Long.MAX_VALUE if the grave does not decay.
+     */
+    public long getDecayGameTime()
+    {
+        if (decay_timer == -1 || !this.hasLevel())
+        {
+            return Long.MAX_VALUE;
+        }
+        return (lastDecayUpdate < 0 ? level.getGameTime() : lastDecayUpdate) + decay_timer;
+    }
 }
@@ -5,6 +5,7 @@ import com.minecolonies.api.blocks.ModBlocks;
 import com.minecolonies.api.blocks.types.RackType;
 import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.inventory.BuildingStorageView;
 import com.minecolonies.api.inventory.api.CombinedItemHandler;
 import com.minecolonies.api.inventory.container.ContainerRack;
 import com.minecolonies.api.util.BlockPosUtil;
@@ -76,6 +77,12 @@ public class TileEntityRack extends AbstractTileEntityRack
      */
     private LazyOptional<IItemHandler> lastOptional;
 
+    /**
+     * The storage view of the building this rack belongs to, notified on content changes.
+     */
+    @Nullable
+    private BuildingStorageView storageView;
+
     /**
      * Create a new rack.
      * @param type the specific block entity type.
@@ -276,11 +283,33 @@ public class TileEntityRack extends AbstractTileEntityRack
         }
     }
 
+    /**
+     * Set the storage view to notify when the content changes.
+     *
+     * @param storageView the view.
+     */
+    public void setStorageView(@Nullable final BuildingStorageView storageView)
+    {
+        this.storageView = storageView;
+    }
+
+    /**
+     * Notify the storage view of a change, if any.
+     */
+    private void notifyStorageView()
+    {
+        if (storageView != null)
+        {
+            storageView.markDirty();
+        }
+    }
+
     /**
      * Just do the content update.
      */
     private void updateContent()
     {
+        notifyStorageView();
         content.clear();
         freeSlots = 0;
         for (int slot = 0; slot < inventory.getSlots(); slot++)
@@ -532,6 +561,8 @@ public class TileEntityRack extends AbstractTileEntityRack
     {
         super.setRemoved();
         invalidateCap();
+        notifyStorageView();
+        storageView = null;
     }
 
     /**
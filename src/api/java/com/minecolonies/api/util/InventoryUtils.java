@@ -16,7 +16,6 @@ import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.food.FoodProperties;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.level.block.entity.ChestBlockEntity;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.core.Direction;
 import net.minecraft.core.BlockPos;
@@ -731,31 +730,8 @@ public class InventoryUtils
      */
     public static int hasBuildingEnoughElseCount(@NotNull final IBuilding provider, @NotNull final ItemStorage stack, final int count)
     {
-        int totalCount = 0;
-        final Level world = provider.getColony().getWorld();
-
-        for (final BlockPos pos : provider.getContainers())
-        {
-            if (WorldUtil.isBlockLoaded(world, pos))
-            {
-                final BlockEntity entity = world.getBlockEntity(pos);
-                if (entity instanceof TileEntityRack)
-                {
-                    totalCount += ((TileEntityRack) entity).getCount(stack);
-                }
-                else if (entity instanceof ChestBlockEntity)
-                {
-                    totalCount += getItemCountInProvider(entity, itemStack -> ItemStackUtils.compareItemStacksIgnoreStackSize(itemStack, stack.getItemStack(), !stack.ignoreDamageValue(), !stack.ignoreNBT() ));
-                }
-
-                if (totalCount > count)
-                {
-                    return Integer.MAX_VALUE;
-                }
-            }
-        }
-
-        return totalCount;
+        final int totalCount = provider.getStorageView().getCount(stack);
+        return totalCount > count ? Integer.MAX_VALUE : totalCount;
     }
 
     /**
@@ -767,27 +743,7 @@ public class InventoryUtils
      */
     public static int hasBuildingEnoughElseCount(@NotNull final IBuilding provider, @NotNull final Predicate<ItemStack> stack, final int count)
     {
-        int totalCount = 0;
-        final Level world = provider.getColony().getWorld();
-
-        for (final BlockPos pos : provider.getContainers())
-        {
-            if (WorldUtil.isBlockLoaded(world, pos))
-            {
-                final BlockEntity entity = world.getBlockEntity(pos);
-                if (entity instanceof TileEntityRack)
-                {
-                    totalCount += ((TileEntityRack) entity).getItemCount(stack);
-                }
-
-                if (totalCount > count)
-                {
-                    return totalCount;
-                }
-            }
-        }
-
-        return totalCount;
+        return provider.getStorageView().getRackCount(stack);
     }
 
     /**
@@ -818,26 +774,7 @@ public class InventoryUtils
      */
     public static int getCountFromBuilding(@NotNull final IBuilding provider, @NotNull final ItemStorage stack)
     {
-        int totalCount = 0;
-        final Level world = provider.getColony().getWorld();
-
-        for (final BlockPos pos : provider.getContainers())
-        {
-            if (WorldUtil.isBlockLoaded(world, pos))
-            {
-                final BlockEntity entity = world.getBlockEntity(pos);
-                if (entity instanceof TileEntityRack)
-                {
-                    totalCount += ((TileEntityRack) entity).getCount(stack);
-                }
-                else if (entity instanceof ChestBlockEntity)
-                {
-                    totalCount += getItemCountInProvider(entity, itemStack -> ItemStackUtils.compareItemStacksIgnoreStackSize(itemStack, stack.getItemStack()));
-                }
-            }
-        }
-
-        return totalCount;
+        return provider.getStorageView().getCount(stack);
     }
 
     /**
@@ -847,22 +784,7 @@ public class InventoryUtils
      */
     public static int countEmptySlotsInBuilding(final IBuilding ownBuilding)
     {
-        int totalCount = 0;
-        final Level world = ownBuilding.getColony().getWorld();
-
-        for (final BlockPos pos : ownBuilding.getContainers())
-        {
-            if (WorldUtil.isBlockLoaded(world, pos))
-            {
-                final BlockEntity entity = world.getBlockEntity(pos);
-                if (entity instanceof TileEntityRack)
-                {
-                    totalCount += ((TileEntityRack) entity).getFreeSlots();
-                }
-            }
-        }
-
-        return totalCount;
+        return ownBuilding.getStorageView().getFreeSlots();
     }
 
     /**
@@ -874,22 +796,7 @@ public class InventoryUtils
      */
     public static int getCountFromBuilding(@NotNull final IBuilding provider, @NotNull final Predicate<ItemStack> predicate)
     {
-        int totalCount = 0;
-        final Level world = provider.getColony().getWorld();
-
-        for (final BlockPos pos : provider.getContainers())
-        {
-            if (WorldUtil.isBlockLoaded(world, pos))
-            {
-                final BlockEntity entity = world.getBlockEntity(pos);
-                if (entity instanceof TileEntityRack)
-                {
-                    totalCount += ((TileEntityRack) entity).getItemCount(predicate);
-                }
-            }
-        }
-
-        return totalCount;
+        return provider.getStorageView().getRackCount(predicate);
     }
 
     /**
@@ -902,34 +809,15 @@ public class InventoryUtils
      */
     public static int getCountFromBuildingWithLimit(@NotNull final IBuilding provider, @NotNull final Predicate<ItemStack> predicate, final Function<ItemStack, Integer> limit)
     {
-        final Level world = provider.getColony().getWorld();
-
-        final Map<ItemStorage, Integer> allMatching = new HashMap<>();
-
-        for (final BlockPos pos : provider.getContainers())
+        int totalCount = 0;
+        for (final Map.Entry<ItemStorage, Integer> entry : provider.getStorageView().getRackContent().entrySet())
         {
-            if (WorldUtil.isBlockLoaded(world, pos))
+            if (predicate.test(entry.getKey().getItemStack()))
             {
-                final BlockEntity entity = world.getBlockEntity(pos);
-                if (entity instanceof TileEntityRack)
-                {
-                    for (final Map.Entry<ItemStorage, Integer> entry : ((TileEntityRack) entity).getAllContent().entrySet())
-                    {
-                        if (predicate.test(entry.getKey().getItemStack()))
-                        {
-                            allMatching.put(entry.getKey(), allMatching.getOrDefault(entry.getKey(), 0) + entry.getValue());
-                        }
-                    }
-                }
+                totalCount += Math.min(limit.apply(entry.getKey().getItemStack()), entry.getValue());
             }
         }
 
-        int totalCount = 0;
-        for (final Map.Entry<ItemStorage, Integer> entry : allMatching.entrySet())
-        {
-            totalCount += Math.min(limit.apply(entry.getKey().getItemStack()), entry.getValue());
-        }
-
         return totalCount;
     }
 
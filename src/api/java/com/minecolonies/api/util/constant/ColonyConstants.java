@@ -50,6 +50,10 @@ public final class ColonyConstants
      * How often the colony updates day/nighttime in ticks.
      */
     public static final int UPDATE_DAYTIME_INTERVAL = 20;
+    /**
+     * How often the guard threat map gets refreshed in ticks.
+     */
+    public static final int UPDATE_THREAT_MAP_INTERVAL = 10;
 
     /**
      * Max amount of permission/colony events to store in the colony.
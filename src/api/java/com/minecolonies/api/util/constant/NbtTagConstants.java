@@ -671,6 +671,8 @@ public final class NbtTagConstants
      */
     public static final String TAG_DECAY_TIMER = "decaytimer";
     public static final String TAG_DECAYED = "decayed";
+    public static final String TAG_DECAY_UPDATE = "decayupdate";
+    public static final String TAG_DECAY_EXPIRY = "decayexpiry";
 
     /**
      * Tags/JSON names for storing item informations
@@ -0,0 +1,92 @@
+package com.minecolonies.coremod.client.gui;
+
+import com.minecolonies.api.crafting.ItemStorage;
+
+import java.util.List;
+
+/**
+ * Routes the answers of building storage queries to the window waiting for them. Only one window waits at a time, answers to older queries are dropped.
+ */
+public final class BuildingStorageQueries
+{
+    /**
+     * Receives the answer of a query.
+     */
+    @FunctionalInterface
+    public interface Listener
+    {
+        /**
+         * Called with a page of the query result.
+         *
+         * @param total   the total amount of entries of the query.
+         * @param offset  the index of the first entry of the page.
+         * @param entries the entries of the page, with their amount.
+         */
+        void onResult(int total, int offset, List<ItemStorage> entries);
+    }
+
+    /**
+     * The last query id handed out.
+     */
+    private static int lastQueryId = 0;
+
+    /**
+     * The query waited for.
+     */
+    private static int currentQueryId = -1;
+
+    /**
+     * The listener of the current query.
+     */
+    private static Listener currentListener = null;
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private BuildingStorageQueries()
+    {
+    }
+
+    /**
+     * Start a new query, answers to previous ones are dropped from now on.
+     *
+     * @param listener the listener for the answers.
+     * @return the id to send with the query.
+     */
+    public static int start(final Listener listener)
+    {
+        currentQueryId = ++lastQueryId;
+        currentListener = listener;
+        return currentQueryId;
+    }
+
+    /**
+     * Stop listening, when the window closes.
+     *
+     * @param listener the listener to remove.
+     */
+    public static void stop(final Listener listener)
+    {
+        if (currentListener == listener)
+        {
+            currentListener = null;
+            currentQueryId = -1;
+        }
+    }
+
+    /**
+     * An answer arrived.
+     *
+     * @param queryId the id of the query.
+     * @param total   the total amount of entries of the query.
+     * @param offset  the index of the first entry of the page.
+     * @param entries the entries of the page.
+     */
+    public static void onResult(final int queryId, final int total, final int offset, final List<ItemStorage> entries)
+    {
+        if (queryId == currentQueryId && currentListener != null)
+        {
+            currentListener.onResult(total, offset, entries);
+        }
+    }
+}
@@ -6,29 +6,29 @@ import com.ldtteam.blockui.views.ScrollingList;
 import com.ldtteam.blockui.views.BOWindow;
 import com.minecolonies.api.colony.buildings.views.IBuildingView;
 import com.minecolonies.api.crafting.ItemStorage;
-import com.minecolonies.api.tileentities.TileEntityRack;
 import com.minecolonies.api.util.MessageUtils;
 import com.minecolonies.api.util.Utils;
 import com.minecolonies.api.util.constant.Constants;
+import com.minecolonies.coremod.Network;
 import com.minecolonies.coremod.client.render.worldevent.HighlightManager;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
+import com.minecolonies.coremod.network.messages.server.colony.building.LocateBuildingStorageMessage;
+import com.minecolonies.coremod.network.messages.server.colony.building.QueryBuildingStorageMessage;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
 
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.item.TooltipFlag;
-import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.Component;
 import net.minecraft.util.Mth;
-import net.minecraft.world.level.Level;
-import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.constant.TranslationConstants.MESSAGE_LOCATING_ITEMS;
 import static com.minecolonies.api.util.constant.WindowConstants.*;
@@ -40,9 +40,34 @@ public class WindowHutAllInventory extends AbstractWindowSkeleton
 {
 
     /**
-     * List of all item stacks in the warehouse.
+     * Amount of entries requested per page.
      */
-    List<ItemStorage> allItems = new ArrayList<>();
+    private static final int PAGE_SIZE = 64;
+
+    /**
+     * The loaded entries of the current query, by index.
+     */
+    private final Int2ObjectMap<ItemStorage> allItems = new Int2ObjectOpenHashMap<>();
+
+    /**
+     * The pages of the current query which were requested already.
+     */
+    private final IntSet requestedPages = new IntOpenHashSet();
+
+    /**
+     * Total amount of entries of the current query.
+     */
+    private int totalItems = 0;
+
+    /**
+     * Id of the current query.
+     */
+    private int queryId;
+
+    /**
+     * Receives the pages of the current query.
+     */
+    private final BuildingStorageQueries.Listener queryListener = this::onPage;
 
     /**
      * Resource scrolling list.
@@ -115,32 +140,44 @@ public class WindowHutAllInventory extends AbstractWindowSkeleton
     {
         final int row = stackList.getListElementIndexByPane(button);
         final ItemStorage storage = allItems.get(row);
-        final Set<BlockPos> containerList = new HashSet<>(building.getContainerList());
-        containerList.add(building.getID());
+        if (storage == null)
+        {
+            return;
+        }
         HighlightManager.clearCategory("inventoryHighlight");
 
         MessageUtils.format(MESSAGE_LOCATING_ITEMS).sendTo(Minecraft.getInstance().player);
         close();
 
-        for (BlockPos blockPos : containerList)
+        // The racks are looked up on the server, the client copy of the racks is not read.
+        Network.getNetwork().sendToServer(new LocateBuildingStorageMessage(building, storage));
+    }
+
+    /**
+     * Highlight the racks storing the located item.
+     *
+     * @param locations the amount stored, by rack position.
+     */
+    public static void highlightLocations(final Map<BlockPos, Integer> locations)
+    {
+        if (Minecraft.getInstance().level == null)
         {
-            final BlockEntity rack = Minecraft.getInstance().level.getBlockEntity(blockPos);
-            if (rack instanceof TileEntityRack)
-            {
-                int count = ((TileEntityRack) rack).getCount(storage.getItemStack(), storage.ignoreDamageValue(), false);
-                if (count > 0)
-                {
-                    // Varies the color between red(1 pc) over yellow(32 pcs) to green(64+ pcs)
-                    // mixing equation: alpha | red part | green part 
-                    final int color = 0x40000000 | (Mth.clamp((int) (0xff * (2.0f - count / 32.0f)), 0, 255) << 16)
-                        | (Mth.clamp((int) (0xff * count / 32.0f), 0, 255) << 8);
-                    HighlightManager.addRenderBox("inventoryHighlight",
-                      new HighlightManager.TimedBoxRenderData().setPos(blockPos)
-                        .setRemovalTimePoint(Minecraft.getInstance().level.getGameTime() + 60 * 20)
-                        .addText("" + count)
-                        .setColor(color));
-                }
-            }
+            return;
+        }
+
+        HighlightManager.clearCategory("inventoryHighlight");
+        for (final Map.Entry<BlockPos, Integer> entry : locations.entrySet())
+        {
+            final int count = entry.getValue();
+            // Varies the color between red(1 pc) over yellow(32 pcs) to green(64+ pcs)
+            // mixing equation: alpha | red part | green part 
+            final int color = 0x40000000 | (Mth.clamp((int) (0xff * (2.0f - count / 32.0f)), 0, 255) << 16)
+                | (Mth.clamp((int) (0xff * count / 32.0f), 0, 255) << 8);
+            HighlightManager.addRenderBox("inventoryHighlight",
+              new HighlightManager.TimedBoxRenderData().setPos(entry.getKey())
+                .setRemovalTimePoint(Minecraft.getInstance().level.getGameTime() + 60 * 20)
+                .addText("" + count)
+                .setColor(color));
         }
     }
 
@@ -189,97 +226,60 @@ public class WindowHutAllInventory extends AbstractWindowSkeleton
     }
 
     /**
-     * Update the item list.
+     * Update the item list, the content is aggregated, filtered and sorted on the server and loaded page by page.
      */
     private void updateResources()
     {
-        final Set<BlockPos> containerList = new HashSet<>(building.getContainerList());
-
-        final Map<ItemStorage, Integer> storedItems = new HashMap<>();
-        final Level world = building.getColony().getWorld();
-        containerList.add(building.getPosition());
+        allItems.clear();
+        requestedPages.clear();
+        queryId = BuildingStorageQueries.start(queryListener);
+        requestPage(0);
+        updateResourceList();
+    }
 
-        for (final BlockPos blockPos : containerList)
+    /**
+     * Request a page of the current query, unless it was requested already.
+     *
+     * @param page the page.
+     */
+    private void requestPage(final int page)
+    {
+        if (requestedPages.add(page))
         {
-            final BlockEntity rack = world.getBlockEntity(blockPos);
-            if (rack instanceof TileEntityRack)
-            {
-                final Map<ItemStorage, Integer> rackStorage = ((TileEntityRack) rack).getAllContent();
-
-                for (final Map.Entry<ItemStorage, Integer> entry : rackStorage.entrySet())
-                {
-                    if (storedItems.containsKey(entry.getKey()))
-                    {
-                        storedItems.put(entry.getKey(), storedItems.get(entry.getKey()) + entry.getValue());
-                    }
-                    else
-                    {
-                        storedItems.put(entry.getKey(), entry.getValue());
-                    }
-                }
-            }
+            Network.getNetwork().sendToServer(new QueryBuildingStorageMessage(building, queryId, filter, sortDescriptor, page * PAGE_SIZE, PAGE_SIZE));
         }
+    }
 
-        final List<ItemStorage> filterItems = new ArrayList<>();
-        storedItems.forEach((storage, amount) -> {
-            storage.setAmount(amount);
-            filterItems.add(storage);
-        });
-        final Predicate<ItemStorage> filterPredicate = stack -> filter.isEmpty()
-                                                                  || stack.getItemStack().getDescriptionId().toLowerCase(Locale.US).contains(filter.toLowerCase(Locale.US))
-                                                                  || getString(stack.getItemStack())
-                                                                       .toLowerCase(Locale.US)
-                                                                       .contains(filter.toLowerCase(Locale.US));
-
-        allItems.clear();
-        if (filter.isEmpty())
-        {
-            allItems.addAll(filterItems);
-        }
-        else
+    /**
+     * A page of the current query arrived.
+     *
+     * @param total   the total amount of entries.
+     * @param offset  the index of the first entry of the page.
+     * @param entries the entries of the page.
+     */
+    private void onPage(final int total, final int offset, final List<ItemStorage> entries)
+    {
+        if (total != totalItems)
         {
-            allItems.addAll(filterItems.stream().filter(filterPredicate).collect(Collectors.toList()));
+            // The content changed in between, the loaded pages might be shifted.
+            allItems.clear();
+            requestedPages.clear();
+            requestedPages.add(offset / PAGE_SIZE);
+            totalItems = total;
         }
-        allItems.sort(Comparator.comparingInt(s1 -> StringUtils.getLevenshteinDistance(s1.getItemStack().getHoverName().getString(), filter)));
 
-        final Comparator<ItemStorage> compareByName = Comparator.comparing((ItemStorage o) -> o.getItemStack().getHoverName().getString());
-        final Comparator<ItemStorage> compareByCount = Comparator.comparingInt(ItemStorage::getAmount);
-        switch (sortDescriptor)
+        for (int i = 0; i < entries.size(); i++)
         {
-            case NO_SORT:
-                break;
-            case ASC_SORT:
-                allItems.sort(compareByName);
-                break;
-            case DESC_SORT:
-                allItems.sort(compareByName.reversed());
-                break;
-            case COUNT_ASC_SORT:
-                allItems.sort(compareByCount);
-                break;
-            case COUNT_DESC_SORT:
-                allItems.sort(compareByCount.reversed());
-                break;
-            default:
-                break;
+            allItems.put(offset + i, entries.get(i));
         }
-
-        updateResourceList();
+        stackList.refreshElementPanes();
     }
 
-    /**
-     * Get identifying string from itemstack.
-     * @param stack the stack to gen the string from.
-     * @return a single string.
-     */
-    private static String getString(final ItemStack stack)
+    @Override
+    public void onClosed()
     {
-        final StringBuilder output = new StringBuilder();
-        for (final Component comp : stack.getTooltipLines(Minecraft.getInstance().player, TooltipFlag.Default.NORMAL))
-        {
-            output.append(comp.getString()).append(" ");
-        }
-        return output.toString();
+        super.onClosed();
+        BuildingStorageQueries.stop(queryListener);
     }
 
     /**
@@ -299,7 +299,7 @@ public class WindowHutAllInventory extends AbstractWindowSkeleton
             @Override
             public int getElementCount()
             {
-                return allItems.size();
+                return totalItems;
             }
 
             /**
@@ -312,6 +312,16 @@ public class WindowHutAllInventory extends AbstractWindowSkeleton
             {
                 final ItemStorage resource = allItems.get(index);
                 final Text resourceLabel = rowPane.findPaneOfTypeByID("ressourceStackName", Text.class);
+                if (resource == null)
+                {
+                    // Not loaded yet, shown once the page arrives.
+                    requestPage(index / PAGE_SIZE);
+                    resourceLabel.clearText();
+                    rowPane.findPaneOfTypeByID("quantities", Text.class).clearText();
+                    rowPane.findPaneOfTypeByID(RESOURCE_ICON, ItemIcon.class).setItem(ItemStack.EMPTY);
+                    return;
+                }
+
                 final String name = resource.getItemStack().getHoverName().getString();
                 resourceLabel.setText(Component.literal(name.substring(0, Math.min(17, name.length()))));
                 final Text qtys = rowPane.findPaneOfTypeByID("quantities", Text.class);
@@ -14,7 +14,7 @@ import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.requestable.deliveryman.Delivery;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.colony.workorders.IWorkOrderView;
-import com.minecolonies.api.tileentities.TileEntityRack;
+import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.MessageUtils;
@@ -25,6 +25,7 @@ import com.minecolonies.coremod.colony.buildings.utils.BuildingBuilderResource;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingBuilder;
 import com.minecolonies.coremod.network.messages.server.ResourceScrollSaveWarehouseSnapshotMessage;
 import com.minecolonies.coremod.network.messages.server.colony.building.MarkBuildingDirtyMessage;
+import com.minecolonies.coremod.network.messages.server.colony.building.QueryBuildingStorageMessage;
 import net.minecraft.client.Minecraft;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
@@ -32,7 +33,6 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -95,6 +95,11 @@ public class WindowResourceList extends AbstractWindowSkeleton
     @NotNull
     private Map<String, Integer> warehouseSnapshot;
 
+    /**
+     * Receives the amounts of the required resources in the warehouse.
+     */
+    private final BuildingStorageQueries.Listener warehouseQueryListener = this::onWarehouseResult;
+
     /**
      * Constructor for the resource scroll window.
      *
@@ -133,7 +138,7 @@ public class WindowResourceList extends AbstractWindowSkeleton
     }
 
     /**
-     * Checks the resources in the warehouse to check for any resources required by the builder,
+     * Queries the warehouse for the resources required by the builder,
      * only does anything when the warehouse position is provided.
      */
     private void pullResourcesFromWarehouse()
@@ -145,39 +150,61 @@ public class WindowResourceList extends AbstractWindowSkeleton
             warehouseSnapshot = new HashMap<>();
         }
 
-        if (warehousePos != null)
+        final IBuildingView warehouse = warehousePos == null ? null : builder.getColony().getBuilding(warehousePos);
+        final IBuildingView newView = builder.getColony().getBuilding(builder.getID());
+        if (warehouse != null && newView instanceof BuildingBuilder.View)
         {
-            warehouseSnapshot = new HashMap<>();
+            final BuildingResourcesModuleView moduleView = newView.getModuleView(BuildingResourcesModuleView.class);
+            final List<ItemStack> needed = new ArrayList<>();
+            for (final BuildingBuilderResource resource : moduleView.getResources().values())
+            {
+                needed.add(resource.getItemStack());
+            }
 
-            final IBuildingView newView = builder.getColony().getBuilding(builder.getID());
-            if (newView instanceof BuildingBuilder.View)
+            if (!needed.isEmpty())
             {
-                final BuildingResourcesModuleView moduleView = newView.getModuleView(BuildingResourcesModuleView.class);
+                final int queryId = BuildingStorageQueries.start(warehouseQueryListener);
+                Network.getNetwork().sendToServer(new QueryBuildingStorageMessage(warehouse, queryId, needed));
+                return;
+            }
+        }
 
-                List<BlockPos> containers = builder.getColony().getBuilding(warehousePos).getContainerList();
-                for (BlockPos container : containers)
-                {
-                    final BlockEntity rack = Minecraft.getInstance().level.getBlockEntity(container);
-                    if (rack instanceof TileEntityRack)
-                    {
-                        ((TileEntityRack) rack).getAllContent()
-                          .forEach((item, amount) -> {
-                              final int hashCode = item.getItemStack().hasTag() ? item.getItemStack().getTag().hashCode() : 0;
-                              final String key = item.getItemStack().getDescriptionId() + "-" + hashCode;
-                              if (!moduleView.getResources().containsKey(key))
-                              {
-                                  return;
-                              }
-
-                              int oldAmount = warehouseSnapshot.getOrDefault(key, 0);
-                              warehouseSnapshot.put(key, oldAmount + amount);
-                          });
-                    }
-                }
+        saveWarehouseSnapshotData();
+    }
+
+    /**
+     * The warehouse answered with the amounts of the required resources.
+     *
+     * @param total   the amount of entries.
+     * @param offset  always 0 for this query.
+     * @param entries the resources with their amount in the warehouse.
+     */
+    private void onWarehouseResult(final int total, final int offset, final List<ItemStorage> entries)
+    {
+        warehouseSnapshot = new HashMap<>();
+        for (final ItemStorage entry : entries)
+        {
+            if (entry.getAmount() > 0)
+            {
+                final int hashCode = entry.getItemStack().hasTag() ? entry.getItemStack().getTag().hashCode() : 0;
+                warehouseSnapshot.merge(entry.getItemStack().getDescriptionId() + "-" + hashCode, entry.getAmount(), Integer::sum);
             }
         }
 
         saveWarehouseSnapshotData();
+
+        final ScrollingList resourceList = findPaneOfTypeByID(LIST_RESOURCES, ScrollingList.class);
+        if (resourceList != null)
+        {
+            resourceList.refreshElementPanes();
+        }
+    }
+
+    @Override
+    public void onClosed()
+    {
+        super.onClosed();
+        BuildingStorageQueries.stop(warehouseQueryListener);
     }
 
     /**
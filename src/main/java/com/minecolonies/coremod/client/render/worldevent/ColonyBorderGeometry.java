@@ -0,0 +1,476 @@
+package com.minecolonies.coremod.client.render.worldevent;
+
+import com.ldtteam.structurize.util.WorldRenderMacros;
+import com.minecolonies.api.IMinecoloniesAPI;
+import com.minecolonies.api.colony.IColonyTagCapability;
+import com.minecolonies.api.colony.IColonyView;
+import com.minecolonies.api.util.Log;
+import com.mojang.blaze3d.vertex.BufferBuilder;
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.ChatFormatting;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.chunk.LevelChunk;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import static com.minecolonies.api.colony.IColony.CLOSE_COLONY_CAP;
+
+/**
+ * Client side claim geometry shared by the border renderer and the map overlays. Chunk ownership is maintained incrementally from the claim updates the server sends,
+ * the actual tessellation and polygon building happens on a worker thread and the finished geometry is picked up by the render thread.
+ */
+public final class ColonyBorderGeometry
+{
+    private static final int CHUNK_SIZE        = 16;
+    private static final int CHUNK_HEIGHT      = 256;
+    private static final int PLAYER_CHUNK_STEP = CHUNK_SIZE / 4;
+    private static final int BUFFER_SIZE       = 0x20000;
+
+    /**
+     * Colour of the borders of other colonies if team colours are disabled.
+     */
+    private static final int OTHER_COLONY_COLOUR = 0xFF4646;
+
+    /**
+     * Colour of the borders of the own colony if team colours are disabled.
+     */
+    private static final int OWN_COLONY_COLOUR = 0xFFFFFF;
+
+    /**
+     * The worker thread building the geometry.
+     */
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(runnable ->
+    {
+        final Thread thread = new Thread(runnable, "Minecolonies Border Geometry Worker");
+        thread.setDaemon(true);
+        thread.setUncaughtExceptionHandler((thread1, throwable) -> Log.getLogger().error("Minecolonies Border Geometry Worker errored! ", throwable));
+        return thread;
+    });
+
+    /**
+     * Owning colony of every loaded and claimed chunk of the client level. Only accessed from the client thread.
+     */
+    private static final Long2IntMap owners = new Long2IntOpenHashMap();
+
+    /**
+     * The level the owners belong to.
+     */
+    @Nullable
+    private static Level ownersLevel = null;
+
+    /**
+     * Increased on every ownership change.
+     */
+    private static int version = 0;
+
+    /**
+     * Builders used by the worker, reused as they hold native memory. A builder is only handed out again once the render thread uploaded its last result.
+     */
+    private static final BufferBuilder coloniesBuilder = new BufferBuilder(BUFFER_SIZE);
+    private static final BufferBuilder ticketsBuilder  = new BufferBuilder(BUFFER_SIZE);
+
+    /**
+     * The border meshes currently being built, or built and not picked up yet.
+     */
+    @Nullable
+    private static CompletableFuture<BorderMeshes> pendingMeshes = null;
+
+    /**
+     * Finished border meshes.
+     *
+     * @param colonies the colony borders, null if empty.
+     * @param tickets  the chunk ticket borders, null if empty.
+     */
+    public record BorderMeshes(@Nullable BufferBuilder.RenderedBuffer colonies, @Nullable BufferBuilder.RenderedBuffer tickets)
+    {
+        /**
+         * Free the meshes without uploading them.
+         */
+        private void release()
+        {
+            if (colonies != null)
+            {
+                colonies.release();
+            }
+            if (tickets != null)
+            {
+                tickets.release();
+            }
+        }
+    }
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private ColonyBorderGeometry()
+    {
+    }
+
+    /**
+     * The claim data of a chunk changed.
+     *
+     * @param chunk the chunk.
+     */
+    public static void onClaimUpdated(final LevelChunk chunk)
+    {
+        checkLevel(chunk.getLevel());
+
+        final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null).resolve().orElse(null);
+        final int owner = cap == null ? 0 : cap.getOwningColony();
+        final long pos = chunk.getPos().toLong();
+        final int previous = owner > 0 ? owners.put(pos, owner) : owners.remove(pos);
+        if (previous != owner)
+        {
+            version++;
+        }
+    }
+
+    /**
+     * A chunk was unloaded.
+     *
+     * @param level the level of the chunk.
+     * @param pos   the chunk pos.
+     */
+    public static void onChunkUnloaded(final LevelAccessor level, final ChunkPos pos)
+    {
+        if (level == ownersLevel && owners.remove(pos.toLong()) != owners.defaultReturnValue())
+        {
+            version++;
+        }
+    }
+
+    /**
+     * Get the ownership version, changes whenever a claim was updated.
+     *
+     * @return the version.
+     */
+    public static int getVersion()
+    {
+        return version;
+    }
+
+    /**
+     * Run some geometry calculation on the worker thread.
+     *
+     * @param task     the task.
+     * @param fallback the result if the task fails.
+     * @param <T>      the result type.
+     * @return the future result.
+     */
+    public static <T> CompletableFuture<T> submit(final Supplier<T> task, final T fallback)
+    {
+        return CompletableFuture.supplyAsync(task, EXECUTOR).exceptionally(throwable ->
+        {
+            Log.getLogger().error("Failed to build colony border geometry", throwable);
+            return fallback;
+        });
+    }
+
+    /**
+     * Request new border meshes around the player. Does nothing if a previous request was not picked up yet.
+     *
+     * @param level          the client level.
+     * @param playerColonyId the colony the player is in.
+     * @param ticketedChunks the ticketed chunks of that colony.
+     * @param playerChunkPos the chunk of the player.
+     * @param renderDist     the chunk distance to draw borders in.
+     * @return true if the request was accepted.
+     */
+    public static boolean requestBorderMeshes(final Level level, final int playerColonyId, final Set<Long> ticketedChunks, final ChunkPos playerChunkPos, final int renderDist)
+    {
+        if (pendingMeshes != null)
+        {
+            return false;
+        }
+        checkLevel(level);
+
+        // Snapshot everything the worker needs, including the neighbours just outside the drawn area.
+        final Long2IntMap colonies = new Long2IntOpenHashMap();
+        final Long2IntMap tickets = new Long2IntOpenHashMap();
+        for (final Long2IntMap.Entry entry : owners.long2IntEntrySet())
+        {
+            if (isInRange(entry.getLongKey(), playerChunkPos, renderDist + 1))
+            {
+                colonies.put(entry.getLongKey(), entry.getIntValue());
+            }
+        }
+        for (final long chunk : ticketedChunks)
+        {
+            if (isInRange(chunk, playerChunkPos, renderDist + 1))
+            {
+                tickets.put(chunk, playerColonyId);
+            }
+        }
+
+        final Int2IntMap colours = new Int2IntOpenHashMap();
+        final boolean useColonyColour = IMinecoloniesAPI.getInstance().getConfig().getClient().colonyteamborders.get();
+        colours.put(playerColonyId, getColour(level, playerColonyId, playerColonyId, useColonyColour));
+        for (final int colonyId : colonies.values())
+        {
+            if (!colours.containsKey(colonyId))
+            {
+                colours.put(colonyId, getColour(level, colonyId, playerColonyId, useColonyColour));
+            }
+        }
+
+        pendingMeshes = submit(() -> new BorderMeshes(
+          tessellate(coloniesBuilder, colonies, playerColonyId, playerChunkPos, renderDist, colours),
+          tessellate(ticketsBuilder, tickets, playerColonyId, playerChunkPos, renderDist, colours)), new BorderMeshes(null, null));
+        return true;
+    }
+
+    /**
+     * Get the border meshes once they are finished. The caller has to upload them, which also frees the builders for the next request.
+     *
+     * @return the meshes or null if not finished or not requested.
+     */
+    @Nullable
+    public static BorderMeshes pollBorderMeshes()
+    {
+        if (pendingMeshes == null || !pendingMeshes.isDone())
+        {
+            return null;
+        }
+
+        final BorderMeshes meshes = pendingMeshes.join();
+        pendingMeshes = null;
+        return meshes;
+    }
+
+    /**
+     * Cleanup on logout.
+     */
+    public static void cleanup()
+    {
+        if (pendingMeshes != null)
+        {
+            pendingMeshes.join().release();
+            pendingMeshes = null;
+        }
+        owners.clear();
+        ownersLevel = null;
+        version++;
+    }
+
+    /**
+     * Drop the ownership data if the client switched levels.
+     *
+     * @param level the current level.
+     */
+    private static void checkLevel(final Level level)
+    {
+        if (level != ownersLevel)
+        {
+            owners.clear();
+            ownersLevel = level;
+            version++;
+        }
+    }
+
+    /**
+     * Check if a chunk is within a distance of the player chunk.
+     *
+     * @param chunk          the chunk as long.
+     * @param playerChunkPos the player chunk.
+     * @param distance       the distance.
+     * @return true if so.
+     */
+    private static boolean isInRange(final long chunk, final ChunkPos playerChunkPos, final int distance)
+    {
+        return Math.abs(ChunkPos.getX(chunk) - playerChunkPos.x) <= distance && Math.abs(ChunkPos.getZ(chunk) - playerChunkPos.z) <= distance;
+    }
+
+    /**
+     * Get the border colour of a colony.
+     *
+     * @param level           the client level.
+     * @param colonyId        the colony.
+     * @param playerColonyId  the colony the player is in.
+     * @param useColonyColour if team colours should be used.
+     * @return the rgb colour.
+     */
+    private static int getColour(final Level level, final int colonyId, final int playerColonyId, final boolean useColonyColour)
+    {
+        if (useColonyColour)
+        {
+            final IColonyView colony = IMinecoloniesAPI.getInstance().getColonyManager().getColonyView(colonyId, level.dimension());
+            final ChatFormatting team = colony != null ? colony.getTeamColonyColor()
+                    : colonyId == playerColonyId ? ChatFormatting.WHITE : ChatFormatting.RED;
+            //noinspection ConstantConditions
+            return team.getColor();
+        }
+        return colonyId == playerColonyId ? OWN_COLONY_COLOUR : OTHER_COLONY_COLOUR;
+    }
+
+    /**
+     * Tessellate the border lines of the given chunks. Runs on the worker thread.
+     *
+     * @param bufferbuilder  the builder to use.
+     * @param mapToDraw      the owning colony per chunk.
+     * @param playerColonyId the colony the player is in.
+     * @param playerChunkPos the chunk of the player.
+     * @param renderDist     the chunk distance to draw borders in.
+     * @param colours        the colour per colony.
+     * @return the mesh or null if empty.
+     */
+    @Nullable
+    private static BufferBuilder.RenderedBuffer tessellate(
+      final BufferBuilder bufferbuilder,
+      final Long2IntMap mapToDraw,
+      final int playerColonyId,
+      final ChunkPos playerChunkPos,
+      final int renderDist,
+      final Int2IntMap colours)
+    {
+        mapToDraw.defaultReturnValue(-1);
+
+        bufferbuilder.begin(WorldRenderMacros.LINES.mode(), WorldRenderMacros.LINES.format());
+        for (final Long2IntMap.Entry entry : mapToDraw.long2IntEntrySet())
+        {
+            final int chunkX = ChunkPos.getX(entry.getLongKey());
+            final int chunkZ = ChunkPos.getZ(entry.getLongKey());
+            final int colonyId = entry.getIntValue();
+            if (colonyId == 0 || chunkX <= playerChunkPos.x - renderDist || chunkX >= playerChunkPos.x + renderDist
+                || chunkZ <= playerChunkPos.z - renderDist || chunkZ >= playerChunkPos.z + renderDist)
+            {
+                continue;
+            }
+
+            final boolean isPlayerChunkX = colonyId == playerColonyId && chunkX == playerChunkPos.x;
+            final boolean isPlayerChunkZ = colonyId == playerColonyId && chunkZ == playerChunkPos.z;
+            final float minX = chunkX * CHUNK_SIZE;
+            final float maxX = minX + CHUNK_SIZE;
+            final float minZ = chunkZ * CHUNK_SIZE;
+            final float maxZ = minZ + CHUNK_SIZE;
+
+            final int colour = colours.get(colonyId);
+            bufferbuilder.defaultColor((colour >> 16) & 0xFF, (colour >> 8) & 0xFF, colour & 0xFF, 255);
+
+            final boolean north = mapToDraw.get(ChunkPos.asLong(chunkX, chunkZ - 1)) != colonyId;
+            final boolean south = mapToDraw.get(ChunkPos.asLong(chunkX, chunkZ + 1)) != colonyId;
+            final boolean east = mapToDraw.get(ChunkPos.asLong(chunkX + 1, chunkZ)) != colonyId;
+            final boolean west = mapToDraw.get(ChunkPos.asLong(chunkX - 1, chunkZ)) != colonyId;
+
+            // vert lines
+            if (north || west)
+            {
+                bufferbuilder.vertex(minX, 0, minZ).endVertex();
+                bufferbuilder.vertex(minX, CHUNK_HEIGHT, minZ).endVertex();
+            }
+            if (north || east)
+            {
+                bufferbuilder.vertex(maxX, 0, minZ).endVertex();
+                bufferbuilder.vertex(maxX, CHUNK_HEIGHT, minZ).endVertex();
+            }
+            if (south || west)
+            {
+                bufferbuilder.vertex(minX, 0, maxZ).endVertex();
+                bufferbuilder.vertex(minX, CHUNK_HEIGHT, maxZ).endVertex();
+            }
+            if (south || east)
+            {
+                bufferbuilder.vertex(maxX, 0, maxZ).endVertex();
+                bufferbuilder.vertex(maxX, CHUNK_HEIGHT, maxZ).endVertex();
+            }
+
+            // horizontal lines
+            if (north)
+            {
+                drawXWall(bufferbuilder, minX, maxX, minZ, isPlayerChunkX);
+            }
+            if (south)
+            {
+                drawXWall(bufferbuilder, minX, maxX, maxZ, isPlayerChunkX);
+            }
+            if (west)
+            {
+                drawZWall(bufferbuilder, minX, minZ, maxZ, isPlayerChunkZ);
+            }
+            if (east)
+            {
+                drawZWall(bufferbuilder, maxX, minZ, maxZ, isPlayerChunkZ);
+            }
+        }
+
+        bufferbuilder.unsetDefaultColor();
+        return bufferbuilder.endOrDiscardIfEmpty();
+    }
+
+    /**
+     * Draw the lines of a border wall along the x axis.
+     *
+     * @param bufferbuilder the builder.
+     * @param minX          the start of the wall.
+     * @param maxX          the end of the wall.
+     * @param z             the z of the wall.
+     * @param dense         if the player is in this chunk row and the grid should be dense.
+     */
+    private static void drawXWall(final BufferBuilder bufferbuilder, final float minX, final float maxX, final float z, final boolean dense)
+    {
+        if (dense)
+        {
+            for (int shift = PLAYER_CHUNK_STEP; shift < CHUNK_SIZE; shift += PLAYER_CHUNK_STEP)
+            {
+                bufferbuilder.vertex(minX + shift, 0, z).endVertex();
+                bufferbuilder.vertex(minX + shift, CHUNK_HEIGHT, z).endVertex();
+            }
+            for (int y = PLAYER_CHUNK_STEP; y < CHUNK_HEIGHT; y += PLAYER_CHUNK_STEP)
+            {
+                bufferbuilder.vertex(minX, y, z).endVertex();
+                bufferbuilder.vertex(maxX, y, z).endVertex();
+            }
+        }
+        else
+        {
+            for (int y = CHUNK_SIZE; y < CHUNK_HEIGHT; y += CHUNK_SIZE)
+            {
+                bufferbuilder.vertex(minX, y, z).endVertex();
+                bufferbuilder.vertex(maxX, y, z).endVertex();
+            }
+        }
+    }
+
+    /**
+     * Draw the lines of a border wall along the z axis.
+     *
+     * @param bufferbuilder the builder.
+     * @param x             the x of the wall.
+     * @param minZ          the start of the wall.
+     * @param maxZ          the end of the wall.
+     * @param dense         if the player is in this chunk column and the grid should be dense.
+     */
+    private static void drawZWall(final BufferBuilder bufferbuilder, final float x, final float minZ, final float maxZ, final boolean dense)
+    {
+        if (dense)
+        {
+            for (int shift = PLAYER_CHUNK_STEP; shift < CHUNK_SIZE; shift += PLAYER_CHUNK_STEP)
+            {
+                bufferbuilder.vertex(x, 0, minZ + shift).endVertex();
+                bufferbuilder.vertex(x, CHUNK_HEIGHT, minZ + shift).endVertex();
+            }
+            for (int y = PLAYER_CHUNK_STEP; y < CHUNK_HEIGHT; y += PLAYER_CHUNK_STEP)
+            {
+                bufferbuilder.vertex(x, y, minZ).endVertex();
+                bufferbuilder.vertex(x, y, maxZ).endVertex();
+            }
+        }
+        else
+        {
+            for (int y = CHUNK_SIZE; y < CHUNK_HEIGHT; y += CHUNK_SIZE)
+            {
+                bufferbuilder.vertex(x, y, minZ).endVertex();
+                bufferbuilder.vertex(x, y, maxZ).endVertex();
+            }
+        }
+    }
+}
@@ -903,6 +903,7 @@ public class CitizenData implements ICitizenData
             this.job.onRemoval();
         }
         this.job = job;
+        colony.getCitizenManager().onCitizenAssignmentChanged();
 
         getEntity().ifPresent(entityCitizen -> entityCitizen.getCitizenJobHandler().onJobChanged(job));
 
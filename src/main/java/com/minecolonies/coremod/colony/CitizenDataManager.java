@@ -22,8 +22,25 @@ public class CitizenDataManager implements ICitizenDataManager
     @Override
     public ICitizenDataView createFromNetworkData(final int id, @NotNull final FriendlyByteBuf networkBuffer, final IColonyView colonyView)
     {
-        ICitizenDataView citizenDataView = colonyView.getCitizen(id) == null ? new CitizenDataView(id, colonyView) : colonyView.getCitizen(id);
+        final ICitizenDataView citizenDataView = colonyView.getCitizen(id) == null ? new CitizenDataView(id, colonyView) : colonyView.getCitizen(id);
+        return deserialize(citizenDataView, networkBuffer);
+    }
+
+    @Override
+    public ICitizenDataView createNewFromNetworkData(final int id, @NotNull final FriendlyByteBuf networkBuffer, final IColonyView colonyView)
+    {
+        return deserialize(new CitizenDataView(id, colonyView), networkBuffer);
+    }
 
+    /**
+     * Read a citizen data view from the network buffer.
+     *
+     * @param citizenDataView the view to read into.
+     * @param networkBuffer   the network buffer to read from.
+     * @return the view, or null if it failed to load.
+     */
+    private static ICitizenDataView deserialize(ICitizenDataView citizenDataView, @NotNull final FriendlyByteBuf networkBuffer)
+    {
         try
         {
             citizenDataView.deserialize(networkBuffer);
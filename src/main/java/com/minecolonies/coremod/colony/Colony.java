@@ -35,6 +35,7 @@ import com.minecolonies.coremod.network.messages.client.colony.ColonyViewRemoveW
 import com.minecolonies.coremod.colony.permissions.ColonyPermissionEventHandler;
 import com.minecolonies.api.quests.IQuestManager;
 import com.minecolonies.coremod.quests.QuestManager;
+import com.minecolonies.coremod.util.SubsystemTimings;
 import net.minecraft.ChatFormatting;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Registry;
@@ -55,7 +56,6 @@ import net.minecraft.world.level.block.entity.BannerPatterns;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.scores.PlayerTeam;
-import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.registries.ForgeRegistries;
 import org.jetbrains.annotations.NotNull;
@@ -149,6 +149,11 @@ public class Colony implements IColony
      */
     private final IRaiderManager raidManager = new RaidManager(this);
 
+    /**
+     * Threat manager of the colony.
+     */
+    private final IThreatManager threatManager = new ThreatManager(this);
+
     /**
      * Event manager of the colony.
      */
@@ -323,6 +328,11 @@ public class Colony implements IColony
      */
     private int forceLoadTimer = 0;
 
+    /**
+     * Keeps the colony active without players around, for benchmarks.
+     */
+    private boolean forceActive = false;
+
     /**
      * The texture set of the colony.
      */
@@ -387,6 +397,7 @@ public class Colony implements IColony
         colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::tickRequests, () -> ACTIVE, UPDATE_RS_INTERVAL));
         colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::checkDayTime, () -> ACTIVE, UPDATE_DAYTIME_INTERVAL));
         colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::updateWayPoints, () -> ACTIVE, CHECK_WAYPOINT_EVERY));
+        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, threatManager::tick, () -> ACTIVE, UPDATE_THREAT_MAP_INTERVAL));
         colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::worldTickSlow, () -> ACTIVE, MAX_TICKRATE));
         colonyStateMachine.addTransition(new TickingTransition<>(UNLOADED, this::worldTickUnloaded, () -> UNLOADED, MAX_TICKRATE));
     }
@@ -404,7 +415,7 @@ public class Colony implements IColony
         }
         packageManager.updateAwayTime();
 
-        if (!packageManager.getCloseSubscribers().isEmpty() || (loadedChunks.size() > 40 && !packageManager.getImportantColonyPlayers().isEmpty()))
+        if (forceActive || !packageManager.getCloseSubscribers().isEmpty() || (loadedChunks.size() > 40 && !packageManager.getImportantColonyPlayers().isEmpty()))
         {
             isDirty = true;
             return ACTIVE;
@@ -426,7 +437,9 @@ public class Colony implements IColony
      */
     private boolean updateSubscribers()
     {
+        final long start = SubsystemTimings.start();
         packageManager.updateSubscribers();
+        SubsystemTimings.stop(SubsystemTimings.Subsystem.VIEW_SYNC, start);
         return false;
     }
 
@@ -439,7 +452,9 @@ public class Colony implements IColony
     {
         if (getRequestManager() != null)
         {
+            final long start = SubsystemTimings.start();
             getRequestManager().tick();
+            SubsystemTimings.stop(SubsystemTimings.Subsystem.REQUEST_SYSTEM, start);
         }
         return false;
     }
@@ -460,6 +475,7 @@ public class Colony implements IColony
         graveManager.onColonyTick(this);
         workManager.onColonyTick(this);
         reproductionManager.onColonyTick(this);
+        raidManager.onColonyTick(this);
         questManager.onColonyTick();
 
         final long currTime = System.currentTimeMillis();
@@ -998,12 +1014,11 @@ public class Colony implements IColony
         if (w.dimension() == dimensionId)
         {
             this.world = w;
-            // Register a new event handler
+            // Create the event handler, events are dispatched to it by the ColonyPermissionEventDispatcher while the world is loaded.
             if (eventHandler == null)
             {
                 eventHandler = new ColonyPermissionEventHandler(this);
                 questManager.onWorldLoad();
-                MinecraftForge.EVENT_BUS.register(eventHandler);
             }
             setColonyColor(this.colonyTeamColor);
         }
@@ -1026,10 +1041,6 @@ public class Colony implements IColony
             return;
         }
 
-        if (eventHandler != null)
-        {
-            MinecraftForge.EVENT_BUS.unregister(eventHandler);
-        }
         world = null;
     }
 
@@ -1132,7 +1143,19 @@ public class Colony implements IColony
             return;
         }
 
+        final long start = SubsystemTimings.start();
         colonyStateMachine.tick();
+        SubsystemTimings.stop(SubsystemTimings.Subsystem.COLONY_TICK, start);
+    }
+
+    /**
+     * Keep the colony active without players around, or stop doing so.
+     *
+     * @param forceActive true to keep it active.
+     */
+    public void setForceActive(final boolean forceActive)
+    {
+        this.forceActive = forceActive;
     }
 
     /**
@@ -1577,6 +1600,17 @@ public class Colony implements IColony
         return raidManager;
     }
 
+    /**
+     * Get the threat manager of the colony.
+     *
+     * @return the threat manager.
+     */
+    @Override
+    public IThreatManager getThreatManager()
+    {
+        return threatManager;
+    }
+
     @Override
     public IEventManager getEventManager()
     {
@@ -0,0 +1,580 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.blocks.AbstractBlockHut;
+import com.minecolonies.api.blocks.ModBlocks;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.colony.requestsystem.requestable.Stack;
+import com.minecolonies.api.tileentities.AbstractTileEntityRack;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.Network;
+import com.minecolonies.coremod.network.NetworkChannel;
+import com.minecolonies.coremod.network.PayloadCompression;
+import com.minecolonies.coremod.util.ChunkDataHelper;
+import com.minecolonies.coremod.util.SubsystemTimings;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.event.TickEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.zip.DataFormatException;
+
+import static com.minecolonies.coremod.MineColonies.COLONY_MANAGER_CAP;
+
+/**
+ * Builds a synthetic colony from a seed and measures the time spent in the colony subsystems over a number of server ticks. The same seed, origin and counts always give
+ * the same layout, buildings, racks and requests, so runs can be compared between versions. Only one benchmark runs at a time.
+ */
+public final class ColonyBenchmark
+{
+    /**
+     * Max values of the parameters.
+     */
+    public static final int MAX_BUILDINGS = 64;
+    public static final int MAX_CITIZENS  = 500;
+    public static final int MAX_REQUESTS  = 2000;
+    public static final int MAX_RACKS     = 256;
+    public static final int MAX_TICKS     = 72000;
+
+    /**
+     * Distance between two buildings of the grid.
+     */
+    private static final int CELL_SIZE = 10;
+
+    /**
+     * Racks per row.
+     */
+    private static final int RACKS_PER_ROW = 32;
+
+    /**
+     * Items the racks are filled with and requests are made for.
+     */
+    private static final Item[] ITEMS = {Items.OAK_LOG, Items.COBBLESTONE, Items.IRON_INGOT, Items.WHEAT, Items.COAL, Items.OAK_PLANKS, Items.BREAD, Items.STICK};
+
+    /**
+     * The running benchmark, null if none.
+     */
+    @Nullable
+    private static ColonyBenchmark running = null;
+
+    /**
+     * The source to report to.
+     */
+    private final CommandSourceStack source;
+
+    /**
+     * The level of the colony.
+     */
+    private final ServerLevel level;
+
+    /**
+     * The synthetic colony.
+     */
+    private final Colony colony;
+
+    /**
+     * The chunks forced by the benchmark.
+     */
+    private final LongList forcedChunks;
+
+    /**
+     * The rack positions, removed again when done.
+     */
+    private final List<BlockPos> racks;
+
+    /**
+     * The hut positions, removed again when done.
+     */
+    private final List<BlockPos> huts;
+
+    /**
+     * The floor blocks placed, removed again when done.
+     */
+    private final LongList floor;
+
+    /**
+     * The ticks to measure.
+     */
+    private final int ticks;
+
+    /**
+     * The measured ticks so far.
+     */
+    private int tickCount = 0;
+
+    /**
+     * Start time of the current server tick, in nanoseconds.
+     */
+    private long tickStart = 0;
+
+    /**
+     * The total and max server tick time, in nanoseconds.
+     */
+    private long totalTickNanos = 0;
+    private long maxTickNanos   = 0;
+
+    /**
+     * The network channel totals before the benchmark.
+     */
+    private final NetworkTotals networkAtStart;
+
+    /**
+     * Create a benchmark for a generated colony.
+     *
+     * @param source       the source to report to.
+     * @param level        the level.
+     * @param colony       the colony.
+     * @param forcedChunks the chunks forced for the colony.
+     * @param racks        the rack positions.
+     * @param huts         the hut positions.
+     * @param floor        the floor blocks placed.
+     * @param ticks        the ticks to measure.
+     */
+    private ColonyBenchmark(
+      final CommandSourceStack source,
+      final ServerLevel level,
+      final Colony colony,
+      final LongList forcedChunks,
+      final List<BlockPos> racks,
+      final List<BlockPos> huts,
+      final LongList floor,
+      final int ticks)
+    {
+        this.source = source;
+        this.level = level;
+        this.colony = colony;
+        this.forcedChunks = forcedChunks;
+        this.racks = racks;
+        this.huts = huts;
+        this.floor = floor;
+        this.ticks = ticks;
+        this.networkAtStart = NetworkTotals.current();
+    }
+
+    /**
+     * Check if a benchmark is running.
+     *
+     * @return true if so.
+     */
+    public static boolean isRunning()
+    {
+        return running != null;
+    }
+
+    /**
+     * Generate the synthetic colony and start measuring.
+     *
+     * @param source    the source to report to.
+     * @param level     the level to build in, ideally an empty void level.
+     * @param origin    the position of the town hall.
+     * @param seed      the seed of the layout and workload.
+     * @param buildings the number of buildings besides the town hall.
+     * @param citizens  the number of citizens.
+     * @param requests  the number of requests.
+     * @param racks     the number of racks.
+     * @param ticks     the number of server ticks to measure.
+     * @return the colony id, or 0 if it could not be created.
+     */
+    public static int start(
+      @NotNull final CommandSourceStack source,
+      @NotNull final ServerLevel level,
+      @NotNull final BlockPos origin,
+      final long seed,
+      final int buildings,
+      final int citizens,
+      final int requests,
+      final int racks,
+      final int ticks)
+    {
+        if (running != null || IColonyManager.getInstance().getColonyByPosFromWorld(level, origin) != null)
+        {
+            return 0;
+        }
+
+        final IColonyManagerCapability cap = level.getCapability(COLONY_MANAGER_CAP, null).resolve().orElse(null);
+        if (cap == null)
+        {
+            return 0;
+        }
+
+        final Random random = new Random(seed);
+        final int side = (int) Math.ceil(Math.sqrt(buildings + 1));
+        final int rackRows = (racks + RACKS_PER_ROW - 1) / RACKS_PER_ROW;
+        final BlockPos min = origin.offset(-CELL_SIZE / 2, -1, -CELL_SIZE / 2);
+        final BlockPos max = origin.offset(Math.max(side * CELL_SIZE, RACKS_PER_ROW * 2), -1, side * CELL_SIZE + rackRows * 2 + CELL_SIZE / 2);
+
+        final LongList forcedChunks = forceChunks(level, min, max);
+        final LongList floor = buildFloor(level, min, max);
+
+        // The colony stays without owner, the invoking player only receives its views.
+        final Colony colony = (Colony) cap.createColony(level, origin);
+        colony.setName("Benchmark " + seed);
+        if (source.getEntity() instanceof ServerPlayer player)
+        {
+            colony.getPackageManager().addCloseSubscriber(player);
+        }
+        ChunkDataHelper.claimColonyChunks(level, true, colony.getID(), colony.getCenter());
+
+        final List<BlockPos> hutPositions = new ArrayList<>();
+        if (placeHut(level, colony, origin, ModBlocks.blockHutTownHall) != null)
+        {
+            hutPositions.add(origin);
+        }
+
+        final List<AbstractBlockHut<?>> huts = new ArrayList<>();
+        for (final AbstractBlockHut<?> hut : ModBlocks.getHuts())
+        {
+            if (hut != ModBlocks.blockHutTownHall && hut != ModBlocks.blockHutWareHouse && hut != ModBlocks.blockHutBarracksTower)
+            {
+                huts.add(hut);
+            }
+        }
+        huts.sort(Comparator.comparing(hut -> hut.getRegistryName().toString()));
+
+        final List<IBuilding> placed = new ArrayList<>();
+        IBuilding rackOwner = colony.getBuildingManager().getTownHall();
+        for (int i = 1; i <= buildings; i++)
+        {
+            final BlockPos pos = origin.offset((i % side) * CELL_SIZE, 0, (i / side) * CELL_SIZE);
+            final AbstractBlockHut<?> hut = (i == 1 && racks > 0) ? ModBlocks.blockHutWareHouse : huts.get(random.nextInt(huts.size()));
+            final IBuilding building = placeHut(level, colony, pos, hut);
+            if (building != null)
+            {
+                placed.add(building);
+                hutPositions.add(pos);
+                if (hut == ModBlocks.blockHutWareHouse)
+                {
+                    rackOwner = building;
+                }
+            }
+        }
+
+        final List<BlockPos> rackPositions = new ArrayList<>();
+        for (int i = 0; i < racks; i++)
+        {
+            final BlockPos pos = origin.offset((i % RACKS_PER_ROW) * 2, 0, side * CELL_SIZE + (i / RACKS_PER_ROW) * 2);
+            level.setBlock(pos, ModBlocks.blockRack.defaultBlockState(), Block.UPDATE_CLIENTS);
+            final BlockEntity blockEntity = level.getBlockEntity(pos);
+            if (blockEntity instanceof AbstractTileEntityRack rack)
+            {
+                for (int slot = 0; slot < rack.getInventory().getSlots(); slot++)
+                {
+                    if (random.nextBoolean())
+                    {
+                        rack.getInventory().insertItem(slot, new ItemStack(ITEMS[random.nextInt(ITEMS.length)], 1 + random.nextInt(64)), false);
+                    }
+                }
+                if (rackOwner != null)
+                {
+                    rackOwner.addContainerPosition(pos);
+                }
+                rackPositions.add(pos);
+            }
+        }
+
+        for (int i = 0; i < citizens; i++)
+        {
+            colony.getCitizenManager().spawnOrCreateCivilian(null, level, origin.above(), true);
+        }
+
+        if (!placed.isEmpty())
+        {
+            for (int i = 0; i < requests; i++)
+            {
+                final IBuilding building = placed.get(random.nextInt(placed.size()));
+                building.createRequest(new Stack(new ItemStack(ITEMS[random.nextInt(ITEMS.length)], 1 + random.nextInt(64))), true);
+            }
+        }
+
+        colony.setForceActive(true);
+        running = new ColonyBenchmark(source, level, colony, forcedChunks, rackPositions, hutPositions, floor, ticks);
+        SubsystemTimings.reset(true);
+        Log.getLogger().info("Started colony benchmark with seed " + seed + " in colony " + colony.getID());
+        return colony.getID();
+    }
+
+    /**
+     * Place a hut and register its building at level one.
+     *
+     * @param level  the level.
+     * @param colony the colony.
+     * @param pos    the position.
+     * @param hut    the hut block.
+     * @return the building or null if it could not be registered.
+     */
+    @Nullable
+    private static IBuilding placeHut(final ServerLevel level, final IColony colony, final BlockPos pos, final AbstractBlockHut<?> hut)
+    {
+        final BlockState state = hut.defaultBlockState();
+        level.setBlock(pos, state, Block.UPDATE_CLIENTS);
+        hut.setPlacedBy(level, pos, state, null, ItemStack.EMPTY);
+
+        final IBuilding building = colony.getBuildingManager().getBuilding(pos);
+        if (building == null)
+        {
+            level.removeBlock(pos, false);
+            return null;
+        }
+        building.setBuildingLevel(1);
+        return building;
+    }
+
+    /**
+     * Force all chunks of an area which are not forced yet.
+     *
+     * @param level the level.
+     * @param min   the min corner.
+     * @param max   the max corner.
+     * @return the chunks forced.
+     */
+    private static LongList forceChunks(final ServerLevel level, final BlockPos min, final BlockPos max)
+    {
+        final LongList forced = new LongArrayList();
+        for (int x = min.getX() >> 4; x <= max.getX() >> 4; x++)
+        {
+            for (int z = min.getZ() >> 4; z <= max.getZ() >> 4; z++)
+            {
+                if (!level.getForcedChunks().contains(ChunkPos.asLong(x, z)))
+                {
+                    level.setChunkForced(x, z, true);
+                    forced.add(ChunkPos.asLong(x, z));
+                }
+            }
+        }
+        return forced;
+    }
+
+    /**
+     * Fill the air below the area with stone, so citizens can walk in a void level.
+     *
+     * @param level the level.
+     * @param min   the min corner.
+     * @param max   the max corner.
+     * @return the positions filled.
+     */
+    private static LongList buildFloor(final ServerLevel level, final BlockPos min, final BlockPos max)
+    {
+        final LongList filled = new LongArrayList();
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (int x = min.getX(); x <= max.getX(); x++)
+        {
+            for (int z = min.getZ(); z <= max.getZ(); z++)
+            {
+                pos.set(x, min.getY(), z);
+                if (level.isEmptyBlock(pos))
+                {
+                    level.setBlock(pos, Blocks.STONE.defaultBlockState(), Block.UPDATE_CLIENTS);
+                    filled.add(pos.asLong());
+                }
+            }
+        }
+        return filled;
+    }
+
+    /**
+     * Server tick handler, measures the tick time and finishes the benchmark.
+     *
+     * @param event the event.
+     */
+    public static void onServerTick(final TickEvent.ServerTickEvent event)
+    {
+        if (running == null)
+        {
+            return;
+        }
+
+        if (event.phase == TickEvent.Phase.START)
+        {
+            running.tickStart = System.nanoTime();
+        }
+        else if (running.tickStart != 0)
+        {
+            final long nanos = System.nanoTime() - running.tickStart;
+            running.totalTickNanos += nanos;
+            running.maxTickNanos = Math.max(running.maxTickNanos, nanos);
+            running.tickCount++;
+            if (running.tickCount >= running.ticks)
+            {
+                running.finish(true);
+            }
+        }
+    }
+
+    /**
+     * Abort the running benchmark, when the server stops.
+     */
+    public static void abort()
+    {
+        if (running != null)
+        {
+            running.finish(false);
+        }
+    }
+
+    /**
+     * Stop measuring, report and remove the synthetic colony with the blocks placed for it.
+     *
+     * @param report true to report the results.
+     */
+    private void finish(final boolean report)
+    {
+        running = null;
+        SubsystemTimings.disable();
+
+        if (report)
+        {
+            final int measured = Math.max(1, tickCount);
+            source.sendSuccess(Component.literal(String.format("Colony benchmark: %d ticks, %d citizens, %d buildings",
+              tickCount, colony.getCitizenManager().getCurrentCitizenCount(), colony.getBuildingManager().getBuildings().size())), true);
+            source.sendSuccess(Component.literal(String.format("Server tick: %.3f ms avg, %.3f ms max", totalTickNanos / 1e6 / measured, maxTickNanos / 1e6)), true);
+            for (final SubsystemTimings.Subsystem subsystem : SubsystemTimings.Subsystem.values())
+            {
+                final long nanos = SubsystemTimings.getNanos(subsystem);
+                source.sendSuccess(Component.literal(String.format("%s: %.3f ms total, %.4f ms per tick, %d calls",
+                  subsystem.name().toLowerCase(Locale.US), nanos / 1e6, nanos / 1e6 / measured, SubsystemTimings.getCalls(subsystem))), true);
+            }
+            final NetworkTotals network = NetworkTotals.current().minus(networkAtStart);
+            source.sendSuccess(Component.literal(String.format("Network: %d bytes sent, %d bytes encoded", network.sentBytes(), network.encodedBytes())), true);
+            source.sendSuccess(Component.literal(String.format("Compression: %d payloads, %d bytes compressed, %.3f ms compressing, %.3f ms decompressing",
+              network.compressedCount(), network.compressedBytes(), network.compressNanos() / 1e6, network.decompressNanos() / 1e6)), true);
+            reportSnapshot();
+        }
+
+        colony.setForceActive(false);
+        for (final BlockPos pos : racks)
+        {
+            level.removeBlock(pos, false);
+        }
+        IColonyManager.getInstance().deleteColonyByWorld(colony.getID(), false, level);
+        // Deleting the colony only removes the huts of buildings it still knows of.
+        for (final BlockPos pos : huts)
+        {
+            if (level.getBlockState(pos).getBlock() instanceof AbstractBlockHut)
+            {
+                level.removeBlock(pos, false);
+            }
+        }
+        for (final long pos : floor)
+        {
+            if (level.getBlockState(BlockPos.of(pos)).is(Blocks.STONE))
+            {
+                level.removeBlock(BlockPos.of(pos), false);
+            }
+        }
+        for (final long chunk : forcedChunks)
+        {
+            level.setChunkForced(ChunkPos.getX(chunk), ChunkPos.getZ(chunk), false);
+        }
+    }
+
+    /**
+     * Encode a full view of the colony, as sent to a new subscriber, and report its size and the time to encode, compress and decompress it.
+     */
+    private void reportSnapshot()
+    {
+        final FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+        try
+        {
+            final long encodeStart = System.nanoTime();
+            ColonyView.serializeNetworkData(colony, buffer, true);
+            final long encodeNanos = System.nanoTime() - encodeStart;
+
+            final long compressStart = System.nanoTime();
+            final ByteBuf compressed = PayloadCompression.compress(buffer, ByteBufAllocator.DEFAULT);
+            final long compressNanos = System.nanoTime() - compressStart;
+
+            final byte[] data = new byte[compressed.readableBytes()];
+            compressed.readBytes(data);
+            compressed.release();
+
+            final long decompressStart = System.nanoTime();
+            PayloadCompression.decompress(data);
+            final long decompressNanos = System.nanoTime() - decompressStart;
+
+            source.sendSuccess(Component.literal(String.format("Colony view snapshot: %d bytes raw, %d bytes compressed, %.3f ms encode, %.3f ms compress, %.3f ms decompress",
+              buffer.readableBytes(), data.length, encodeNanos / 1e6, compressNanos / 1e6, decompressNanos / 1e6)), true);
+        }
+        catch (final DataFormatException e)
+        {
+            Log.getLogger().warn("Could not decompress the benchmark colony view snapshot", e);
+        }
+        finally
+        {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Totals of the network channel over all message types.
+     *
+     * @param sentBytes       the bytes handed to the channel.
+     * @param encodedBytes    the bytes encoded, before compression.
+     * @param compressedCount the payloads compressed.
+     * @param compressedBytes the compressed size of those payloads.
+     * @param compressNanos   the time spent compressing.
+     * @param decompressNanos the time spent decompressing, only measured if the client runs in this process.
+     */
+    private record NetworkTotals(long sentBytes, long encodedBytes, long compressedCount, long compressedBytes, long compressNanos, long decompressNanos)
+    {
+        /**
+         * Get the current totals of the channel.
+         *
+         * @return the totals.
+         */
+        private static NetworkTotals current()
+        {
+            long sentBytes = 0;
+            long encodedBytes = 0;
+            long compressedCount = 0;
+            long compressedBytes = 0;
+            long compressNanos = 0;
+            long decompressNanos = 0;
+            for (final NetworkChannel.NetworkingMessageEntry<?> entry : Network.getNetwork().getMessagesTypes().values())
+            {
+                sentBytes += entry.getSentBytes();
+                encodedBytes += entry.getEncodedBytes();
+                compressedCount += entry.getCompressedCount();
+                compressedBytes += entry.getCompressedBytes();
+                compressNanos += entry.getCompressNanos();
+                decompressNanos += entry.getDecompressNanos();
+            }
+            return new NetworkTotals(sentBytes, encodedBytes, compressedCount, compressedBytes, compressNanos, decompressNanos);
+        }
+
+        /**
+         * Get the difference to earlier totals.
+         *
+         * @param start the earlier totals.
+         * @return the difference.
+         */
+        private NetworkTotals minus(final NetworkTotals start)
+        {
+            return new NetworkTotals(sentBytes - start.sentBytes,
+              encodedBytes - start.encodedBytes,
+              compressedCount - start.compressedCount,
+              compressedBytes - start.compressedBytes,
+              compressNanos - start.compressNanos,
+              decompressNanos - start.decompressNanos);
+        }
+    }
+}
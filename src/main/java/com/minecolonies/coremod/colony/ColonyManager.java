@@ -3,6 +3,7 @@ package com.minecolonies.coremod.colony;
 import com.minecolonies.api.blocks.AbstractBlockHut;
 import com.minecolonies.api.colony.*;
 import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.colony.buildings.registry.IBuildingDataManager;
 import com.minecolonies.api.colony.buildings.views.IBuildingView;
 import com.minecolonies.api.colony.event.ColonyViewUpdatedEvent;
 import com.minecolonies.api.colony.permissions.ColonyPlayer;
@@ -57,6 +58,11 @@ public final class ColonyManager implements IColonyManager
     @NotNull
     private final Map<ResourceKey<Level>, ColonyList<IColonyView>> colonyViews = new HashMap<>();
 
+    /**
+     * Decodes new colony views off the client thread.
+     */
+    private final ColonyViewDecoder viewDecoder = new ColonyViewDecoder();
+
     /**
      * Recipemanager of this server.
      */
@@ -181,15 +187,6 @@ public final class ColonyManager implements IColonyManager
                 }
             }
 
-            try
-            {
-                MinecraftForge.EVENT_BUS.unregister(colony.getEventHandler());
-            }
-            catch (final NullPointerException e)
-            {
-                Log.getLogger().warn("Can't unregister the event handler twice");
-            }
-
             Log.getLogger().info("Deleting colony: " + colony.getID());
 
             final IColonyManagerCapability cap = world.getCapability(COLONY_MANAGER_CAP, null).resolve().orElse(null);
@@ -214,6 +211,11 @@ public final class ColonyManager implements IColonyManager
     @Override
     public void removeColonyView(final int id, final ResourceKey<Level> dimension)
     {
+        if (viewDecoder.defer(() -> removeColonyView(id, dimension)))
+        {
+            return;
+        }
+
         if (colonyViews.containsKey(dimension))
         {
             colonyViews.get(dimension).remove(id);
@@ -647,10 +649,18 @@ public final class ColonyManager implements IColonyManager
     @Override
     public void onClientTick(@NotNull final TickEvent.ClientTickEvent event)
     {
-        if (event.phase == TickEvent.Phase.END && Minecraft.getInstance().level == null && !colonyViews.isEmpty())
+        if (event.phase == TickEvent.Phase.END)
         {
-            //  Player has left the game, clear the Colony View cache
-            colonyViews.clear();
+            if (Minecraft.getInstance().level == null)
+            {
+                //  Player has left the game, clear the Colony View cache
+                viewDecoder.clear();
+                colonyViews.clear();
+            }
+            else
+            {
+                viewDecoder.tick();
+            }
         }
     }
 
@@ -728,6 +738,11 @@ public final class ColonyManager implements IColonyManager
       final boolean isNewSubscription,
       final ResourceKey<Level> dim)
     {
+        if (viewDecoder.defer(colonyData, copy -> handleColonyViewMessage(colonyId, copy, world, isNewSubscription, dim)))
+        {
+            return;
+        }
+
         IColonyView view = getColonyView(colonyId, dim);
         if (view == null)
         {
@@ -761,6 +776,11 @@ public final class ColonyManager implements IColonyManager
     @Override
     public void handlePermissionsViewMessage(final int colonyID, @NotNull final FriendlyByteBuf data, final ResourceKey<Level> dim)
     {
+        if (viewDecoder.defer(data, copy -> handlePermissionsViewMessage(colonyID, copy, dim)))
+        {
+            return;
+        }
+
         final IColonyView view = getColonyView(colonyID, dim);
         if (view == null)
         {
@@ -775,17 +795,58 @@ public final class ColonyManager implements IColonyManager
     @Override
     public void handleColonyViewCitizensMessage(final int colonyId, final int citizenId, final FriendlyByteBuf buf, final ResourceKey<Level> dim)
     {
+        if (viewDecoder.defer(buf, copy -> handleColonyViewCitizensMessage(colonyId, citizenId, copy, dim)))
+        {
+            return;
+        }
+
+        final IColonyView view = getColonyView(colonyId, dim);
+        if (view == null)
+        {
+            return;
+        }
+
+        if (view.getCitizen(citizenId) == null)
+        {
+            // New citizens are not referenced anywhere yet, decode them off thread.
+            final FriendlyByteBuf bufCopy = ColonyViewDecoder.copyOf(buf);
+            viewDecoder.decode(() ->
+            {
+                final ICitizenDataView citizen = ICitizenDataManager.getInstance().createNewFromNetworkData(citizenId, bufCopy, view);
+                return () -> view.addCitizenView(citizen);
+            });
+        }
+        else
+        {
+            view.handleColonyViewCitizensMessage(citizenId, buf);
+        }
+    }
+
+    @Override
+    public void handleColonyViewVisitorMessage(final int colonyId, final FriendlyByteBuf buf, final boolean refresh, final ResourceKey<Level> dim)
+    {
+        if (viewDecoder.defer(buf, copy -> handleColonyViewVisitorMessage(colonyId, copy, refresh, dim)))
+        {
+            return;
+        }
+
         final IColonyView view = getColonyView(colonyId, dim);
         if (view == null)
         {
+            Log.getLogger().warn("Received visitor data for nonexisting colony:" + colonyId + " dim:" + dim);
             return;
         }
-        view.handleColonyViewCitizensMessage(citizenId, buf);
+        view.handleColonyViewVisitorMessage(buf, refresh);
     }
 
     @Override
     public void handleColonyViewWorkOrderMessage(final int colonyId, final FriendlyByteBuf buf, final ResourceKey<Level> dim)
     {
+        if (viewDecoder.defer(buf, copy -> handleColonyViewWorkOrderMessage(colonyId, copy, dim)))
+        {
+            return;
+        }
+
         final IColonyView view = getColonyView(colonyId, dim);
         if (view == null)
         {
@@ -797,6 +858,11 @@ public final class ColonyManager implements IColonyManager
     @Override
     public void handleColonyViewRemoveCitizenMessage(final int colonyId, final int citizenId, final ResourceKey<Level> dim)
     {
+        if (viewDecoder.defer(() -> handleColonyViewRemoveCitizenMessage(colonyId, citizenId, dim)))
+        {
+            return;
+        }
+
         final IColonyView view = getColonyView(colonyId, dim);
         if (view != null)
         {
@@ -809,8 +875,23 @@ public final class ColonyManager implements IColonyManager
     @Override
     public void handleColonyBuildingViewMessage(final int colonyId, final BlockPos buildingId, @NotNull final FriendlyByteBuf buf, final ResourceKey<Level> dim)
     {
+        if (viewDecoder.defer(buf, copy -> handleColonyBuildingViewMessage(colonyId, buildingId, copy, dim)))
+        {
+            return;
+        }
+
         final IColonyView view = getColonyView(colonyId, dim);
-        if (view != null)
+        if (view != null && view.getBuilding(buildingId) == null)
+        {
+            // New buildings are not referenced by any window yet, decode them off thread.
+            final FriendlyByteBuf bufCopy = ColonyViewDecoder.copyOf(buf);
+            viewDecoder.decode(() ->
+            {
+                final IBuildingView building = IBuildingDataManager.getInstance().createViewFrom(view, buildingId, bufCopy);
+                return () -> view.addBuildingView(building);
+            });
+        }
+        else if (view != null)
         {
             view.handleColonyBuildingViewMessage(buildingId, buf);
         }
@@ -823,6 +904,11 @@ public final class ColonyManager implements IColonyManager
     @Override
     public void handleColonyViewRemoveBuildingMessage(final int colonyId, final BlockPos buildingId, final ResourceKey<Level> dim)
     {
+        if (viewDecoder.defer(() -> handleColonyViewRemoveBuildingMessage(colonyId, buildingId, dim)))
+        {
+            return;
+        }
+
         final IColonyView view = getColonyView(colonyId, dim);
         if (view != null)
         {
@@ -835,6 +921,11 @@ public final class ColonyManager implements IColonyManager
     @Override
     public void handleColonyViewRemoveWorkOrderMessage(final int colonyId, final int workOrderId, final ResourceKey<Level> dim)
     {
+        if (viewDecoder.defer(() -> handleColonyViewRemoveWorkOrderMessage(colonyId, workOrderId, dim)))
+        {
+            return;
+        }
+
         final IColonyView view = getColonyView(colonyId, dim);
         if (view != null)
         {
@@ -976,13 +976,17 @@ public final class ColonyView implements IColonyView
     @Nullable
     public IMessage handleColonyViewCitizensMessage(final int id, final FriendlyByteBuf buf)
     {
-        final ICitizenDataView citizen = ICitizenDataManager.getInstance().createFromNetworkData(id, buf, this);
+        addCitizenView(ICitizenDataManager.getInstance().createFromNetworkData(id, buf, this));
+        return null;
+    }
+
+    @Override
+    public void addCitizenView(@Nullable final ICitizenDataView citizen)
+    {
         if (citizen != null)
         {
             citizens.put(citizen.getId(), citizen);
         }
-
-        return null;
     }
 
     @Override
@@ -1011,6 +1015,12 @@ public final class ColonyView implements IColonyView
             dataView.deserialize(visitorBuf);
             visitors.put(dataView.getId(), dataView);
         }
+
+        final int removed = visitorBuf.readVarInt();
+        for (int j = 0; j < removed; j++)
+        {
+            visitors.remove(visitorBuf.readVarInt());
+        }
     }
 
     /**
@@ -1078,21 +1088,26 @@ public final class ColonyView implements IColonyView
         }
         else
         {
-            @Nullable final IBuildingView building = IBuildingDataManager.getInstance().createViewFrom(this, buildingId, buf);
-            if (building != null)
-            {
-                buildings.put(building.getID(), building);
-
-                if (building instanceof BuildingTownHall.View)
-                {
-                    townHall = (ITownHallView) building;
-                }
-            }
+            addBuildingView(IBuildingDataManager.getInstance().createViewFrom(this, buildingId, buf));
         }
 
         return null;
     }
 
+    @Override
+    public void addBuildingView(@Nullable final IBuildingView building)
+    {
+        if (building != null)
+        {
+            buildings.put(building.getID(), building);
+
+            if (building instanceof BuildingTownHall.View)
+            {
+                townHall = (ITownHallView) building;
+            }
+        }
+    }
+
     /**
      * Update a players permissions.
      *
@@ -1486,6 +1501,12 @@ public final class ColonyView implements IColonyView
         return null;
     }
 
+    @Override
+    public IThreatManager getThreatManager()
+    {
+        return null;
+    }
+
     @Override
     public IEventManager getEventManager()
     {
@@ -0,0 +1,149 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.util.Log;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Decodes colony view data on a worker thread and applies the results on the client thread. Results are applied in the order the messages arrived, with a time budget
+ * per tick so a large colony shows up progressively instead of freezing the client.
+ */
+public class ColonyViewDecoder
+{
+    /**
+     * Max time spent applying decoded views per client tick.
+     */
+    private static final long APPLY_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(4);
+
+    /**
+     * The pending steps, in message order. Only accessed from the client thread.
+     */
+    private final Deque<CompletableFuture<Runnable>> pending = new ArrayDeque<>();
+
+    /**
+     * The worker, created on first use so dedicated servers don't start it.
+     */
+    private ExecutorService executor;
+
+    /**
+     * If finished steps are being applied right now.
+     */
+    private boolean applying = false;
+
+    /**
+     * Decode on the worker thread. The decoder must only create new objects, the returned step is what touches the colony view. While pending steps are being applied
+     * the decoder runs right away, so it can't overtake steps queued after it.
+     *
+     * @param decoder the decoder, returns the step to run on the client thread.
+     */
+    public void decode(final Supplier<Runnable> decoder)
+    {
+        if (applying)
+        {
+            decoder.get().run();
+            return;
+        }
+
+        if (executor == null)
+        {
+            executor = Executors.newSingleThreadExecutor(runnable ->
+            {
+                final Thread thread = new Thread(runnable, "Minecolonies Colony View Decoder");
+                thread.setDaemon(true);
+                thread.setUncaughtExceptionHandler((thread1, throwable) -> Log.getLogger().error("Minecolonies Colony View Decoder errored! ", throwable));
+                return thread;
+            });
+        }
+        pending.add(CompletableFuture.supplyAsync(decoder, executor));
+    }
+
+    /**
+     * Queue a step behind the pending ones, to keep the message order.
+     *
+     * @param step the step.
+     * @return false if nothing is pending and the caller should handle the message right away.
+     */
+    public boolean defer(final Runnable step)
+    {
+        if (applying || pending.isEmpty())
+        {
+            return false;
+        }
+
+        pending.add(CompletableFuture.completedFuture(step));
+        return true;
+    }
+
+    /**
+     * Queue a step reading a message buffer behind the pending ones, to keep the message order. The buffer is only copied when the step is actually queued.
+     *
+     * @param buf  the message buffer, released by the message once handled.
+     * @param step the step, gets a copy of the buffer.
+     * @return false if nothing is pending and the caller should handle the message right away.
+     */
+    public boolean defer(final FriendlyByteBuf buf, final Consumer<FriendlyByteBuf> step)
+    {
+        if (applying || pending.isEmpty())
+        {
+            return false;
+        }
+
+        final FriendlyByteBuf copy = copyOf(buf);
+        pending.add(CompletableFuture.completedFuture(() -> step.accept(copy)));
+        return true;
+    }
+
+    /**
+     * Copy the readable part of a message buffer, for reading it after the message released it.
+     *
+     * @param buf the buffer, its reader index is not moved.
+     * @return the copy.
+     */
+    public static FriendlyByteBuf copyOf(final FriendlyByteBuf buf)
+    {
+        return new FriendlyByteBuf(Unpooled.copiedBuffer(buf));
+    }
+
+    /**
+     * Apply the finished steps, in order, within the tick budget.
+     */
+    public void tick()
+    {
+        final long start = System.nanoTime();
+        applying = true;
+        while (!pending.isEmpty() && pending.peek().isDone() && System.nanoTime() - start < APPLY_BUDGET_NANOS)
+        {
+            final CompletableFuture<Runnable> next = pending.poll();
+            try
+            {
+                next.join().run();
+            }
+            catch (final RuntimeException e)
+            {
+                Log.getLogger().error("Failed to apply colony view data", e);
+            }
+        }
+        applying = false;
+    }
+
+    /**
+     * Drop all pending steps, when leaving the world.
+     */
+    public void clear()
+    {
+        for (final CompletableFuture<Runnable> step : pending)
+        {
+            step.cancel(false);
+        }
+        pending.clear();
+    }
+}
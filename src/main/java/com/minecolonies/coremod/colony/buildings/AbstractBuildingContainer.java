@@ -5,6 +5,7 @@ import com.minecolonies.api.blocks.AbstractBlockHut;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.colony.buildings.IBuildingContainer;
+import com.minecolonies.api.inventory.BuildingStorageView;
 import com.minecolonies.api.tileentities.AbstractTileEntityColonyBuilding;
 import com.minecolonies.api.tileentities.TileEntityColonyBuilding;
 import com.minecolonies.api.tileentities.TileEntityRack;
@@ -60,6 +61,11 @@ public abstract class AbstractBuildingContainer extends AbstractSchematicProvide
      */
     private int unscaledPickUpPriority = 1;
 
+    /**
+     * Aggregated view over the storage of all containers.
+     */
+    private final BuildingStorageView storageView;
+
     /**
      * The constructor for the building container.
      *
@@ -69,6 +75,7 @@ public abstract class AbstractBuildingContainer extends AbstractSchematicProvide
     public AbstractBuildingContainer(final BlockPos pos, final IColony colony)
     {
         super(pos, colony);
+        this.storageView = new BuildingStorageView(this, colony);
     }
 
     @Override
@@ -82,6 +89,7 @@ public abstract class AbstractBuildingContainer extends AbstractSchematicProvide
             final CompoundTag containerCompound = containerTagList.getCompound(i);
             containerList.add(NbtUtils.readBlockPos(containerCompound));
         }
+        storageView.markDirty();
         if (compound.getAllKeys().contains(TAG_PRIO))
         {
             this.unscaledPickUpPriority = compound.getInt(TAG_PRIO);
@@ -127,13 +135,19 @@ public abstract class AbstractBuildingContainer extends AbstractSchematicProvide
     @Override
     public void addContainerPosition(@NotNull final BlockPos pos)
     {
-        containerList.add(pos);
+        if (containerList.add(pos))
+        {
+            storageView.markDirty();
+        }
     }
 
     @Override
     public void removeContainerPosition(final BlockPos pos)
     {
-        containerList.remove(pos);
+        if (containerList.remove(pos))
+        {
+            storageView.markDirty();
+        }
     }
 
     @Override
@@ -144,6 +158,12 @@ public abstract class AbstractBuildingContainer extends AbstractSchematicProvide
         return list;
     }
 
+    @Override
+    public BuildingStorageView getStorageView()
+    {
+        return storageView;
+    }
+
     @Override
     public void registerBlockPosition(@NotNull final BlockState blockState, @NotNull final BlockPos pos, @NotNull final Level world)
     {
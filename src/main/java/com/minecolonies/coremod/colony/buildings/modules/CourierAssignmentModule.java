@@ -26,9 +26,9 @@ public class CourierAssignmentModule extends AbstractAssignedCitizenModule imple
         // If we have no active worker, grab one from the Colony
         if (!isFull() && (this.getHiringMode() == HiringMode.DEFAULT && !building.getColony().isManualHiring() || this.getHiringMode() == HiringMode.AUTO))
         {
-            for (final ICitizenData data : colony.getCitizenManager().getCitizens())
+            for (final ICitizenData data : colony.getCitizenManager().getCitizensByJob(JobDeliveryman.class))
             {
-                if (data.getJob() instanceof JobDeliveryman && !hasAssignedCitizen(data) && ((JobDeliveryman) data.getJob()).findWareHouse() == null)
+                if (!hasAssignedCitizen(data) && ((JobDeliveryman) data.getJob()).findWareHouse() == null)
                 {
                     assignCitizen(data);
                 }
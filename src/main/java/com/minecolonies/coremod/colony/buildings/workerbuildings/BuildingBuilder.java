@@ -182,7 +182,7 @@ public class BuildingBuilder extends AbstractBuildingStructureBuilder
                 continue;
             }
 
-            for (@NotNull final ICitizenData otherBuilder : getColony().getCitizenManager().getCitizens())
+            for (@NotNull final ICitizenData otherBuilder : getColony().getCitizenManager().getCitizensByJob(JobBuilder.class))
             {
                 final JobBuilder job = otherBuilder.getJob(JobBuilder.class);
 
@@ -35,6 +35,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static com.minecolonies.api.util.ItemStackUtils.ISFOOD;
 import static com.minecolonies.api.util.constant.BuildingConstants.FUEL_LIST;
@@ -366,9 +367,30 @@ public class BuildingCook extends AbstractBuilding
             return CraftingUtils.isRecipeCompatibleBasedOnTags(recipe, CRAFTING_COOK).orElse(ItemStackUtils.CAN_EAT.test(recipe.getPrimaryOutput()));
         }
 
+        @Override
+        @Nullable
+        public IRecipeStorage getFirstRecipe(final ItemStack stack)
+        {
+            return getFirstRecipe(itemStack -> !itemStack.isEmpty() && ItemStackUtils.compareItemStacksIgnoreStackSize(itemStack, stack, true, true),
+              () -> FurnaceRecipes.getInstance().getFirstSmeltingRecipeByResult(stack));
+        }
+
         @Override
         @Nullable
         public IRecipeStorage getFirstRecipe(final Predicate<ItemStack> stackPredicate)
+        {
+            return getFirstRecipe(stackPredicate, () -> FurnaceRecipes.getInstance().getFirstSmeltingRecipeByResult(stackPredicate));
+        }
+
+        /**
+         * Get the first taught recipe matching the predicate, or else a smelting recipe with a food output.
+         *
+         * @param stackPredicate the predicate for the taught recipes.
+         * @param smeltingLookup the lookup of the smelting recipe, for the same result.
+         * @return the recipe or null if none.
+         */
+        @Nullable
+        private IRecipeStorage getFirstRecipe(final Predicate<ItemStack> stackPredicate, final Supplier<IRecipeStorage> smeltingLookup)
         {
             if (building.getBuildingLevel() < 3 || building.getModuleMatching(CraftingWorkerBuildingModule.class, m -> m.getJobEntry() == jobEntry).getAssignedCitizen().isEmpty())
             {
@@ -384,7 +406,7 @@ public class BuildingCook extends AbstractBuilding
 
 
             //If we didn't have a stored recipe, see if there is a smelting recipe that is also a food output, and use it.
-            storage = FurnaceRecipes.getInstance().getFirstSmeltingRecipeByResult(stackPredicate);
+            storage = smeltingLookup.get();
             if(storage != null && storage.getRecipeSource() != null && ISFOOD.test(storage.getPrimaryOutput()) && isRecipeCompatible(GenericRecipe.of(storage)))
             {
                 return storage;
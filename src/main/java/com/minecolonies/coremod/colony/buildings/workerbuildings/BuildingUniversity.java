@@ -4,6 +4,7 @@ import com.ldtteam.blockui.views.BOWindow;
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.jobs.ModJobs;
+import com.minecolonies.api.quests.QuestTriggerSignal;
 import com.minecolonies.api.research.IGlobalResearchTree;
 import com.minecolonies.api.research.ILocalResearch;
 import com.minecolonies.api.util.MessageUtils;
@@ -179,6 +180,7 @@ public class BuildingUniversity extends AbstractBuilding
 
         MessageUtils.format(message).sendTo(colony).forManagers();
         colony.getResearchManager().checkAutoStartResearch();
+        colony.getQuestManager().onSignal(QuestTriggerSignal.COLONY_STATE);
         this.markDirty();
     }
 
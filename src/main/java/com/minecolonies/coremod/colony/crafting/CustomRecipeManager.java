@@ -304,7 +304,7 @@ public class CustomRecipeManager
      * This version sends the full Custom Recipe Manager.
      * @param recipeMgrFriendlyByteBuf packet buffer to encode the data into.
      */
-    private void serializeNetworkData(final FriendlyByteBuf recipeMgrFriendlyByteBuf)
+    public void serializeNetworkData(final FriendlyByteBuf recipeMgrFriendlyByteBuf)
     {
         // Custom Recipe Manager packets can potentially get very large, and individual CompoundTags can not be parsed if they exceed 2MB.
         // For safety with arbitrary data packs (or sets of data packs), we can not wrap the entire CustomRecipeManager into single ListNBT.
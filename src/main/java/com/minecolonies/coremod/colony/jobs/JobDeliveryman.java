@@ -32,6 +32,7 @@ import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.core.BlockPos;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.LinkedList;
@@ -60,6 +61,17 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
      */
     private int ongoingDeliveries;
 
+    /**
+     * Scoring data of the queued requests, see {@link #getQueuedTasks()}.
+     */
+    @Nullable
+    private List<QueuedTask> queuedTasks;
+
+    /**
+     * The queue the scoring data was built for.
+     */
+    private List<IToken<?>> queuedTaskTokens = new ArrayList<>();
+
     /**
      * Instantiates the job for the deliveryman.
      *
@@ -232,6 +244,8 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
         }
 
         getTaskQueueFromDataStore().add(Math.max(0, insertionIndex + offset), token);
+        // Priorities of the overtaken requests changed.
+        queuedTasks = null;
 
         if (newRequest instanceof StandardRequests.PickupRequest && newRequest.getRequest().getPriority() == getPlayerActionPriority(true))
         {
@@ -339,6 +353,16 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
         return ImmutableList.copyOf(getTaskQueueFromDataStore());
     }
 
+    /**
+     * Get the size of the task queue of this job, without copying it.
+     *
+     * @return the amount of queued tasks.
+     */
+    public int getTaskQueueSize()
+    {
+        return getTaskQueueFromDataStore().size();
+    }
+
     private void cancelAssignedRequests()
     {
         for (final IToken<?> t : getTaskQueue())
@@ -461,12 +485,13 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
     @NotNull
     public Tuple<Double, Integer> getScoreForDelivery(final IRequest<?> newRequest)
     {
-        final List<IToken<?>> requestTokens = getTaskQueueFromDataStore();
+        final List<QueuedTask> queuedTasks = getQueuedTasks();
+        final int queueSize = getTaskQueueFromDataStore().size();
 
         double totalScore = 10000;
-        int bestRequestIndex = Math.max(0, requestTokens.size());
+        int bestRequestIndex = Math.max(0, queueSize);
 
-        if (requestTokens.isEmpty())
+        if (queueSize == 0)
         {
             // No task, compare with dman pos
             totalScore = getClosenessFactorTo(getSource(newRequest),
@@ -477,21 +502,30 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
             totalScore -= ((AbstractDeliverymanRequestable) newRequest.getRequest()).getPriority();
         }
 
-        for (int i = 0; i < requestTokens.size(); i++)
+        if (!queuedTasks.isEmpty())
         {
-            final IRequest<?> compareRequest = getColony().getRequestManager().getRequestForToken(requestTokens.get(i));
-            if (compareRequest == null)
-            {
-                continue;
-            }
+            final boolean isScorable = newRequest.getRequest() instanceof AbstractDeliverymanRequestable;
+            final BlockPos source = isScorable ? getSource(newRequest) : null;
+            final BlockPos target = isScorable ? getTarget(newRequest) : null;
+            final int priority = isScorable ? ((AbstractDeliverymanRequestable) newRequest.getRequest()).getPriority() : 0;
+            final boolean isDelivery = newRequest.getRequest() instanceof Delivery;
+            final boolean isPickup = newRequest.getRequest() instanceof Pickup;
 
-            if (compareRequest.getRequest() instanceof AbstractDeliverymanRequestable)
+            for (final QueuedTask task : queuedTasks)
             {
-                double score = getScoreOfRequestComparedTo(newRequest, compareRequest, i);
+                double score = 100;
+                if (isScorable)
+                {
+                    // Same as getScoreOfRequestComparedTo, on the cached data.
+                    score = getClosenessFactorTo(source, target, task.source(), task.target());
+                    score += (task.priority() - priority) * 0.5;
+                    score += (isPickup && task.isDelivery()) || (isDelivery && task.isPickup()) ? 0 : 3;
+                    score += queueSize - task.index();
+                }
 
                 if (score <= totalScore)
                 {
-                    bestRequestIndex = i + getPickupOrRequestOffset(newRequest, compareRequest);
+                    bestRequestIndex = task.index() + (isDelivery && task.isPickup() ? 0 : 1);
                     totalScore = score;
                 }
             }
@@ -502,6 +536,55 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
         return new Tuple<>(totalScore, bestRequestIndex);
     }
 
+    /**
+     * Get the scoring data of the queued requests, rebuilt only when the queue changed.
+     *
+     * @return the queued tasks, without the unknown requests.
+     */
+    private List<QueuedTask> getQueuedTasks()
+    {
+        final List<IToken<?>> queue = getTaskQueueFromDataStore();
+        if (queuedTasks != null && queuedTaskTokens.equals(queue))
+        {
+            return queuedTasks;
+        }
+
+        final List<QueuedTask> tasks = new ArrayList<>();
+        int index = 0;
+        for (final IToken<?> token : queue)
+        {
+            final IRequest<?> request = getColony().getRequestManager().getRequestForToken(token);
+            if (request != null && request.getRequest() instanceof AbstractDeliverymanRequestable)
+            {
+                tasks.add(new QueuedTask(index,
+                  getSource(request),
+                  getTarget(request),
+                  ((AbstractDeliverymanRequestable) request.getRequest()).getPriority(),
+                  request.getRequest() instanceof Delivery,
+                  request.getRequest() instanceof Pickup));
+            }
+            index++;
+        }
+
+        queuedTaskTokens = new ArrayList<>(queue);
+        queuedTasks = tasks;
+        return tasks;
+    }
+
+    /**
+     * Scoring data of a queued request.
+     *
+     * @param index      the index in the queue.
+     * @param source     the source position.
+     * @param target     the target position.
+     * @param priority   the priority.
+     * @param isDelivery if it is a delivery.
+     * @param isPickup   if it is a pickup.
+     */
+    private record QueuedTask(int index, BlockPos source, BlockPos target, int priority, boolean isDelivery, boolean isPickup)
+    {
+    }
+
     /**
      * Calculates a score between two requesting making them compareable in many aspects.
      *
@@ -527,7 +610,7 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
         score += getPickUpRequestScore(source, comparing);
 
         // Worse score the more requests we have to overtake
-        score += getTaskQueue().size() - comparingIndex;
+        score += getTaskQueueFromDataStore().size() - comparingIndex;
 
         return score;
     }
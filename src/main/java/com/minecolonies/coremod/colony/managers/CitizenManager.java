@@ -11,6 +11,7 @@ import com.minecolonies.api.colony.managers.interfaces.ICitizenManager;
 import com.minecolonies.api.entity.ModEntities;
 import com.minecolonies.api.entity.citizen.AbstractCivilianEntity;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import com.minecolonies.api.quests.QuestTriggerSignal;
 import com.minecolonies.api.util.*;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.Network;
@@ -55,6 +56,17 @@ public class CitizenManager implements ICitizenManager
     @NotNull
     private final Map<Integer, ICitizenData> citizens = new HashMap<>();
 
+    /**
+     * Immutable snapshot of the citizens, rebuilt only when citizens are added or removed.
+     */
+    @NotNull
+    private List<ICitizenData> citizenList = Collections.emptyList();
+
+    /**
+     * Citizens by requested job type, built lazily and dropped whenever a job changes.
+     */
+    private final Map<Class<?>, List<ICitizenData>> citizensByJob = new HashMap<>();
+
     /**
      * Variables to determine if citizens have to be updated on the client side.
      */
@@ -173,6 +185,7 @@ public class CitizenManager implements ICitizenManager
         citizens.putAll(NBTUtils.streamCompound(compound.getList(TAG_CITIZENS, Tag.TAG_COMPOUND))
                           .map(this::deserializeCitizen)
                           .collect(Collectors.toMap(ICitizenData::getId, Function.identity())));
+        onCitizensChanged();
 
         // Update child state after loading citizen data
         colony.updateHasChilds();
@@ -215,7 +228,7 @@ public class CitizenManager implements ICitizenManager
             {
                 if (citizen.isDirty() || !newSubscribers.isEmpty())
                 {
-                    players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewCitizenViewMessage(colony, citizen), player));
+                    Network.getNetwork().sendToPlayers(new ColonyViewCitizenViewMessage(colony, citizen), players);
                 }
             }
         }
@@ -294,7 +307,7 @@ public class CitizenManager implements ICitizenManager
         entity.getCitizenColonyHandler().registerWithColony(citizenData.getColony().getID(), citizenData.getId());
 
         colony.getProgressManager()
-          .progressCitizenSpawn(citizens.size(), citizens.values().stream().filter(tempDate -> tempDate.getJob() != null).collect(Collectors.toList()).size());
+          .progressCitizenSpawn(citizens.size(), (int) citizenList.stream().filter(tempDate -> tempDate.getJob() != null).count());
         markDirty();
         return citizenData;
     }
@@ -316,6 +329,7 @@ public class CitizenManager implements ICitizenManager
         final CitizenData citizenData = new CitizenData(topCitizenId, colony);
         citizenData.initForNewCivilian();
         citizens.put(citizenData.getId(), citizenData);
+        onCitizensChanged();
 
         return citizenData;
     }
@@ -342,6 +356,7 @@ public class CitizenManager implements ICitizenManager
         final ICitizenData citizenData = deserializeCitizen(compoundNBT);
         citizenData.onResurrect();
         citizens.put(citizenData.getId(), citizenData);
+        onCitizensChanged();
         spawnOrCreateCitizen(citizenData, world, spawnPos);
         return citizenData;
     }
@@ -356,6 +371,7 @@ public class CitizenManager implements ICitizenManager
 
         //Remove the Citizen
         citizens.remove(citizen.getId());
+        onCitizensChanged();
 
         for (@NotNull final IBuilding building : colony.getBuildingManager().getBuildings().values())
         {
@@ -449,6 +465,7 @@ public class CitizenManager implements ICitizenManager
     public void markDirty()
     {
         colony.markDirty();
+        colony.getQuestManager().onSignal(QuestTriggerSignal.CITIZENS);
         isCitizensDirty = true;
     }
 
@@ -468,7 +485,28 @@ public class CitizenManager implements ICitizenManager
     @Override
     public List<ICitizenData> getCitizens()
     {
-        return new ArrayList<>(citizens.values());
+        return citizenList;
+    }
+
+    @Override
+    public List<ICitizenData> getCitizensByJob(@NotNull final Class<?> jobType)
+    {
+        return citizensByJob.computeIfAbsent(jobType, type -> citizenList.stream().filter(data -> type.isInstance(data.getJob())).toList());
+    }
+
+    @Override
+    public void onCitizenAssignmentChanged()
+    {
+        citizensByJob.clear();
+    }
+
+    /**
+     * Rebuilds the citizen snapshot after a citizen was added or removed.
+     */
+    private void onCitizensChanged()
+    {
+        citizenList = List.copyOf(citizens.values());
+        onCitizenAssignmentChanged();
     }
 
     @Override
@@ -555,7 +593,10 @@ public class CitizenManager implements ICitizenManager
     {
         if (colony.hasTownHall())
         {
-            getCitizens().stream().filter(Objects::nonNull).forEach(ICitizenData::updateEntityIfNecessary);
+            for (final ICitizenData citizenData : getCitizens())
+            {
+                citizenData.updateEntityIfNecessary();
+            }
         }
 
         //  Spawn initial Citizens
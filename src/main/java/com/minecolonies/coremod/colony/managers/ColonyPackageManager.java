@@ -2,6 +2,7 @@ package com.minecolonies.coremod.colony.managers;
 
 import com.minecolonies.api.colony.IColonyTagCapability;
 import com.minecolonies.api.colony.managers.interfaces.IColonyPackageManager;
+import com.minecolonies.api.colony.permissions.Rank;
 import com.minecolonies.api.colony.workorders.IWorkManager;
 import com.minecolonies.api.colony.workorders.IWorkOrder;
 import com.minecolonies.api.util.WorldUtil;
@@ -197,6 +198,7 @@ public class ColonyPackageManager implements IColonyPackageManager
         colony.getPermissions().clearDirty();
         colony.getBuildingManager().clearDirty();
         colony.getCitizenManager().clearDirty();
+        colony.getVisitorManager().clearDirty();
         newSubscribers = new HashSet<>();
     }
 
@@ -214,7 +216,21 @@ public class ColonyPackageManager implements IColonyPackageManager
             }
             players.addAll(newSubscribers);
 
-            players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewMessage(colony, colonyFriendlyByteBuf, newSubscribers.contains(player)), player));
+            final List<ServerPlayer> updatedPlayers = new ArrayList<>();
+            final List<ServerPlayer> subscribedPlayers = new ArrayList<>();
+            for (final ServerPlayer player : players)
+            {
+                (newSubscribers.contains(player) ? subscribedPlayers : updatedPlayers).add(player);
+            }
+            if (!updatedPlayers.isEmpty())
+            {
+                Network.getNetwork().sendToPlayers(new ColonyViewMessage(colony, colonyFriendlyByteBuf, false), updatedPlayers);
+            }
+            if (!subscribedPlayers.isEmpty())
+            {
+                Network.getNetwork().sendToPlayers(new ColonyViewMessage(colony, colonyFriendlyByteBuf, true), subscribedPlayers);
+            }
+            colonyFriendlyByteBuf.release();
         }
         colony.getRequestManager().setDirty(false);
     }
@@ -231,7 +247,12 @@ public class ColonyPackageManager implements IColonyPackageManager
                 players.addAll(closeSubscribers);
             }
             players.addAll(newSubscribers);
-            players.forEach(player -> Network.getNetwork().sendToPlayer(new PermissionsMessage.View(colony, permissions.getRank(player)), player));
+            final Map<Rank, List<ServerPlayer>> playersByRank = new HashMap<>();
+            for (final ServerPlayer player : players)
+            {
+                playersByRank.computeIfAbsent(permissions.getRank(player), rank -> new ArrayList<>()).add(player);
+            }
+            playersByRank.forEach((rank, rankPlayers) -> Network.getNetwork().sendToPlayers(new PermissionsMessage.View(colony, rank), rankPlayers));
         }
     }
 
@@ -247,7 +268,7 @@ public class ColonyPackageManager implements IColonyPackageManager
             players.addAll(newSubscribers);
 
             List<IWorkOrder> workOrders = new ArrayList<>(workManager.getWorkOrders().values());
-            players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewWorkOrderMessage(colony, workOrders), player));
+            Network.getNetwork().sendToPlayers(new ColonyViewWorkOrderMessage(colony, workOrders), players);
 
             workManager.setDirty(false);
         }
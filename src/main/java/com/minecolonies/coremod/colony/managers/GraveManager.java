@@ -12,12 +12,17 @@ import com.minecolonies.api.util.MessageUtils;
 import com.minecolonies.api.util.WorldUtil;
 import com.minecolonies.coremod.blocks.BlockMinecoloniesGrave;
 import com.minecolonies.coremod.colony.Colony;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.Tag;
 import net.minecraft.network.chat.Component;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.AirBlock;
 import net.minecraft.world.level.block.Blocks;
@@ -27,12 +32,8 @@ import net.minecraft.world.level.material.Material;
 
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.Map;
+import java.util.*;
 
-import static com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickRateConstants.MAX_TICKRATE;
 import static com.minecolonies.api.research.util.ResearchConstants.GRAVE_DECAY_BONUS;
 import static com.minecolonies.api.util.constant.NbtTagConstants.*;
 import static com.minecolonies.api.util.constant.TranslationConstants.*;
@@ -45,6 +46,21 @@ public class GraveManager implements IGraveManager
     @NotNull
     private final Map<BlockPos, Boolean> graves = new HashMap<>();
 
+    /**
+     * The game time each grave reaches its next decay stage at.
+     */
+    private final Map<BlockPos, Long> expiryTimes = new HashMap<>();
+
+    /**
+     * The graves ordered by their expiry time. Entries which no longer match {@link #expiryTimes} are stale and skipped.
+     */
+    private final PriorityQueue<GraveExpiry> expiryQueue = new PriorityQueue<>(Comparator.comparingLong(GraveExpiry::gameTime));
+
+    /**
+     * Expired graves in unloaded chunks, by chunk, updated once their chunk is loaded again.
+     */
+    private final Long2ObjectMap<Set<BlockPos>> waitingForLoad = new Long2ObjectOpenHashMap<>();
+
     /**
      * The colony of the manager.
      */
@@ -69,13 +85,19 @@ public class GraveManager implements IGraveManager
     public void read(@NotNull final CompoundTag compound)
     {
         graves.clear();
+        expiryTimes.clear();
+        expiryQueue.clear();
+        waitingForLoad.clear();
         final ListTag gravesTagList = compound.getList(TAG_GRAVE, Tag.TAG_COMPOUND);
         for (int i = 0; i < gravesTagList.size(); ++i)
         {
             final CompoundTag graveCompound = gravesTagList.getCompound(i);
             if (graveCompound.contains(TAG_POS) && graveCompound.contains(TAG_RESERVED))
             {
-                graves.put(BlockPosUtil.read(graveCompound, TAG_POS), graveCompound.getBoolean(TAG_RESERVED));
+                final BlockPos pos = BlockPosUtil.read(graveCompound, TAG_POS);
+                graves.put(pos, graveCompound.getBoolean(TAG_RESERVED));
+                // Graves of older saves are looked at on the first tick.
+                scheduleExpiry(pos, graveCompound.contains(TAG_DECAY_EXPIRY) ? graveCompound.getLong(TAG_DECAY_EXPIRY) : 0);
             }
         }
     }
@@ -94,40 +116,95 @@ public class GraveManager implements IGraveManager
             @NotNull final CompoundTag graveCompound = new CompoundTag();
             BlockPosUtil.write(graveCompound, TAG_POS, blockPos);
             graveCompound.putBoolean(TAG_RESERVED, graves.get(blockPos));
+            graveCompound.putLong(TAG_DECAY_EXPIRY, expiryTimes.getOrDefault(blockPos, 0L));
             gravesTagList.add(graveCompound);
         }
         compound.put(TAG_GRAVE, gravesTagList);
     }
 
     /**
-     * Ticks all grave when this building manager receives a tick.
+     * Updates the graves which reached their next decay stage, and the ones waiting for their chunk to load.
      *
      * @param colony the colony which is being ticked.
      */
     @Override
     public void onColonyTick(final IColony colony)
     {
-        for (final Iterator<BlockPos> iterator = graves.keySet().iterator(); iterator.hasNext(); )
+        if (!waitingForLoad.isEmpty())
         {
-            final BlockPos pos = iterator.next();
-            if (!WorldUtil.isBlockLoaded(colony.getWorld(), pos))
+            final LongList loadedChunks = new LongArrayList();
+            for (final long chunk : waitingForLoad.keySet())
             {
-                continue;
+                if (WorldUtil.isChunkLoaded(colony.getWorld(), ChunkPos.getX(chunk), ChunkPos.getZ(chunk)))
+                {
+                    loadedChunks.add(chunk);
+                }
             }
 
-            final BlockEntity graveEntity = colony.getWorld().getBlockEntity(pos);
-            if (!(graveEntity instanceof TileEntityGrave))
+            for (final long chunk : loadedChunks)
+            {
+                for (final BlockPos pos : waitingForLoad.remove(chunk))
+                {
+                    if (graves.containsKey(pos))
+                    {
+                        updateGrave(pos);
+                    }
+                }
+            }
+        }
+
+        final long gameTime = colony.getWorld().getGameTime();
+        while (!expiryQueue.isEmpty() && expiryQueue.peek().gameTime() <= gameTime)
+        {
+            final GraveExpiry expiry = expiryQueue.poll();
+            final Long expiryTime = expiryTimes.get(expiry.pos());
+            if (!graves.containsKey(expiry.pos()) || expiryTime == null || expiryTime != expiry.gameTime())
             {
-                iterator.remove();
-                colony.markDirty();
                 continue;
             }
 
-            if (!((TileEntityGrave) graveEntity).onColonyTick(MAX_TICKRATE))
+            if (WorldUtil.isBlockLoaded(colony.getWorld(), expiry.pos()))
             {
-                iterator.remove();
-                colony.markDirty();
+                updateGrave(expiry.pos());
             }
+            else
+            {
+                waitingForLoad.computeIfAbsent(ChunkPos.asLong(expiry.pos().getX() >> 4, expiry.pos().getZ() >> 4), chunk -> new HashSet<>()).add(expiry.pos());
+            }
+        }
+    }
+
+    /**
+     * Catch up the decay of a loaded grave and schedule its next expiry, removes the grave if it is gone.
+     *
+     * @param pos the position of the grave.
+     * @return true if the grave still exists.
+     */
+    private boolean updateGrave(@NotNull final BlockPos pos)
+    {
+        final BlockEntity graveEntity = colony.getWorld().getBlockEntity(pos);
+        if (!(graveEntity instanceof TileEntityGrave) || !((TileEntityGrave) graveEntity).updateDecay())
+        {
+            removeGrave(pos);
+            return false;
+        }
+
+        scheduleExpiry(pos, ((TileEntityGrave) graveEntity).getDecayGameTime());
+        return true;
+    }
+
+    /**
+     * Set the game time a grave reaches its next decay stage at.
+     *
+     * @param pos      the position of the grave.
+     * @param gameTime the game time.
+     */
+    private void scheduleExpiry(@NotNull final BlockPos pos, final long gameTime)
+    {
+        final Long previous = expiryTimes.put(pos, gameTime);
+        if (previous == null || previous != gameTime)
+        {
+            expiryQueue.add(new GraveExpiry(gameTime, pos));
         }
     }
 
@@ -164,6 +241,8 @@ public class GraveManager implements IGraveManager
         }
 
         graves.put(pos, false);
+        graveEntity.updateDecay();
+        scheduleExpiry(pos, graveEntity.getDecayGameTime());
         colony.markDirty();
         return true;
     }
@@ -177,6 +256,7 @@ public class GraveManager implements IGraveManager
     public void removeGrave(@NotNull final BlockPos pos)
     {
         graves.remove(pos);
+        expiryTimes.remove(pos);
         colony.markDirty();
     }
 
@@ -219,19 +299,12 @@ public class GraveManager implements IGraveManager
     {
         for (@NotNull final BlockPos pos : new ArrayList<>(graves.keySet()))
         {
-            if (!WorldUtil.isBlockLoaded(colony.getWorld(), pos))
-            {
-                continue;
-            }
-
-            final BlockEntity graveEntity = colony.getWorld().getBlockEntity(pos);
-            if (!(graveEntity instanceof TileEntityGrave))
+            if (!WorldUtil.isBlockLoaded(colony.getWorld(), pos) || graves.get(pos))
             {
-                graves.remove(pos);
                 continue;
             }
 
-            if (reserveGrave(pos))
+            if (updateGrave(pos) && reserveGrave(pos))
             {
                 return pos;
             }
@@ -318,4 +391,14 @@ public class GraveManager implements IGraveManager
             InventoryUtils.dropItemHandler(citizenData.getInventory(), world, pos.getX(), pos.getY(), pos.getZ());
         }
     }
+
+    /**
+     * A scheduled expiry of a grave.
+     *
+     * @param gameTime the game time the grave reaches its next decay stage at.
+     * @param pos      the position of the grave.
+     */
+    private record GraveExpiry(long gameTime, BlockPos pos)
+    {
+    }
 }
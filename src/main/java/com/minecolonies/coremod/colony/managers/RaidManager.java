@@ -15,9 +15,6 @@ import com.minecolonies.api.util.MessageUtils;
 import com.minecolonies.api.util.WorldUtil;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.Colony;
-import com.minecolonies.coremod.colony.buildings.modules.LivingBuildingModule;
-import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingGuardTower;
-import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingTownHall;
 import com.minecolonies.coremod.colony.colonyEvents.raidEvents.HordeRaidEvent;
 import com.minecolonies.coremod.colony.colonyEvents.raidEvents.amazonevent.AmazonRaidEvent;
 import com.minecolonies.coremod.colony.colonyEvents.raidEvents.barbarianEvent.BarbarianRaidEvent;
@@ -30,8 +27,6 @@ import com.minecolonies.coremod.colony.colonyEvents.raidEvents.pirateEvent.Pirat
 import com.minecolonies.coremod.colony.colonyEvents.raidEvents.pirateEvent.ShipBasedRaiderUtils;
 import com.minecolonies.coremod.colony.colonyEvents.raidEvents.pirateEvent.ShipSize;
 import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
-import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
-import com.minecolonies.coremod.entity.pathfinding.pathjobs.PathJobRaiderPathing;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
 import net.minecraft.nbt.CompoundTag;
@@ -64,11 +59,6 @@ public class RaidManager implements IRaiderManager
      */
     public static final double SPAWN_MODIFIER = 60;
 
-    /**
-     * Min distance to keep while spawning near buildings
-     */
-    private static final int MIN_BUILDING_SPAWN_DIST = 35;
-
     /**
      * Different biome ids.
      */
@@ -204,6 +194,11 @@ public class RaidManager implements IRaiderManager
      */
     private String nextForcedType = INITIAL_NEXT_RAID_TYPE;
 
+    /**
+     * Plans spawn points and approach paths ahead of the raid.
+     */
+    private final RaidPlanner planner;
+
     /**
      * Creates the RaidManager for a colony.
      *
@@ -212,6 +207,7 @@ public class RaidManager implements IRaiderManager
     public RaidManager(final Colony colony)
     {
         this.colony = colony;
+        this.planner = new RaidPlanner(colony, this);
     }
 
     @Override
@@ -291,18 +287,20 @@ public class RaidManager implements IRaiderManager
         // Splits into multiple raids if too large
         final int raidCount = Math.max(1, amount / BIG_HORDE_SIZE);
 
-        final Set<BlockPos> spawnPoints = new HashSet<>();
+        // Spawn point to approach path, planned ahead where possible
+        final Map<BlockPos, PathResult> spawnPoints = new HashMap<>();
 
         for (int i = 0; i < raidCount; i++)
         {
-            final BlockPos targetSpawnPoint = calculateSpawnLocation();
+            final RaidPlanner.PlannedApproach approach = planner.takeApproach();
+            final BlockPos targetSpawnPoint = approach == null ? calculateSpawnLocation() : approach.spawnPoint();
             if (targetSpawnPoint == null || targetSpawnPoint.equals(colony.getCenter()) || targetSpawnPoint.getY() > MineColonies.getConfig().getServer().maxYForBarbarians.get()
-                  || !colony.getWorld().getWorldBorder().isWithinBounds(targetSpawnPoint))
+                  || !colony.getWorld().getWorldBorder().isWithinBounds(targetSpawnPoint) || spawnPoints.containsKey(targetSpawnPoint))
             {
                 continue;
             }
 
-            spawnPoints.add(targetSpawnPoint);
+            spawnPoints.put(targetSpawnPoint, approach == null ? null : approach.path());
         }
 
         if (spawnPoints.isEmpty())
@@ -314,8 +312,10 @@ public class RaidManager implements IRaiderManager
         raidTonight = false;
         amount = (int) Math.ceil((float) amount / spawnPoints.size());
 
-        for (final BlockPos targetSpawnPoint : spawnPoints)
+        for (final Map.Entry<BlockPos, PathResult> spawnEntry : spawnPoints.entrySet())
         {
+            final BlockPos targetSpawnPoint = spawnEntry.getKey();
+            final PathResult spawnPath = spawnEntry.getValue() == null ? planner.createSpawnPath(targetSpawnPoint) : spawnEntry.getValue();
             if (MineColonies.getConfig().getServer().enableInDevelopmentFeatures.get())
             {
                 MessageUtils.format(Component.literal("Horde Spawn Point: " + targetSpawnPoint)).sendTo(colony).forAllPlayers();
@@ -343,7 +343,7 @@ public class RaidManager implements IRaiderManager
                 event.setSpawnPoint(targetSpawnPoint);
                 event.setShipSize(ShipSize.getShipForRaiderAmount(amount));
                 event.setShipRotation(shipRotation);
-                event.setSpawnPath(createSpawnPath(targetSpawnPoint));
+                event.setSpawnPath(spawnPath);
                 colony.getEventManager().addEvent(event);
             }
             else if (ShipBasedRaiderUtils.canSpawnShipAt(colony, targetSpawnPoint, amount, shipRotation, PirateRaidEvent.SHIP_NAME)
@@ -353,7 +353,7 @@ public class RaidManager implements IRaiderManager
                 event.setSpawnPoint(targetSpawnPoint);
                 event.setShipSize(ShipSize.getShipForRaiderAmount(amount));
                 event.setShipRotation(shipRotation);
-                event.setSpawnPath(createSpawnPath(targetSpawnPoint));
+                event.setSpawnPath(spawnPath);
                 colony.getEventManager().addEvent(event);
             }
             else
@@ -386,7 +386,7 @@ public class RaidManager implements IRaiderManager
                 event.setSpawnPoint(targetSpawnPoint);
                 event.setHorde(new Horde(amount));
 
-                event.setSpawnPath(createSpawnPath(targetSpawnPoint));
+                event.setSpawnPath(spawnPath);
                 colony.getEventManager().addEvent(event);
             }
 
@@ -395,19 +395,10 @@ public class RaidManager implements IRaiderManager
         colony.markDirty();
     }
 
-    /**
-     * Creates and starts the pathjob towards this spawnpoint
-     *
-     * @param targetSpawnPoint
-     * @return
-     */
-    private PathResult createSpawnPath(final BlockPos targetSpawnPoint)
+    @Override
+    public void onColonyTick(@NotNull final IColony colony)
     {
-        final BlockPos closestBuildingPos = colony.getBuildingManager().getBestBuilding(targetSpawnPoint, IBuilding.class);
-        final PathJobRaiderPathing job =
-          new PathJobRaiderPathing(new ArrayList<>(colony.getBuildingManager().getBuildings().values()), colony.getWorld(), closestBuildingPos, targetSpawnPoint, 200);
-        job.getResult().startJob(Pathfinding.getExecutor());
-        return job.getResult();
+        planner.onColonyTick();
     }
 
     /**
@@ -499,7 +490,7 @@ public class RaidManager implements IRaiderManager
     {
         BlockPos spawnPos = new BlockPos(start);
         Vec3 tempPos = new Vec3(spawnPos.getX(), spawnPos.getY(), spawnPos.getZ());
-        final Collection<IBuilding> buildings = colony.getBuildingManager().getBuildings().values();
+        final RaidPlanner.SpawnValidator validator = planner.getValidator();
 
         final int xDiff = Math.abs(start.getX() - advancePos.getX());
         final int zDiff = Math.abs(start.getZ() - advancePos.getZ());
@@ -517,7 +508,7 @@ public class RaidManager implements IRaiderManager
 
                 if (WorldUtil.isEntityBlockLoaded(colony.getWorld(), new BlockPos(tempPos)))
                 {
-                    if (isValidSpawnPoint(buildings, new BlockPos(tempPos)))
+                    if (validator.isValid(new BlockPos(tempPos)))
                     {
                         spawnPos = new BlockPos(tempPos);
                         validChunkCount++;
@@ -554,40 +545,7 @@ public class RaidManager implements IRaiderManager
      */
     public static boolean isValidSpawnPoint(final Collection<IBuilding> buildings, final BlockPos spawnPos)
     {
-        for (final IBuilding building : buildings)
-        {
-            if (building.getBuildingLevel() == 0)
-            {
-                continue;
-            }
-
-            int minDist = MIN_BUILDING_SPAWN_DIST;
-
-            // Additional raid protection for certain buildings, towers can be used now to deal with unlucky - inwall spawns
-            if (building instanceof BuildingGuardTower)
-            {
-                minDist += building.getBuildingLevel() * 7;
-            }
-            else if (building.hasModule(LivingBuildingModule.class))
-            {
-                minDist += building.getBuildingLevel() * 4;
-            }
-            else if (building instanceof BuildingTownHall)
-            {
-                minDist += building.getBuildingLevel() * 8;
-            }
-            else
-            {
-                minDist += building.getBuildingLevel() * 2;
-            }
-
-            if (BlockPosUtil.getDistance2D(building.getPosition(), spawnPos) < minDist)
-            {
-                return false;
-            }
-        }
-
-        return true;
+        return RaidPlanner.SpawnValidator.of(buildings).isValid(spawnPos);
     }
 
     @Override
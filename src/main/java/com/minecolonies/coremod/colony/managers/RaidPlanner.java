@@ -0,0 +1,312 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.entity.pathfinding.PathResult;
+import com.minecolonies.api.util.WorldUtil;
+import com.minecolonies.coremod.colony.buildings.modules.LivingBuildingModule;
+import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingGuardTower;
+import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingTownHall;
+import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
+import com.minecolonies.coremod.entity.pathfinding.pathjobs.PathJobRaiderPathing;
+import net.minecraft.core.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Plans raids while the colony is idle: keeps a small pool of validated spawn points together with their precomputed approach paths, which the raiders of a wave share as
+ * corridor. The plan is thrown away whenever the buildings of the colony change.
+ */
+public class RaidPlanner
+{
+    /**
+     * The amount of approaches to keep ready.
+     */
+    private static final int PLANNED_APPROACHES = 4;
+
+    /**
+     * Min distance of a spawn point to any building.
+     */
+    private static final int MIN_BUILDING_SPAWN_DIST = 35;
+
+    /**
+     * Max range of the raider approach path jobs.
+     */
+    private static final int APPROACH_PATH_RANGE = 200;
+
+    /**
+     * The colony of the planner.
+     */
+    private final IColony colony;
+
+    /**
+     * The raid manager calculating spawn points.
+     */
+    private final RaidManager raidManager;
+
+    /**
+     * Fingerprint of the buildings the plan was made for.
+     */
+    private int buildingFingerprint = 0;
+
+    /**
+     * Spawn point validator for the current buildings.
+     */
+    private SpawnValidator validator = new SpawnValidator(new int[0], new int[0], new int[0]);
+
+    /**
+     * The approaches ready to be used.
+     */
+    private final List<PlannedApproach> approaches = new ArrayList<>();
+
+    /**
+     * The approach whose path is still being calculated, only one at a time to not flood the path queue.
+     */
+    @Nullable
+    private PlannedApproach pending = null;
+
+    /**
+     * Create the planner.
+     *
+     * @param colony      the colony.
+     * @param raidManager the raid manager of the colony.
+     */
+    public RaidPlanner(final IColony colony, final RaidManager raidManager)
+    {
+        this.colony = colony;
+        this.raidManager = raidManager;
+    }
+
+    /**
+     * Refines the plan by a single step, called on the slow colony tick while the colony is not raided and raids are possible.
+     */
+    public void onColonyTick()
+    {
+        if (colony.getWorld() == null || raidManager.isRaided() || !raidManager.canRaid())
+        {
+            return;
+        }
+
+        updateValidator();
+
+        if (pending != null)
+        {
+            if (!pending.path().isDone())
+            {
+                return;
+            }
+
+            if (pending.path().getPath() != null)
+            {
+                approaches.add(pending);
+            }
+            pending = null;
+            return;
+        }
+
+        if (approaches.size() >= PLANNED_APPROACHES)
+        {
+            return;
+        }
+
+        final BlockPos spawnPoint = raidManager.calculateSpawnLocation();
+        if (spawnPoint != null)
+        {
+            pending = new PlannedApproach(spawnPoint, createSpawnPath(spawnPoint));
+        }
+    }
+
+    /**
+     * Take a planned approach whose spawn point is loaded and still valid for the current buildings.
+     *
+     * @return the approach or null if none is ready.
+     */
+    @Nullable
+    public PlannedApproach takeApproach()
+    {
+        updateValidator();
+        while (!approaches.isEmpty())
+        {
+            final PlannedApproach approach = approaches.remove(colony.getWorld().random.nextInt(approaches.size()));
+            if (WorldUtil.isEntityBlockLoaded(colony.getWorld(), approach.spawnPoint()) && validator.isValid(approach.spawnPoint()))
+            {
+                return approach;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the spawn point validator for the current buildings.
+     *
+     * @return the validator.
+     */
+    public SpawnValidator getValidator()
+    {
+        updateValidator();
+        return validator;
+    }
+
+    /**
+     * Creates and starts the path job towards this spawn point.
+     *
+     * @param targetSpawnPoint the spawn point.
+     * @return the path result.
+     */
+    public PathResult createSpawnPath(final BlockPos targetSpawnPoint)
+    {
+        final BlockPos closestBuildingPos = colony.getBuildingManager().getBestBuilding(targetSpawnPoint, IBuilding.class);
+        final PathJobRaiderPathing job = new PathJobRaiderPathing(getValidator(), colony.getWorld(), closestBuildingPos, targetSpawnPoint, APPROACH_PATH_RANGE);
+        job.getResult().startJob(Pathfinding.getExecutor());
+        return job.getResult();
+    }
+
+    /**
+     * Rebuild the validator and drop the plan if the buildings changed since the last check.
+     */
+    private void updateValidator()
+    {
+        final Collection<IBuilding> buildings = colony.getBuildingManager().getBuildings().values();
+        int fingerprint = buildings.size();
+        for (final IBuilding building : buildings)
+        {
+            fingerprint = 31 * fingerprint + building.getPosition().hashCode() * 7 + building.getBuildingLevel();
+        }
+
+        if (fingerprint != buildingFingerprint)
+        {
+            buildingFingerprint = fingerprint;
+            validator = SpawnValidator.of(buildings);
+            approaches.clear();
+            pending = null;
+        }
+    }
+
+    /**
+     * Get the min distance a raid has to spawn away from the given building.
+     *
+     * @param building the building.
+     * @return the min distance, 0 if the building does not protect.
+     */
+    public static int getMinSpawnDistance(final IBuilding building)
+    {
+        if (building.getBuildingLevel() == 0)
+        {
+            return 0;
+        }
+
+        int minDist = MIN_BUILDING_SPAWN_DIST;
+
+        // Additional raid protection for certain buildings, towers can be used now to deal with unlucky - inwall spawns
+        if (building instanceof BuildingGuardTower)
+        {
+            minDist += building.getBuildingLevel() * 7;
+        }
+        else if (building.hasModule(LivingBuildingModule.class))
+        {
+            minDist += building.getBuildingLevel() * 4;
+        }
+        else if (building instanceof BuildingTownHall)
+        {
+            minDist += building.getBuildingLevel() * 8;
+        }
+        else
+        {
+            minDist += building.getBuildingLevel() * 2;
+        }
+        return minDist;
+    }
+
+    /**
+     * A validated spawn point with its approach path.
+     *
+     * @param spawnPoint the spawn point.
+     * @param path       the approach path towards the closest building.
+     */
+    public record PlannedApproach(BlockPos spawnPoint, PathResult path)
+    {
+    }
+
+    /**
+     * Immutable snapshot of the building spawn protection zones, safe to use from the pathfinding threads.
+     */
+    public static final class SpawnValidator
+    {
+        /**
+         * Building x coordinates.
+         */
+        private final int[] xs;
+
+        /**
+         * Building z coordinates.
+         */
+        private final int[] zs;
+
+        /**
+         * Min spawn distance per building.
+         */
+        private final int[] minDists;
+
+        /**
+         * Create a new validator.
+         *
+         * @param xs       the building x coordinates.
+         * @param zs       the building z coordinates.
+         * @param minDists the min distance per building.
+         */
+        private SpawnValidator(final int[] xs, final int[] zs, final int[] minDists)
+        {
+            this.xs = xs;
+            this.zs = zs;
+            this.minDists = minDists;
+        }
+
+        /**
+         * Create the validator for a set of buildings.
+         *
+         * @param buildings the buildings.
+         * @return the validator.
+         */
+        public static SpawnValidator of(@NotNull final Collection<IBuilding> buildings)
+        {
+            final int[] xs = new int[buildings.size()];
+            final int[] zs = new int[buildings.size()];
+            final int[] minDists = new int[buildings.size()];
+            int index = 0;
+            for (final IBuilding building : buildings)
+            {
+                final int minDist = getMinSpawnDistance(building);
+                if (minDist > 0)
+                {
+                    xs[index] = building.getPosition().getX();
+                    zs[index] = building.getPosition().getZ();
+                    minDists[index] = minDist;
+                    index++;
+                }
+            }
+            return new SpawnValidator(xs, zs, minDists);
+        }
+
+        /**
+         * Determines whether the given spawn point is allowed.
+         *
+         * @param spawnPos the spawn point to check.
+         * @return true if valid.
+         */
+        public boolean isValid(final BlockPos spawnPos)
+        {
+            for (int i = 0; i < minDists.length; i++)
+            {
+                if (minDists[i] > 0 && Math.abs((long) xs[i] - spawnPos.getX()) + Math.abs((long) zs[i] - spawnPos.getZ()) < minDists[i])
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
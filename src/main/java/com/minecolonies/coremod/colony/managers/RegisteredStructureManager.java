@@ -11,6 +11,7 @@ import com.minecolonies.api.colony.buildings.workerbuildings.ITownHall;
 import com.minecolonies.api.colony.buildings.workerbuildings.IWareHouse;
 import com.minecolonies.api.colony.managers.interfaces.IRegisteredStructureManager;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import com.minecolonies.api.quests.QuestTriggerSignal;
 import com.minecolonies.api.tileentities.AbstractScarecrowTileEntity;
 import com.minecolonies.api.tileentities.AbstractTileEntityColonyBuilding;
 import com.minecolonies.api.util.BlockPosUtil;
@@ -635,6 +636,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
             }
 
             buildings = builder.build();
+            colony.getQuestManager().onSignal(QuestTriggerSignal.BUILDINGS);
 
             for (final ServerPlayer player : subscribers)
             {
@@ -816,6 +818,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     private void addBuilding(@NotNull final IBuilding building)
     {
         buildings = new ImmutableMap.Builder<BlockPos, IBuilding>().putAll(buildings).put(building.getID(), building).build();
+        colony.getQuestManager().onSignal(QuestTriggerSignal.BUILDINGS);
 
         building.markDirty();
 
@@ -855,7 +858,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
             {
                 if (building.isDirty() || !newSubscribers.isEmpty())
                 {
-                    players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewBuildingViewMessage(building), player));
+                    Network.getNetwork().sendToPlayers(new ColonyViewBuildingViewMessage(building), players);
                 }
             }
         }
@@ -881,7 +884,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
             {
                 if (building instanceof BuildingFarmer)
                 {
-                    players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewBuildingViewMessage(building), player));
+                    Network.getNetwork().sendToPlayers(new ColonyViewBuildingViewMessage(building), players);
                 }
             }
         }
@@ -937,6 +940,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
         if (building != null)
         {
             colony.getCitizenManager().calculateMaxCitizens();
+            colony.getQuestManager().onSignal(QuestTriggerSignal.BUILDINGS);
             markBuildingsDirty();
         }
     }
@@ -0,0 +1,272 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.api.colony.ICitizenData;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.managers.interfaces.IThreatManager;
+import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import com.minecolonies.api.entity.combat.threat.IThreatTableEntity;
+import com.minecolonies.api.entity.combat.threat.ThreatTableEntry;
+import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
+import com.minecolonies.coremod.util.EntityTracker;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.monster.Enemy;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.registries.ForgeRegistries;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Keeps the colony wide threat map, refreshed at a fixed interval around the guards of the colony, and caches line of sight checks between guards and threats.
+ */
+public class ThreatManager implements IThreatManager
+{
+    /**
+     * Horizontal range around each guard section in which threats are collected.
+     */
+    private static final int THREAT_RANGE = 40;
+
+    /**
+     * Vertical range around each guard section in which threats are collected.
+     */
+    private static final int THREAT_Y_RANGE = 36;
+
+    /**
+     * How long a line of sight result is reused, in ticks.
+     */
+    private static final int LINE_OF_SIGHT_TTL = 20;
+
+    /**
+     * The colony of the manager.
+     */
+    private final IColony colony;
+
+    /**
+     * The threats at the last refresh.
+     */
+    private List<ThreatEntry> threats = Collections.emptyList();
+
+    /**
+     * The threat entries by threat entity.
+     */
+    private Map<LivingEntity, ThreatEntry> threatsByEntity = Collections.emptyMap();
+
+    /**
+     * Cached line of sight results by observer section and target.
+     */
+    private final Map<SightKey, SightResult> lineOfSightCache = new HashMap<>();
+
+    /**
+     * Creates the threat manager for a colony.
+     *
+     * @param colony the colony.
+     */
+    public ThreatManager(final IColony colony)
+    {
+        this.colony = colony;
+    }
+
+    @Override
+    public boolean tick()
+    {
+        final Level world = colony.getWorld();
+        if (world == null)
+        {
+            return false;
+        }
+
+        final long gameTime = world.getGameTime();
+        lineOfSightCache.values().removeIf(result -> result.expiresAt() <= gameTime);
+
+        final LongSet guardSections = new LongOpenHashSet();
+        final Set<LivingEntity> attackers = new HashSet<>();
+        for (final ICitizenData data : colony.getCitizenManager().getCitizensByJob(AbstractJobGuard.class))
+        {
+            data.getEntity().ifPresent(entity -> {
+                guardSections.add(SectionPos.asLong(entity.blockPosition()));
+                if (entity.getLastHurtByMob() != null)
+                {
+                    attackers.add(entity.getLastHurtByMob());
+                }
+            });
+        }
+
+        if (guardSections.isEmpty())
+        {
+            threats = Collections.emptyList();
+            threatsByEntity = Collections.emptyMap();
+            return false;
+        }
+
+        final Set<LivingEntity> found = new HashSet<>();
+        final EntityTracker tracker = EntityTracker.get(world);
+        for (final long section : guardSections)
+        {
+            final BlockPos center = SectionPos.of(section).center();
+            final AABB area = new AABB(center).inflate(THREAT_RANGE, THREAT_Y_RANGE, THREAT_RANGE);
+            for (final LivingEntity entity : tracker.getEntitiesOfClass(LivingEntity.class, area))
+            {
+                if (entity.isAlive() && (attackers.contains(entity) || isPotentialThreat(entity)))
+                {
+                    found.add(entity);
+                }
+            }
+        }
+
+        final List<ThreatEntry> newThreats = new ArrayList<>(found.size());
+        final Map<LivingEntity, ThreatEntry> newThreatsByEntity = new HashMap<>();
+        for (final LivingEntity entity : found)
+        {
+            final LivingEntity target = getCurrentTarget(entity);
+            final ThreatEntry entry = new ThreatEntry(entity,
+              entity.position(),
+              target,
+              target instanceof AbstractEntityCitizen && ((AbstractEntityCitizen) target).getCitizenColonyHandler().getColonyId() == colony.getID());
+            newThreats.add(entry);
+            newThreatsByEntity.put(entity, entry);
+        }
+
+        threats = newThreats;
+        threatsByEntity = newThreatsByEntity;
+        return false;
+    }
+
+    @Override
+    public List<LivingEntity> getThreats(@NotNull final AABB area)
+    {
+        final List<LivingEntity> result = new ArrayList<>();
+        for (final ThreatEntry entry : threats)
+        {
+            if (entry.entity().isAlive() && area.contains(entry.position()))
+            {
+                result.add(entry.entity());
+            }
+        }
+        return result;
+    }
+
+    @Nullable
+    @Override
+    public LivingEntity getThreatTarget(@NotNull final LivingEntity threat)
+    {
+        final ThreatEntry entry = threatsByEntity.get(threat);
+        return entry == null ? null : entry.target();
+    }
+
+    @Override
+    public boolean isAttackingColony(@NotNull final LivingEntity threat)
+    {
+        final ThreatEntry entry = threatsByEntity.get(threat);
+        return entry != null && entry.attackingColony();
+    }
+
+    @Override
+    public boolean hasLineOfSight(@NotNull final Mob observer, @NotNull final LivingEntity target)
+    {
+        final long gameTime = observer.level.getGameTime();
+        final SightKey key = new SightKey(SectionPos.asLong(observer.blockPosition()), target.getId());
+        final SightResult cached = lineOfSightCache.get(key);
+        if (cached != null && cached.expiresAt() > gameTime)
+        {
+            return cached.visible();
+        }
+
+        final boolean visible = observer.getSensing().hasLineOfSight(target);
+        lineOfSightCache.put(key, new SightResult(visible, gameTime + LINE_OF_SIGHT_TTL));
+        return visible;
+    }
+
+    /**
+     * Check if an entity could be a threat to the colony. Anything which attacked a guard is a threat as well. The guards still apply their own target rules on top of this.
+     *
+     * @param entity the entity to check.
+     * @return true if it should be part of the threat map.
+     */
+    private boolean isPotentialThreat(final LivingEntity entity)
+    {
+        if (!entity.isAlive())
+        {
+            return false;
+        }
+
+        if (entity instanceof Enemy || entity instanceof Player)
+        {
+            return true;
+        }
+
+        if (entity instanceof AbstractEntityCitizen)
+        {
+            return ((AbstractEntityCitizen) entity).getCitizenColonyHandler().getColonyId() != colony.getID();
+        }
+
+        return IColonyManager.getInstance().getCompatibilityManager().getAllMonsters().contains(ForgeRegistries.ENTITY_TYPES.getKey(entity.getType()));
+    }
+
+    /**
+     * Get the entity a threat is currently attacking.
+     *
+     * @param entity the threat.
+     * @return the attacked entity or null.
+     */
+    @Nullable
+    private static LivingEntity getCurrentTarget(final LivingEntity entity)
+    {
+        if (entity instanceof IThreatTableEntity)
+        {
+            final ThreatTableEntry entry = ((IThreatTableEntity) entity).getThreatTable().getTarget();
+            if (entry != null)
+            {
+                return entry.getEntity();
+            }
+        }
+
+        if (entity instanceof Mob)
+        {
+            return ((Mob) entity).getTarget();
+        }
+
+        return entity.getLastHurtMob();
+    }
+
+    /**
+     * A threat at the last refresh.
+     *
+     * @param entity          the threatening entity.
+     * @param position        its position at the refresh.
+     * @param target          the entity it was attacking.
+     * @param attackingColony whether it was attacking a citizen of this colony.
+     */
+    private record ThreatEntry(LivingEntity entity, Vec3 position, @Nullable LivingEntity target, boolean attackingColony)
+    {
+    }
+
+    /**
+     * Key of a cached line of sight check.
+     *
+     * @param section  the section of the observer.
+     * @param targetId the entity id of the target.
+     */
+    private record SightKey(long section, int targetId)
+    {
+    }
+
+    /**
+     * A cached line of sight result.
+     *
+     * @param visible   whether the target was visible.
+     * @param expiresAt the game time this result expires at.
+     */
+    private record SightResult(boolean visible, long expiresAt)
+    {
+    }
+}
@@ -13,6 +13,9 @@ import com.minecolonies.coremod.Network;
 import com.minecolonies.coremod.colony.VisitorData;
 import com.minecolonies.coremod.entity.citizen.VisitorCitizen;
 import com.minecolonies.coremod.network.messages.client.colony.ColonyVisitorViewDataMessage;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.ints.IntSets;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.Tag;
@@ -55,6 +58,16 @@ public class VisitorManager implements IVisitorManager
      */
     private final IColony colony;
 
+    /**
+     * Visitors created since the last sync.
+     */
+    private IntSet addedVisitors = new IntOpenHashSet();
+
+    /**
+     * Visitors removed since the last sync.
+     */
+    private IntSet removedVisitors = new IntOpenHashSet();
+
     /**
      * The next free ID
      */
@@ -147,43 +160,30 @@ public class VisitorManager implements IVisitorManager
     @Override
     public void sendPackets(@NotNull final Set<ServerPlayer> closeSubscribers, @NotNull final Set<ServerPlayer> newSubscribers)
     {
-        Set<ServerPlayer> players = new HashSet<>(newSubscribers);
-        players.addAll(closeSubscribers);
-        Set<IVisitorData> toSend = new HashSet<>();
-        boolean refresh = !newSubscribers.isEmpty() || this.isDirty;
-
-        if (refresh)
-        {
-            toSend = new HashSet<>(visitorMap.values());
-            for (final IVisitorData data : visitorMap.values())
-            {
-                data.clearDirty();
-            }
-            this.clearDirty();
-        }
-        else
+        final Set<IVisitorData> changed = new HashSet<>();
+        for (final IVisitorData data : visitorMap.values())
         {
-            for (final IVisitorData data : visitorMap.values())
+            if (data.isDirty() || addedVisitors.contains(data.getId()))
             {
-                if (data.isDirty())
-                {
-                    toSend.add(data);
-                }
-                data.clearDirty();
+                changed.add(data);
             }
+            data.clearDirty();
         }
 
-        if (toSend.isEmpty())
+        // New subscribers get a full snapshot, the others only the changes.
+        if (!newSubscribers.isEmpty())
         {
-            return;
+            Network.getNetwork().sendToPlayers(new ColonyVisitorViewDataMessage(colony, new HashSet<>(visitorMap.values()), true, IntSets.EMPTY_SET), newSubscribers);
         }
 
-        final ColonyVisitorViewDataMessage message = new ColonyVisitorViewDataMessage(colony, toSend, refresh);
-
-        for (final ServerPlayer player : players)
+        if (!changed.isEmpty() || !removedVisitors.isEmpty())
         {
-            Network.getNetwork().sendToPlayer(message, player);
+            final Set<ServerPlayer> players = new HashSet<>(closeSubscribers);
+            players.removeAll(newSubscribers);
+            Network.getNetwork().sendToPlayers(new ColonyVisitorViewDataMessage(colony, changed, false, removedVisitors), players);
         }
+
+        this.clearDirty();
     }
 
     @NotNull
@@ -240,6 +240,7 @@ public class VisitorManager implements IVisitorManager
         final IVisitorData data = new VisitorData(nextVisitorID--, colony);
         data.initForNewCivilian();
         visitorMap.put(data.getId(), data);
+        addedVisitors.add(data.getId());
         return data;
     }
 
@@ -247,9 +248,14 @@ public class VisitorManager implements IVisitorManager
     public void removeCivilian(@NotNull final ICivilianData citizen)
     {
         final IVisitorData data = visitorMap.remove(citizen.getId());
-        if (data != null && data.getEntity().isPresent())
+        if (data != null)
         {
-            data.getEntity().get().remove(Entity.RemovalReason.DISCARDED);
+            removedVisitors.add(data.getId());
+            addedVisitors.remove(data.getId());
+            if (data.getEntity().isPresent())
+            {
+                data.getEntity().get().remove(Entity.RemovalReason.DISCARDED);
+            }
         }
     }
 
@@ -259,10 +265,22 @@ public class VisitorManager implements IVisitorManager
         this.isDirty = true;
     }
 
+    /**
+     * Clears the dirty state and the pending changes, also called while nobody is subscribed, new subscribers get a full snapshot anyway.
+     */
     @Override
     public void clearDirty()
     {
         this.isDirty = false;
+        if (!addedVisitors.isEmpty())
+        {
+            addedVisitors = new IntOpenHashSet();
+        }
+        if (!removedVisitors.isEmpty())
+        {
+            removedVisitors = new IntOpenHashSet();
+        }
+        visitorMap.values().forEach(IVisitorData::clearDirty);
     }
 
     @Override
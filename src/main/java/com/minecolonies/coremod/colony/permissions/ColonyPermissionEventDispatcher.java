@@ -0,0 +1,369 @@
+package com.minecolonies.coremod.colony.permissions;
+
+import com.minecolonies.api.blocks.AbstractBlockHut;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.IColonyTagCapability;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.colony.permissions.Explosions;
+import com.minecolonies.api.util.EntityUtils;
+import com.minecolonies.coremod.MineColonies;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.entity.citizen.EntityCitizen;
+import it.unimi.dsi.fastutil.longs.Long2BooleanMap;
+import it.unimi.dsi.fastutil.longs.Long2BooleanOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.animal.horse.Llama;
+import net.minecraft.world.entity.monster.Enemy;
+import net.minecraft.world.entity.monster.Monster;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.phys.BlockHitResult;
+import net.minecraft.world.phys.EntityHitResult;
+import net.minecraftforge.event.entity.item.ItemTossEvent;
+import net.minecraftforge.event.entity.living.LivingHurtEvent;
+import net.minecraftforge.event.entity.player.*;
+import net.minecraftforge.event.level.BlockEvent;
+import net.minecraftforge.event.level.ExplosionEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.server.ServerLifecycleHooks;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Predicate;
+
+import static com.minecolonies.api.colony.IColony.CLOSE_COLONY_CAP;
+
+/**
+ * Single listener for all colony protection events. Resolves the colony owning the position of an event once, from the chunk claim, and forwards the event to the
+ * {@link ColonyPermissionEventHandler} of that colony only.
+ */
+public final class ColonyPermissionEventDispatcher
+{
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private ColonyPermissionEventDispatcher()
+    {
+    }
+
+    /**
+     * Get the event handler of the loaded colony claiming a position.
+     *
+     * @param level the level of the event.
+     * @param pos   the position of the event.
+     * @return the handler or null if the position is not claimed by a loaded colony.
+     */
+    @Nullable
+    private static ColonyPermissionEventHandler getHandler(@Nullable final LevelAccessor level, @Nullable final BlockPos pos)
+    {
+        if (!(level instanceof Level world) || pos == null || ServerLifecycleHooks.getCurrentServer() == null)
+        {
+            return null;
+        }
+
+        final int id = world.getChunkAt(pos).getCapability(CLOSE_COLONY_CAP, null).map(IColonyTagCapability::getOwningColony).orElse(0);
+        if (id == 0)
+        {
+            return null;
+        }
+
+        return getHandler(IColonyManager.getInstance().getColonyByDimension(id, world.dimension()));
+    }
+
+    /**
+     * Get the event handler of a colony, if it is loaded.
+     *
+     * @param colony the colony.
+     * @return the handler or null.
+     */
+    @Nullable
+    private static ColonyPermissionEventHandler getHandler(@Nullable final IColony colony)
+    {
+        if (colony instanceof Colony && colony.getWorld() != null)
+        {
+            return ((Colony) colony).getEventHandler();
+        }
+        return null;
+    }
+
+    /**
+     * Get the event handler of the colony claiming the position of an entity.
+     *
+     * @param entity the entity.
+     * @return the handler or null.
+     */
+    @Nullable
+    private static ColonyPermissionEventHandler getHandler(@NotNull final Entity entity)
+    {
+        return getHandler(entity.getCommandSenderWorld(), new BlockPos(entity.position()));
+    }
+
+    /**
+     * BlockEvent.EntityPlaceEvent handler.
+     *
+     * @param event BlockEvent.EntityPlaceEvent
+     */
+    @SubscribeEvent
+    public static void on(final BlockEvent.EntityPlaceEvent event)
+    {
+        if (!(event.getEntity() instanceof Player))
+        {
+            return;
+        }
+
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntity().level, event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * BlockEvent.BreakEvent handler. Huts are handled by their own colony, even if the claim is gone.
+     *
+     * @param event BlockEvent.BreakEvent
+     */
+    @SubscribeEvent
+    public static void on(final BlockEvent.BreakEvent event)
+    {
+        if (event.getLevel().isClientSide())
+        {
+            return;
+        }
+
+        ColonyPermissionEventHandler handler = getHandler(event.getLevel(), event.getPos());
+        if (handler == null && event.getState().getBlock() instanceof AbstractBlockHut)
+        {
+            final IBuilding building = IColonyManager.getInstance().getBuilding(event.getPlayer().level, event.getPos());
+            if (building != null)
+            {
+                handler = getHandler(building.getColony());
+            }
+        }
+
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * ExplosionEvent.Detonate handler, protects the blocks and entities inside of any colony. The claim is resolved once per affected chunk and the lists are filtered
+     * in a single pass each.
+     *
+     * @param event ExplosionEvent.Detonate
+     */
+    @SubscribeEvent
+    public static void on(final ExplosionEvent.Detonate event)
+    {
+        final Explosions explosions = MineColonies.getConfig().getServer().turnOffExplosionsInColonies.get();
+        if (explosions == Explosions.DAMAGE_EVERYTHING)
+        {
+            return;
+        }
+
+        final Level eventWorld = event.getLevel();
+        final Long2BooleanMap claimedChunks = new Long2BooleanOpenHashMap();
+        final Predicate<BlockPos> getBlocksInColony = pos -> isClaimed(claimedChunks, eventWorld, pos);
+        final Predicate<Entity> getEntitiesInColony;
+        switch (explosions)
+        {
+            case DAMAGE_NOTHING:
+                // if any entity is in colony -> remove from list
+                getEntitiesInColony = entity -> getBlocksInColony.test(new BlockPos(entity.position()));
+                break;
+            case DAMAGE_PLAYERS:
+                // if non-mob or llama entity is in colony -> remove from list
+                getEntitiesInColony = entity -> (!(entity instanceof Enemy) || (entity instanceof Llama)) && getBlocksInColony.test(new BlockPos(entity.position()));
+                break;
+            default:
+                getEntitiesInColony = null;
+                break;
+        }
+
+        if (getEntitiesInColony != null)
+        {
+            event.getAffectedEntities().removeIf(entity -> !(entity instanceof ServerPlayer) && getEntitiesInColony.test(entity));
+        }
+
+        // if block is in colony -> remove from list
+        event.getAffectedBlocks().removeIf(getBlocksInColony);
+    }
+
+    /**
+     * Check if a position is claimed by a loaded colony, resolving the claim once per chunk.
+     *
+     * @param claimedChunks the already resolved chunks.
+     * @param level         the level.
+     * @param pos           the position.
+     * @return true if claimed.
+     */
+    private static boolean isClaimed(final Long2BooleanMap claimedChunks, final Level level, final BlockPos pos)
+    {
+        final long chunk = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+        if (claimedChunks.containsKey(chunk))
+        {
+            return claimedChunks.get(chunk);
+        }
+
+        final boolean claimed = getHandler(level, pos) != null;
+        claimedChunks.put(chunk, claimed);
+        return claimed;
+    }
+
+    /**
+     * ExplosionEvent.Start handler.
+     *
+     * @param event ExplosionEvent.Start
+     */
+    @SubscribeEvent
+    public static void on(final ExplosionEvent.Start event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getLevel(), new BlockPos(event.getExplosion().getPosition()));
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * PlayerInteractEvent handler.
+     *
+     * @param event PlayerInteractEvent
+     */
+    @SubscribeEvent
+    public static void on(final PlayerInteractEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getLevel(), event.getPos());
+        if (handler == null)
+        {
+            return;
+        }
+
+        handler.on(event);
+        if (event instanceof PlayerInteractEvent.EntityInteract entityInteract)
+        {
+            handler.on(entityInteract);
+        }
+        else if (event instanceof PlayerInteractEvent.EntityInteractSpecific entityInteractSpecific)
+        {
+            handler.on(entityInteractSpecific);
+        }
+    }
+
+    /**
+     * ItemTossEvent handler.
+     *
+     * @param event ItemTossEvent
+     */
+    @SubscribeEvent
+    public static void on(final ItemTossEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getPlayer());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * EntityItemPickupEvent handler.
+     *
+     * @param event EntityItemPickupEvent
+     */
+    @SubscribeEvent
+    public static void on(final EntityItemPickupEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntity());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * FillBucketEvent handler.
+     *
+     * @param event FillBucketEvent
+     */
+    @SubscribeEvent
+    public static void on(final FillBucketEvent event)
+    {
+        final ColonyPermissionEventHandler handler;
+        if (event.getTarget() instanceof BlockHitResult)
+        {
+            handler = getHandler(event.getEntity().getCommandSenderWorld(), ((BlockHitResult) event.getTarget()).getBlockPos());
+        }
+        else if (event.getTarget() instanceof EntityHitResult)
+        {
+            handler = getHandler(event.getEntity().getCommandSenderWorld(), new BlockPos(((EntityHitResult) event.getTarget()).getEntity().position()));
+        }
+        else
+        {
+            handler = getHandler(EntityUtils.getPlayerOfFakePlayer(event.getEntity(), event.getEntity().getCommandSenderWorld()));
+        }
+
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * ArrowLooseEvent handler.
+     *
+     * @param event ArrowLooseEvent
+     */
+    @SubscribeEvent
+    public static void on(final ArrowLooseEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntity());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * LivingHurtEvent handler, players hurt by citizens are handled by the colony of the citizen.
+     *
+     * @param event LivingHurtEvent
+     */
+    @SubscribeEvent
+    public static void on(final LivingHurtEvent event)
+    {
+        if (event.getEntity() instanceof ServerPlayer && event.getSource().getEntity() instanceof EntityCitizen citizen)
+        {
+            final ColonyPermissionEventHandler handler = getHandler(citizen.getCitizenColonyHandler().getColony());
+            if (handler != null)
+            {
+                handler.on(event);
+            }
+        }
+    }
+
+    /**
+     * AttackEntityEvent handler.
+     *
+     * @param event AttackEntityEvent
+     */
+    @SubscribeEvent
+    public static void on(final AttackEntityEvent event)
+    {
+        if (event.getTarget() instanceof Monster)
+        {
+            return;
+        }
+
+        final ColonyPermissionEventHandler handler = getHandler(EntityUtils.getPlayerOfFakePlayer(event.getEntity(), event.getEntity().getCommandSenderWorld()));
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+}
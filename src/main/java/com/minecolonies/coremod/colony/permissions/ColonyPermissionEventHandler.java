@@ -26,9 +26,7 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.BaseEntityBlock;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.Mob;
-import net.minecraft.world.entity.monster.Enemy;
 import net.minecraft.world.entity.monster.Monster;
-import net.minecraft.world.entity.animal.horse.Llama;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.item.ItemStack;
@@ -46,21 +44,18 @@ import net.minecraftforge.event.entity.player.*;
 import net.minecraftforge.event.level.BlockEvent;
 import net.minecraftforge.event.level.ExplosionEvent;
 import net.minecraftforge.eventbus.api.Event;
-import net.minecraftforge.eventbus.api.SubscribeEvent;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.constant.TranslationConstants.PERMISSION_DENIED;
 
 /**
- * This class handles all permission checks on events and cancels them if needed.
+ * This class handles all permission checks on events and cancels them if needed. The events are forwarded by the {@link ColonyPermissionEventDispatcher}, only if
+ * they happen inside this colony.
  */
 public class ColonyPermissionEventHandler
 {
@@ -89,7 +84,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event BlockEvent.PlaceEvent
      */
-    @SubscribeEvent
     public void on(final BlockEvent.EntityPlaceEvent event)
     {
         final Action action = event.getPlacedBlock().getBlock() instanceof AbstractBlockHut ? Action.PLACE_HUTS : Action.PLACE_BLOCKS;
@@ -120,20 +114,16 @@ public class ColonyPermissionEventHandler
         if (entity instanceof Player)
         {
             @NotNull final Player player = EntityUtils.getPlayerOfFakePlayer((Player) entity, entity.level);
-            if (colony.isCoordInColony(entity.level, posIn))
+            if (blockState.getBlock() instanceof AbstractBlockHut
+                  && colony.getPermissions().hasPermission(player, action))
             {
-                if (blockState.getBlock() instanceof AbstractBlockHut
-                      && colony.getPermissions().hasPermission(player, action))
-                {
-                    return false;
-                }
-
-                return !colony.getPermissions().hasPermission(player, action);
+                return false;
             }
+
+            return !colony.getPermissions().hasPermission(player, action);
         }
         /*
-         * - We are not inside the colony
-         * - We are in but not denied
+         * - We are not denied
          * - The placer is not a player.
          */
         return false;
@@ -189,7 +179,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event BlockEvent.BreakEvent
      */
-    @SubscribeEvent
     public void on(final BlockEvent.BreakEvent event)
     {
         final LevelAccessor world = event.getLevel();
@@ -243,61 +232,15 @@ public class ColonyPermissionEventHandler
         }
     }
 
-    /**
-     * ExplosionEvent.Detonate handler.
-     *
-     * @param event ExplosionEvent.Detonate
-     */
-    @SubscribeEvent
-    public void on(final ExplosionEvent.Detonate event)
-    {
-        if (MineColonies.getConfig().getServer().turnOffExplosionsInColonies.get() == Explosions.DAMAGE_EVERYTHING)
-        {
-            return;
-        }
-
-        final Level eventWorld = event.getLevel();
-        final Predicate<BlockPos> getBlocksInColony = pos -> colony.isCoordInColony(eventWorld, pos);
-        Predicate<Entity> getEntitiesInColony = entity -> (!(entity instanceof Enemy) || (entity instanceof Llama))
-                                                            && colony.isCoordInColony(entity.getCommandSenderWorld(), new BlockPos(entity.position()));
-        switch(MineColonies.getConfig().getServer().turnOffExplosionsInColonies.get())
-        {
-            case DAMAGE_NOTHING:
-                // if any entity is in colony -> remove from list
-                getEntitiesInColony = entity -> colony.isCoordInColony(entity.getCommandSenderWorld(), new BlockPos(entity.position()));
-                // intentional fall-through to next case.
-            case DAMAGE_PLAYERS:
-                // if non-mob or llama entity is in colony -> remove from list
-                final List<Entity> entitiesToRemove = event.getAffectedEntities().stream()
-                                                          .filter(getEntitiesInColony)
-                                                          .filter(entity -> !(entity instanceof ServerPlayer))
-                                                          .collect(Collectors.toList());
-                event.getAffectedEntities().removeAll(entitiesToRemove);
-                // intentional fall-through to next case.
-            case DAMAGE_ENTITIES:
-                // if block is in colony -> remove from list
-                final List<BlockPos> blocksToRemove = event.getAffectedBlocks().stream()
-                                                        .filter(getBlocksInColony)
-                                                        .collect(Collectors.toList());
-                event.getAffectedBlocks().removeAll(blocksToRemove);
-                break;
-            case DAMAGE_EVERYTHING:
-            default:
-                break;
-        }
-    }
-
     /**
      * ExplosionEvent.Start handler.
      *
      * @param event ExplosionEvent.Detonate
      */
-    @SubscribeEvent
     public void on(final ExplosionEvent.Start event)
     {
         if (MineColonies.getConfig().getServer().enableColonyProtection.get()
-              && MineColonies.getConfig().getServer().turnOffExplosionsInColonies.get() == Explosions.DAMAGE_NOTHING
-              && colony.isCoordInColony(event.getLevel(), new BlockPos(event.getExplosion().getPosition())))
+              && MineColonies.getConfig().getServer().turnOffExplosionsInColonies.get() == Explosions.DAMAGE_NOTHING)
         {
             cancelEvent(event, null, colony, Action.EXPLODE, new BlockPos(event.getExplosion().getPosition()));
         }
@@ -310,11 +253,9 @@ public class ColonyPermissionEventHandler
      *
      * @param event PlayerInteractEvent
      */
-    @SubscribeEvent
     public void on(final PlayerInteractEvent event)
     {
-        if (colony.isCoordInColony(event.getLevel(), event.getPos())
-              && !(event instanceof PlayerInteractEvent.EntityInteract || event instanceof PlayerInteractEvent.EntityInteractSpecific))
+        if (!(event instanceof PlayerInteractEvent.EntityInteract || event instanceof PlayerInteractEvent.EntityInteractSpecific))
         {
             final Block block = event.getLevel().getBlockState(event.getPos()).getBlock();
 
@@ -396,7 +337,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event PlayerInteractEvent
      */
-    @SubscribeEvent
     public void on(final PlayerInteractEvent.EntityInteract event)
     {
         if (isFreeToInteractWith(null, event.getPos())
@@ -430,7 +370,6 @@ public class ColonyPermissionEventHandler
             positionToCheck = new BlockPos(player.position());
         }
         if (MineColonies.getConfig().getServer().enableColonyProtection.get()
-              && colony.isCoordInColony(player.getCommandSenderWorld(), positionToCheck)
               && !colony.getPermissions().hasPermission(player, action))
         {
             if (MineColonies.getConfig().getServer().pvp_mode.get() && !world.isClientSide && colony.isValidAttackingPlayer(playerIn))
@@ -453,7 +392,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event PlayerInteractEvent
      */
-    @SubscribeEvent
     public void on(final PlayerInteractEvent.EntityInteractSpecific event)
     {
         if (isFreeToInteractWith(null, event.getPos())
@@ -471,7 +409,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event ItemTossEvent
      */
-    @SubscribeEvent
     public void on(final ItemTossEvent event)
     {
         if (checkEventCancelation(Action.TOSS_ITEM, event.getPlayer(), event.getPlayer().getCommandSenderWorld(), event, new BlockPos(event.getPlayer().position())))
@@ -487,7 +424,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event ItemEntityPickupEvent
      */
-    @SubscribeEvent
     public void on(final EntityItemPickupEvent event)
     {
         checkEventCancelation(Action.PICKUP_ITEM, event.getEntity(), event.getEntity().getCommandSenderWorld(), event, new BlockPos(event.getEntity().position()));
@@ -500,7 +436,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event ItemEntityPickupEvent
      */
-    @SubscribeEvent
     public void on(final FillBucketEvent event)
     {
         @Nullable BlockPos targetBlockPos = null;
@@ -522,7 +457,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event ItemEntityPickupEvent
      */
-    @SubscribeEvent
     public void on(final ArrowLooseEvent event)
     {
         checkEventCancelation(Action.SHOOT_ARROW, event.getEntity(), event.getEntity().getCommandSenderWorld(), event, new BlockPos(event.getEntity().position()));
@@ -536,7 +470,6 @@ public class ColonyPermissionEventHandler
      * this here is handling players getting hurt by citizens.
      * @param event
      */
-    @SubscribeEvent
     public void on(final LivingHurtEvent event)
     {
         if (event.getEntity() instanceof ServerPlayer
@@ -557,7 +490,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event ItemEntityPickupEvent
      */
-    @SubscribeEvent
     public void on(final AttackEntityEvent event)
     {
         if (event.getTarget() instanceof Monster)
@@ -567,8 +499,7 @@ public class ColonyPermissionEventHandler
 
         @NotNull final Player player = EntityUtils.getPlayerOfFakePlayer(event.getEntity(), event.getEntity().getCommandSenderWorld());
 
-        if (MineColonies.getConfig().getServer().enableColonyProtection.get()
-              && colony.isCoordInColony(player.getCommandSenderWorld(), new BlockPos(player.position())))
+        if (MineColonies.getConfig().getServer().enableColonyProtection.get())
         {
             final Permissions perms = colony.getPermissions();
             if (event.getTarget() instanceof EntityCitizen)
@@ -6,6 +6,7 @@ import com.minecolonies.api.network.PacketUtils;
 import com.minecolonies.api.util.Utils;
 import com.minecolonies.coremod.colony.Colony;
 import com.mojang.authlib.GameProfile;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.StringTag;
@@ -96,6 +97,31 @@ public class Permissions implements IPermissions
      */
     private boolean dirty = false;
 
+    /**
+     * Marker for players without a cached permission flag.
+     */
+    private static final long NOT_CACHED = -1L;
+
+    /**
+     * Increased on every change of ranks or players, invalidates the cached player permissions.
+     */
+    private int permissionEpoch = 0;
+
+    /**
+     * The epoch the cached player permissions were resolved in.
+     */
+    private int cachedEpoch = 0;
+
+    /**
+     * The abandonment state the cached player permissions were resolved with.
+     */
+    private boolean cachedFullyAbandoned = false;
+
+    /**
+     * The effective permission flag per player, including the fully abandoned permissions.
+     */
+    private final Object2LongOpenHashMap<UUID> cachedPlayerPermissions = new Object2LongOpenHashMap<>();
+
     /**
      * The name of the owner.
      */
@@ -126,6 +152,7 @@ public class Permissions implements IPermissions
         this.clearDirty();
         this.colony = colony;
         this.loadRanks();
+        cachedPlayerPermissions.defaultReturnValue(NOT_CACHED);
     }
 
     /**
@@ -260,6 +287,7 @@ public class Permissions implements IPermissions
     private void markDirty()
     {
         dirty = true;
+        permissionEpoch++;
         if (colony != null)
         {
             colony.markDirty();
@@ -412,6 +440,7 @@ public class Permissions implements IPermissions
         }
 
         restoreOwnerIfNull();
+        permissionEpoch++;
     }
 
     /**
@@ -427,6 +456,7 @@ public class Permissions implements IPermissions
             if (player != null)
             {
                 players.put(ownerUUID, new ColonyPlayer(ownerUUID, player.getName(), ranks.get(OWNER_RANK_ID)));
+                permissionEpoch++;
             }
         }
     }
@@ -652,7 +682,21 @@ public class Permissions implements IPermissions
     @Override
     public boolean hasPermission(@NotNull final Player player, @NotNull final Action action)
     {
-        return hasPermission(getRank(player), action);
+        if (cachedEpoch != permissionEpoch || cachedFullyAbandoned != fullyAbandoned)
+        {
+            cachedPlayerPermissions.clear();
+            cachedEpoch = permissionEpoch;
+            cachedFullyAbandoned = fullyAbandoned;
+        }
+
+        final UUID id = player.getGameProfile().getId();
+        long flags = cachedPlayerPermissions.getLong(id);
+        if (flags == NOT_CACHED)
+        {
+            flags = getRank(id).getPermissions() | (fullyAbandoned ? fullyAbandonedPermissionsFlag : 0);
+            cachedPlayerPermissions.put(id, flags);
+        }
+        return Utils.testFlag(flags, action.getFlag());
     }
 
     @Override
@@ -34,6 +34,12 @@ import java.util.List;
  */
 public abstract class DeliverymenRequestResolver<R extends IRequestable> extends AbstractRequestResolver<R>
 {
+    /**
+     * The last courier choice, reused between attempting and resolving the same request.
+     */
+    @Nullable
+    private CourierChoice lastChoice;
+
     public DeliverymenRequestResolver(
       @NotNull final ILocation location,
       @NotNull final IToken<?> token)
@@ -94,23 +100,7 @@ public abstract class DeliverymenRequestResolver<R extends IRequestable> extends
             return null;
         }
 
-        ICitizenData chosenCourier = null;
-
-        Tuple<Double, Integer> bestScore = null;
-        for (final ICitizenData citizen : getResolveAbleDeliverymen(manager))
-        {
-            if (citizen.isWorking())
-            {
-                Tuple<Double, Integer> localScore = ((JobDeliveryman) citizen.getJob()).getScoreForDelivery(request);
-                if (bestScore == null || localScore.getA() < bestScore.getA())
-                {
-                    bestScore = localScore;
-                    chosenCourier = citizen;
-                }
-            }
-        }
-
-        if (chosenCourier == null)
+        if (chooseCourier(manager, request) == null)
         {
             return null;
         }
@@ -121,29 +111,69 @@ public abstract class DeliverymenRequestResolver<R extends IRequestable> extends
     @Override
     public void resolveRequest(@NotNull final IRequestManager manager, @NotNull final IRequest<? extends R> request) throws RuntimeException
     {
-        ICitizenData chosenCourier = null;
+        final CourierChoice choice = chooseCourier(manager, request);
+        lastChoice = null;
+        if (choice == null)
+        {
+            return;
+        }
 
-        Tuple<Double, Integer> bestScore = null;
+        final JobDeliveryman job = (JobDeliveryman) choice.courier().getJob();
+        job.addRequest(request.getId(), choice.insertionIndex());
+    }
+
+    /**
+     * Find the courier the request fits best. The choice made while attempting is reused for resolving in the same tick, as long as the chosen courier's queue didn't
+     * change in between.
+     *
+     * @param manager the request manager.
+     * @param request the request.
+     * @return the choice or null if no courier is working.
+     */
+    @Nullable
+    private CourierChoice chooseCourier(@NotNull final IRequestManager manager, @NotNull final IRequest<? extends R> request)
+    {
+        final long gameTime = manager.getColony().getWorld().getGameTime();
+        if (lastChoice != null
+              && lastChoice.request().equals(request.getId())
+              && lastChoice.gameTime() == gameTime
+              && lastChoice.courier().isWorking()
+              && lastChoice.courier().getJob() instanceof JobDeliveryman job
+              && job.getTaskQueueSize() == lastChoice.queueSize())
+        {
+            return lastChoice;
+        }
+
+        CourierChoice choice = null;
         for (final ICitizenData citizen : getResolveAbleDeliverymen(manager))
         {
             if (citizen.isWorking())
             {
-                Tuple<Double, Integer> localScore = ((JobDeliveryman) citizen.getJob()).getScoreForDelivery(request);
-                if (bestScore == null || localScore.getA() < bestScore.getA())
+                final JobDeliveryman job = (JobDeliveryman) citizen.getJob();
+                final Tuple<Double, Integer> localScore = job.getScoreForDelivery(request);
+                if (choice == null || localScore.getA() < choice.score())
                 {
-                    bestScore = localScore;
-                    chosenCourier = citizen;
+                    choice = new CourierChoice(request.getId(), citizen, localScore.getA(), localScore.getB(), job.getTaskQueueSize(), gameTime);
                 }
             }
         }
 
-        if (chosenCourier == null)
-        {
-            return;
-        }
+        lastChoice = choice;
+        return choice;
+    }
 
-        final JobDeliveryman job = (JobDeliveryman) chosenCourier.getJob();
-        job.addRequest(request.getId(), bestScore.getB());
+    /**
+     * The courier chosen for a request.
+     *
+     * @param request        the request token.
+     * @param courier        the chosen courier.
+     * @param score          the score of the request for the courier, lower is better.
+     * @param insertionIndex where to insert the request into the courier's queue.
+     * @param queueSize      the size of the courier's queue when scoring.
+     * @param gameTime       the game time of the scoring.
+     */
+    private record CourierChoice(IToken<?> request, ICitizenData courier, double score, int insertionIndex, int queueSize, long gameTime)
+    {
     }
 
     @Nullable
@@ -166,9 +196,9 @@ public abstract class DeliverymenRequestResolver<R extends IRequestable> extends
         if (!manager.getColony().getWorld().isClientSide)
         {
             final Colony colony = (Colony) manager.getColony();
-            final ICitizenData freeDeliveryMan = colony.getCitizenManager().getCitizens()
+            final ICitizenData freeDeliveryMan = colony.getCitizenManager().getCitizensByJob(JobDeliveryman.class)
                                                    .stream()
-                                                   .filter(c -> c.getJob() instanceof JobDeliveryman && ((JobDeliveryman) c.getJob()).getTaskQueue().contains(request.getId()))
+                                                   .filter(c -> ((JobDeliveryman) c.getJob()).getTaskQueue().contains(request.getId()))
                                                    .findFirst()
                                                    .orElse(null);
 
@@ -104,11 +104,10 @@ public class PublicWorkerCraftingProductionResolver extends AbstractCraftingProd
 
     private void removeRequestFromTaskList(@NotNull final IRequest<? extends PublicCrafting> completedRequest, final IColony colony)
     {
-        final ICitizenData holdingCrafter = colony.getCitizenManager().getCitizens()
+        final ICitizenData holdingCrafter = colony.getCitizenManager().getCitizensByJob(AbstractJobCrafter.class)
                                               .stream()
-                                              .filter(c -> c.getJob() instanceof AbstractJobCrafter && (
-                                                ((AbstractJobCrafter<?, ?>) c.getJob()).getTaskQueue().contains(completedRequest.getId())
-                                                  || ((AbstractJobCrafter<?, ?>) c.getJob()).getAssignedTasks().contains(completedRequest.getId())))
+                                              .filter(c -> ((AbstractJobCrafter<?, ?>) c.getJob()).getTaskQueue().contains(completedRequest.getId())
+                                                             || ((AbstractJobCrafter<?, ?>) c.getJob()).getAssignedTasks().contains(completedRequest.getId()))
                                               .findFirst()
                                               .orElse(null);
 
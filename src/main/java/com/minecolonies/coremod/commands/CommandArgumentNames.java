@@ -14,4 +14,11 @@ public abstract class CommandArgumentNames
 
     public static final String RANGE_ARG = "range";
     public static final String ADD_ARG   = "add";
+
+    public static final String SEED_ARG      = "seed";
+    public static final String BUILDINGS_ARG = "buildings";
+    public static final String CITIZENS_ARG  = "citizens";
+    public static final String REQUESTS_ARG  = "requests";
+    public static final String RACKS_ARG     = "racks";
+    public static final String TICKS_ARG     = "ticks";
 }
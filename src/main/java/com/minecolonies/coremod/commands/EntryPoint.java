@@ -89,7 +89,8 @@ public class EntryPoint
           .addNode(new CommandResetPlayerSupplies().build())
           .addNode(new CommandHelp().build())
           .addNode(new ScanCommand().build())
-          .addNode(new CommandPruneWorld().build());
+          .addNode(new CommandPruneWorld().build())
+          .addNode(new CommandBenchmark().build());
 
         /*
          * Root minecolonies alias command tree, all subtrees are added here.
@@ -108,7 +109,8 @@ public class EntryPoint
           .addNode(new CommandBackup().build())
           .addNode(new CommandResetPlayerSupplies().build())
           .addNode(new CommandHelp().build())
-          .addNode(new CommandPruneWorld().build());
+          .addNode(new CommandPruneWorld().build())
+          .addNode(new CommandBenchmark().build());
 
         // Adds all command trees to the dispatcher to register the commands.
         dispatcher.register(minecoloniesRoot.build());
@@ -0,0 +1,92 @@
+package com.minecolonies.coremod.commands.generalcommands;
+
+import com.minecolonies.coremod.colony.ColonyBenchmark;
+import com.minecolonies.coremod.commands.commandTypes.IMCCommand;
+import com.minecolonies.coremod.commands.commandTypes.IMCOPCommand;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.arguments.LongArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.arguments.coordinates.BlockPosArgument;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
+
+import static com.minecolonies.coremod.commands.CommandArgumentNames.*;
+
+/**
+ * Builds a synthetic colony from a seed at a position and reports the time spent in the colony subsystems over a number of ticks. Meant to be run in an empty void level
+ * of a dedicated server, the colony is removed again when done.
+ */
+public class CommandBenchmark implements IMCOPCommand
+{
+    /**
+     * What happens when the command is executed
+     *
+     * @param context the context of the command execution
+     */
+    @Override
+    public int onExecute(final CommandContext<CommandSourceStack> context)
+    {
+        if (ColonyBenchmark.isRunning())
+        {
+            context.getSource().sendFailure(Component.literal("A colony benchmark is already running"));
+            return 0;
+        }
+
+        final BlockPos pos;
+        try
+        {
+            pos = BlockPosArgument.getSpawnablePos(context, POS_ARG);
+        }
+        catch (final CommandSyntaxException e)
+        {
+            context.getSource().sendFailure(Component.literal(e.getMessage()));
+            return 0;
+        }
+
+        final int ticks = IntegerArgumentType.getInteger(context, TICKS_ARG);
+        final int colonyId = ColonyBenchmark.start(context.getSource(),
+          context.getSource().getLevel(),
+          pos,
+          LongArgumentType.getLong(context, SEED_ARG),
+          IntegerArgumentType.getInteger(context, BUILDINGS_ARG),
+          IntegerArgumentType.getInteger(context, CITIZENS_ARG),
+          IntegerArgumentType.getInteger(context, REQUESTS_ARG),
+          IntegerArgumentType.getInteger(context, RACKS_ARG),
+          ticks);
+
+        if (colonyId == 0)
+        {
+            context.getSource().sendFailure(Component.literal("Could not create the benchmark colony, the position may already belong to a colony"));
+            return 0;
+        }
+
+        context.getSource().sendSuccess(Component.literal("Benchmark colony " + colonyId + " created, measuring " + ticks + " ticks"), true);
+        return 1;
+    }
+
+    /**
+     * Name string of the command.
+     */
+    @Override
+    public String getName()
+    {
+        return "benchmark";
+    }
+
+    @Override
+    public LiteralArgumentBuilder<CommandSourceStack> build()
+    {
+        return IMCCommand.newLiteral(getName())
+                 .then(IMCCommand.newArgument(POS_ARG, BlockPosArgument.blockPos())
+                         .then(IMCCommand.newArgument(SEED_ARG, LongArgumentType.longArg())
+                                 .then(IMCCommand.newArgument(BUILDINGS_ARG, IntegerArgumentType.integer(0, ColonyBenchmark.MAX_BUILDINGS))
+                                         .then(IMCCommand.newArgument(CITIZENS_ARG, IntegerArgumentType.integer(0, ColonyBenchmark.MAX_CITIZENS))
+                                                 .then(IMCCommand.newArgument(REQUESTS_ARG, IntegerArgumentType.integer(0, ColonyBenchmark.MAX_REQUESTS))
+                                                         .then(IMCCommand.newArgument(RACKS_ARG, IntegerArgumentType.integer(0, ColonyBenchmark.MAX_RACKS))
+                                                                 .then(IMCCommand.newArgument(TICKS_ARG, IntegerArgumentType.integer(1, ColonyBenchmark.MAX_TICKS))
+                                                                         .executes(this::checkPreConditionAndExecute))))))));
+    }
+}
@@ -6,6 +6,7 @@ import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.colony.IColonyTagCapability;
 import com.minecolonies.api.colony.IColonyView;
 import com.minecolonies.api.colony.permissions.Action;
+import com.minecolonies.coremod.client.render.worldevent.ColonyBorderGeometry;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import journeymap.client.api.display.Context;
@@ -28,6 +29,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 import static com.minecolonies.api.colony.IColony.CLOSE_COLONY_CAP;
 import static com.minecolonies.api.util.constant.Constants.MOD_ID;
@@ -185,6 +187,7 @@ public class ColonyBorderMapping
         private final TextProperties noText;
 
         private boolean dirty = false;
+        @Nullable private CompletableFuture<List<MapPolygonWithHoles>> pending = null;
         private boolean permitted = true;
         private String colonyName = "";
         private JourneymapOptions.BorderStyle fullscreenStyle = JourneymapOptions.BorderStyle.HIDDEN;
@@ -310,6 +313,19 @@ public class ColonyBorderMapping
                     && !(JourneymapOptions.BorderStyle.HIDDEN.equals(fullscreenStyle)
                             && JourneymapOptions.BorderStyle.HIDDEN.equals(minimapStyle));
 
+            if (this.pending != null)
+            {
+                if (!this.pending.isDone())
+                {
+                    return;
+                }
+
+                final List<MapPolygonWithHoles> polygons = this.pending.join();
+                this.pending = null;
+                unload(jmap);
+                show(jmap, polygons);
+            }
+
             this.dirty |= !enabled && !this.overlays.isEmpty();                         // freshly disabled; remove
             this.dirty |= enabled && this.overlays.isEmpty() && !this.chunks.isEmpty(); // freshly enabled; add
             this.dirty |= !fullscreenStyle.equals(this.fullscreenStyle);
@@ -320,46 +336,54 @@ public class ColonyBorderMapping
                 this.fullscreenStyle = fullscreenStyle;
                 this.minimapStyle = minimapStyle;
 
-                unload(jmap);
-
                 if (!this.chunks.isEmpty() && enabled && jmap.getApi().playerAccepts(MOD_ID, DisplayType.Polygon))
                 {
                     this.dirty = false;
 
-                    final List<MapPolygonWithHoles> polygons = PolygonHelper.createChunksPolygon(this.chunks, 256);
+                    // the old overlays stay visible until the new polygons are ready
+                    final Set<ChunkPos> snapshot = new HashSet<>(this.chunks);
+                    this.pending = ColonyBorderGeometry.submit(() -> PolygonHelper.createChunksPolygon(snapshot, 256), Collections.emptyList());
+                }
+                else
+                {
+                    unload(jmap);
+                }
+            }
+        }
+
+        /** Show the overlays for the given polygons */
+        private void show(@NotNull final Journeymap jmap, @NotNull final List<MapPolygonWithHoles> polygons)
+        {
+            int index = 0;
+            for (final MapPolygonWithHoles polygon : polygons)
+            {
+                // fullscreen map
+                if (!JourneymapOptions.BorderStyle.HIDDEN.equals(fullscreenStyle))
+                {
+                    final ShapeProperties shape = JourneymapOptions.BorderStyle.FILLED.equals(fullscreenStyle)
+                            ? this.fill : this.stroke;
+
+                    final PolygonOverlay overlay = new PolygonOverlay(MOD_ID, String.format("%s_%s", this.name, ++index), this.dimension, shape, polygon.hull, polygon.holes);
+                    overlay.setOverlayGroupName(this.name)
+                            .setActiveUIs(EnumSet.of(Context.UI.Fullscreen, Context.UI.Webmap))
+                            .setTextProperties(this.text)
+                            .setLabel(this.colonyName);
+                    this.overlays.add(overlay);
+                    jmap.show(overlay);
+                }
 
-                    int index = 0;
-                    for (final MapPolygonWithHoles polygon : polygons)
-                    {
-                        // fullscreen map
-                        if (!JourneymapOptions.BorderStyle.HIDDEN.equals(fullscreenStyle))
-                        {
-                            final ShapeProperties shape = JourneymapOptions.BorderStyle.FILLED.equals(fullscreenStyle)
-                                    ? this.fill : this.stroke;
-
-                            final PolygonOverlay overlay = new PolygonOverlay(MOD_ID, String.format("%s_%s", this.name, ++index), this.dimension, shape, polygon.hull, polygon.holes);
-                            overlay.setOverlayGroupName(this.name)
-                                    .setActiveUIs(EnumSet.of(Context.UI.Fullscreen, Context.UI.Webmap))
-                                    .setTextProperties(this.text)
-                                    .setLabel(this.colonyName);
-                            this.overlays.add(overlay);
-                            jmap.show(overlay);
-                        }
-
-                        // minimap
-                        if (!JourneymapOptions.BorderStyle.HIDDEN.equals(minimapStyle))
-                        {
-                            final ShapeProperties shape = JourneymapOptions.BorderStyle.FILLED.equals(minimapStyle)
-                                    ? this.fill : this.stroke;
-
-                            final PolygonOverlay mini = new PolygonOverlay(MOD_ID, String.format("%s_%s", this.name, ++index), this.dimension, shape, polygon.hull, polygon.holes);
-                            mini.setOverlayGroupName(this.name)
-                                    .setActiveUIs(EnumSet.of(Context.UI.Minimap))
-                                    .setTextProperties(this.noText);
-                            this.overlays.add(mini);
-                            jmap.show(mini);
-                        }
-                    }
+                // minimap
+                if (!JourneymapOptions.BorderStyle.HIDDEN.equals(minimapStyle))
+                {
+                    final ShapeProperties shape = JourneymapOptions.BorderStyle.FILLED.equals(minimapStyle)
+                            ? this.fill : this.stroke;
+
+                    final PolygonOverlay mini = new PolygonOverlay(MOD_ID, String.format("%s_%s", this.name, ++index), this.dimension, shape, polygon.hull, polygon.holes);
+                    mini.setOverlayGroupName(this.name)
+                            .setActiveUIs(EnumSet.of(Context.UI.Minimap))
+                            .setTextProperties(this.noText);
+                    this.overlays.add(mini);
+                    jmap.show(mini);
                 }
             }
         }
@@ -56,13 +56,22 @@ public class QuestJsonListener extends SimpleJsonResourceReloadListener
     public static void sendGlobalQuestPackets(final ServerPlayer player)
     {
         final FriendlyByteBuf byteBuf = new FriendlyByteBuf(Unpooled.buffer());
+        serializeGlobalQuests(byteBuf);
+        Network.getNetwork().sendToPlayer(new GlobalQuestSyncMessage(byteBuf), player);
+    }
+
+    /**
+     * Write the global quest data to a buffer.
+     * @param byteBuf the buffer to write to.
+     */
+    public static void serializeGlobalQuests(final FriendlyByteBuf byteBuf)
+    {
         byteBuf.writeInt(globalJsonElementMap.size());
         for (final Map.Entry<ResourceLocation, JsonElement> entry : globalJsonElementMap.entrySet())
         {
             byteBuf.writeResourceLocation(entry.getKey());
             byteBuf.writeByteArray(entry.getValue().toString().getBytes());
         }
-        Network.getNetwork().sendToPlayer(new GlobalQuestSyncMessage(byteBuf), player);
     }
 
     /**
@@ -115,6 +124,7 @@ public class QuestJsonListener extends SimpleJsonResourceReloadListener
             }
         }
 
+        QuestManager.rebuildIndex();
         Log.getLogger().info("Finished loading quests from data");
     }
 
@@ -208,7 +218,21 @@ public class QuestJsonListener extends SimpleJsonResourceReloadListener
             }
         }
 
-        return new QuestTemplate(questId, questName, parents, maxOccurrences, parseTriggerOrder(questId, order, questTriggers), questObjectives, questTimeout, questRewards);
+        final Set<QuestTriggerSignal> triggerSignals = EnumSet.noneOf(QuestTriggerSignal.class);
+        for (final IQuestTriggerTemplate trigger : questTriggers)
+        {
+            triggerSignals.addAll(trigger.getSignals());
+        }
+
+        return new QuestTemplate(questId,
+          questName,
+          parents,
+          maxOccurrences,
+          parseTriggerOrder(questId, order, questTriggers),
+          triggerSignals,
+          questObjectives,
+          questTimeout,
+          questRewards);
 
         /*
 
@@ -778,6 +778,11 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob<?, J>, B exten
      */
     public boolean checkAndTransferFromHut(@Nullable final ItemStack is)
     {
+        if (is == null || building.getStorageView().getCount(new ItemStorage(is)) <= 0)
+        {
+            return false;
+        }
+
         for (final BlockPos pos : building.getContainers())
         {
             final BlockEntity entity = world.getBlockEntity(pos);
@@ -998,6 +1003,11 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob<?, J>, B exten
         if (building != null)
         {
             final Predicate<ItemStack> toolPredicate = stack -> ItemStackUtils.hasToolLevel(stack, toolType, minimalLevel, building.getMaxToolLevel());
+            if (!building.getStorageView().hasChests() && building.getStorageView().getRackCount(toolPredicate) <= 0)
+            {
+                return false;
+            }
+
             for (final BlockPos pos : building.getContainers())
             {
                 final BlockEntity entity = world.getBlockEntity(pos);
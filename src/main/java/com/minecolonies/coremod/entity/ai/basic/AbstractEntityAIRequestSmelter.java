@@ -25,6 +25,7 @@ import com.minecolonies.coremod.colony.interactionhandling.StandardInteraction;
 import com.minecolonies.coremod.colony.jobs.AbstractJobCrafter;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.FurnaceBlock;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.FurnaceBlockEntity;
 import net.minecraft.world.level.block.entity.BlockEntity;
@@ -36,7 +37,9 @@ import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import static com.minecolonies.api.entity.ai.statemachine.states.AIWorkerState.*;
@@ -291,11 +294,20 @@ public abstract class AbstractEntityAIRequestSmelter<J extends AbstractJobCrafte
 
 
     /**
-     * Predicate for checking fuel in inventories
+     * Predicate for checking fuel in inventories, the fuels are keyed by item so each check only compares the matching ones.
      */
     private static Predicate<ItemStack> isCorrectFuel(final List<ItemStack> possibleFuels)
     {
-        return item -> ItemStackUtils.compareItemStackListIgnoreStackSize(possibleFuels, item);
+        final Map<Item, List<ItemStack>> fuelsByItem = new HashMap<>();
+        for (final ItemStack fuel : possibleFuels)
+        {
+            fuelsByItem.computeIfAbsent(fuel.getItem(), key -> new ArrayList<>()).add(fuel);
+        }
+
+        return item -> {
+            final List<ItemStack> candidates = fuelsByItem.get(item.getItem());
+            return candidates != null && ItemStackUtils.compareItemStackListIgnoreStackSize(candidates, item);
+        };
     }
 
     /**
@@ -305,9 +317,10 @@ public abstract class AbstractEntityAIRequestSmelter<J extends AbstractJobCrafte
     {
         final Level world = building.getColony().getWorld();
         final List<ItemStack> possibleFuels = getActivePossibleFuels();
+        final Predicate<ItemStack> correctFuel = isCorrectFuel(possibleFuels);
 
         final FurnaceUserModule module = building.getFirstModuleOccurance(FurnaceUserModule.class);
-        if(!InventoryUtils.hasItemInItemHandler(worker.getInventoryCitizen(),  isCorrectFuel(possibleFuels)) && !InventoryUtils.hasItemInProvider(building, isCorrectFuel(possibleFuels)) && !building.hasWorkerOpenRequestsOfType(worker.getCitizenData().getId(), TypeToken.of(StackList.class)) && currentRecipeStorage != null && currentRecipeStorage.getIntermediate() == Blocks.FURNACE )
+        if(!InventoryUtils.hasItemInItemHandler(worker.getInventoryCitizen(),  correctFuel) && !InventoryUtils.hasItemInProvider(building, correctFuel) && !building.hasWorkerOpenRequestsOfType(worker.getCitizenData().getId(), TypeToken.of(StackList.class)) && currentRecipeStorage != null && currentRecipeStorage.getIntermediate() == Blocks.FURNACE )
         {
             worker.getCitizenData().createRequestAsync(new StackList(possibleFuels, RequestSystemTranslationConstants.REQUESTS_TYPE_BURNABLE, STACKSIZE * module.getFurnaces().size(), 1));
             return getState();
@@ -323,11 +336,11 @@ public abstract class AbstractEntityAIRequestSmelter<J extends AbstractJobCrafte
                     final FurnaceBlockEntity furnace = (FurnaceBlockEntity) entity;
                     if (!furnace.isLit() && (hasSmeltableInFurnaceAndNoFuel(furnace) || hasNeitherFuelNorSmeltAble(furnace)) && currentRecipeStorage != null && currentRecipeStorage.getIntermediate() == Blocks.FURNACE) 
                     {
-                        if (!InventoryUtils.hasItemInItemHandler(worker.getInventoryCitizen(),  isCorrectFuel(possibleFuels)))
+                        if (!InventoryUtils.hasItemInItemHandler(worker.getInventoryCitizen(),  correctFuel))
                         {
-                            if(InventoryUtils.hasItemInProvider(building, isCorrectFuel(possibleFuels)))
+                            if(InventoryUtils.hasItemInProvider(building, correctFuel))
                             {
-                                needsCurrently = new Tuple<>(isCorrectFuel(possibleFuels), STACKSIZE);
+                                needsCurrently = new Tuple<>(correctFuel, STACKSIZE);
                                 walkTo = null; // This could be set to a furnace at this point, and gathering requires it to be null, to find the right rack
                                 return GATHERING_REQUIRED_MATERIALS;
                             }
@@ -355,12 +368,13 @@ public abstract class AbstractEntityAIRequestSmelter<J extends AbstractJobCrafte
     private IAIState addFuelToFurnace()
     {
         final List<ItemStack> possibleFuels = getActivePossibleFuels();
+        final Predicate<ItemStack> correctFuel = isCorrectFuel(possibleFuels);
 
-        if(!InventoryUtils.hasItemInItemHandler(worker.getInventoryCitizen(),  isCorrectFuel(possibleFuels)))
+        if(!InventoryUtils.hasItemInItemHandler(worker.getInventoryCitizen(),  correctFuel))
         {
-            if (InventoryUtils.hasItemInProvider(building, isCorrectFuel(possibleFuels)))
+            if (InventoryUtils.hasItemInProvider(building, correctFuel))
             {
-                needsCurrently = new Tuple<>(isCorrectFuel(possibleFuels), STACKSIZE);
+                needsCurrently = new Tuple<>(correctFuel, STACKSIZE);
                 return GATHERING_REQUIRED_MATERIALS;
             }
             //We shouldn't get here, unless something changed between the checkFurnaceFuel and the addFueltoFurnace calls
@@ -381,11 +395,11 @@ public abstract class AbstractEntityAIRequestSmelter<J extends AbstractJobCrafte
             {
                 final FurnaceBlockEntity furnace = (FurnaceBlockEntity) entity;
                 //Stoke the furnaces
-                if (InventoryUtils.hasItemInItemHandler(worker.getInventoryCitizen(), isCorrectFuel(possibleFuels))
+                if (InventoryUtils.hasItemInItemHandler(worker.getInventoryCitizen(), correctFuel)
                         && (hasSmeltableInFurnaceAndNoFuel(furnace) || hasNeitherFuelNorSmeltAble(furnace)))
                 {
                     InventoryUtils.transferXOfFirstSlotInItemHandlerWithIntoInItemHandler(
-                        worker.getInventoryCitizen(), isCorrectFuel(possibleFuels), STACKSIZE,
+                        worker.getInventoryCitizen(), correctFuel, STACKSIZE,
                         new InvWrapper(furnace), FUEL_SLOT);
                     if(preFuelState != null && preFuelState != ADD_FUEL_TO_FURNACE)
                     {
@@ -17,6 +17,7 @@ import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingBeekeep
 import com.minecolonies.coremod.colony.interactionhandling.StandardInteraction;
 import com.minecolonies.coremod.colony.jobs.JobBeekeeper;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIInteract;
+import com.minecolonies.coremod.util.BeeHiveRegistry;
 import net.minecraft.world.level.block.BeehiveBlock;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.animal.Animal;
@@ -29,7 +30,6 @@ import net.minecraft.tags.BlockTags;
 import net.minecraft.tags.ItemTags;
 import net.minecraft.world.level.block.entity.BeehiveBlockEntity;
 import net.minecraft.world.InteractionHand;
-import net.minecraft.world.phys.AABB;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.level.Level;
@@ -140,14 +140,7 @@ public class EntityAIWorkBeekeeper extends AbstractEntityAIInteract<JobBeekeeper
      */
     private int getBeesInHives()
     {
-        return building
-          .getHives()
-          .stream()
-          .map(world::getBlockEntity)
-          .filter(Objects::nonNull)
-          .map(BeehiveBlockEntity.class::cast)
-          .mapToInt(BeehiveBlockEntity::getOccupantCount)
-          .sum();
+        return BeeHiveRegistry.getBeesInHives(world, building.getHives());
     }
 
     /**
@@ -224,12 +217,7 @@ public class EntityAIWorkBeekeeper extends AbstractEntityAIInteract<JobBeekeeper
             }
         }
 
-        final Optional<BlockPos> hive = building.getHives()
-          .stream()
-          .filter(pos -> BeehiveBlockEntity.getHoneyLevel(world.getBlockState(pos)) >= 5)
-          .findFirst();
-
-        if (hive.isPresent())
+        if (!BeeHiveRegistry.getReadyHives(world, building.getHives()).isEmpty())
         {
             return BEEKEEPER_HARVEST;
         }
@@ -326,11 +314,7 @@ public class EntityAIWorkBeekeeper extends AbstractEntityAIInteract<JobBeekeeper
     {
         worker.getCitizenStatusHandler().setLatestStatus(Component.translatable(COM_MINECOLONIES_COREMOD_STATUS_BEEKEEPER_HARVESTING));
 
-        final List<BlockPos> hives = building
-          .getHives()
-          .stream()
-          .filter(pos -> BeehiveBlockEntity.getHoneyLevel(world.getBlockState(pos)) >= 5)
-          .collect(Collectors.toList());
+        final List<BlockPos> hives = BeeHiveRegistry.getReadyHives(world, building.getHives());
 
         if (hives.isEmpty())
         {
@@ -568,9 +552,9 @@ public class EntityAIWorkBeekeeper extends AbstractEntityAIInteract<JobBeekeeper
     }
 
     /**
-     * Find animals in area.
+     * Find the bees of the hives of the building and the bees without a hive, within range of the hives.
      *
-     * @return the {@link List} of animals in the area.
+     * @return the {@link List} of bees.
      */
     public static List<Bee> searchForAnimals(final Level world, final BuildingBeekeeper ownBuilding)
     {
@@ -578,14 +562,7 @@ public class EntityAIWorkBeekeeper extends AbstractEntityAIInteract<JobBeekeeper
         {
             return new ArrayList<>();
         }
-        return ownBuilding
-          .getHives()
-          .stream()
-          .map(AABB::new)
-          .map(aabb -> aabb.inflate(HIVE_BEE_RADIUS))
-          .map(aabb -> world.getEntitiesOfClass(Bee.class, aabb))
-          .flatMap(Collection::stream)
-          .collect(Collectors.toList());
+        return BeeHiveRegistry.get(world).getBees(ownBuilding.getHives(), HIVE_BEE_RADIUS);
     }
 
     private int getHoneyBottlesPerHarvest()
@@ -13,6 +13,7 @@ import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.entity.citizen.VisibleCitizenStatus;
 import com.minecolonies.api.items.ModItems;
 import com.minecolonies.api.tileentities.AbstractScarecrowTileEntity;
+import com.minecolonies.api.tileentities.ScarecrowCellState;
 import com.minecolonies.api.tileentities.ScarecrowFieldStage;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
@@ -277,7 +278,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAICrafting<JobFarmer, Buil
         final BlockEntity entity = world.getBlockEntity(currentField);
         if (entity instanceof ScarecrowTileEntity && ((ScarecrowTileEntity) entity).needsWork())
         {
-            if (((ScarecrowTileEntity) entity).getFieldStage() == ScarecrowFieldStage.PLANTED && checkIfShouldExecute((ScarecrowTileEntity) entity,
+            if (((ScarecrowTileEntity) entity).getFieldStage() == ScarecrowFieldStage.PLANTED && checkIfShouldExecute((ScarecrowTileEntity) entity, FARMER_HARVEST,
               pos -> this.findHarvestableSurface(pos) != null))
             {
                 return FARMER_HARVEST;
@@ -286,7 +287,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAICrafting<JobFarmer, Buil
             {
                 return canGoPlanting((ScarecrowTileEntity) entity, building);
             }
-            else if (((ScarecrowTileEntity) entity).getFieldStage() == ScarecrowFieldStage.EMPTY && checkIfShouldExecute((ScarecrowTileEntity) entity,
+            else if (((ScarecrowTileEntity) entity).getFieldStage() == ScarecrowFieldStage.EMPTY && checkIfShouldExecute((ScarecrowTileEntity) entity, FARMER_HOE,
               pos -> this.findHoeableSurface(pos, (ScarecrowTileEntity) entity) != null))
             {
                 return FARMER_HOE;
@@ -340,15 +341,16 @@ public class EntityAIWorkFarmer extends AbstractEntityAICrafting<JobFarmer, Buil
      * Handles the offset of the field for the farmer. Checks if the field needs a certain operation checked with a given predicate.
      *
      * @param field     the field object.
+     * @param work      the work to check for.
      * @param predicate the predicate to test.
      * @return true if a harvestable crop was found.
      */
-    private boolean checkIfShouldExecute(@NotNull final ScarecrowTileEntity field, @NotNull final Predicate<BlockPos> predicate)
+    private boolean checkIfShouldExecute(@NotNull final ScarecrowTileEntity field, @NotNull final IAIState work, @NotNull final Predicate<BlockPos> predicate)
     {
         BlockPos position;
         do
         {
-            workingOffset = nextValidCell(field);
+            workingOffset = nextValidCell(field, work);
             if (workingOffset == null)
             {
                 return false;
@@ -471,60 +473,114 @@ public class EntityAIWorkFarmer extends AbstractEntityAICrafting<JobFarmer, Buil
     }
 
     /**
-     * The current index within the current field
+     * The current index within the work cells of the current field
      */
     private int cell = -1;
 
     /**
-     * Fetch the next available block within the field. Uses mathemajical quadratic equations to determine the coordinates by an index. Considers max radii set in the field gui.
+     * Fetch the next cell of the field which may need the given work. Walks the precomputed cells of the field and skips the ones its cell index knows need something
+     * else, unknown cells are looked at once and stored in the index.
      *
+     * @param field the field.
+     * @param work  the work state to find a cell for.
      * @return the new offset position
      */
-    protected BlockPos nextValidCell(AbstractScarecrowTileEntity field)
+    protected BlockPos nextValidCell(final ScarecrowTileEntity field, final IAIState work)
     {
-        int ring, ringCell, x, z;
-        Direction facing;
-
         if (workingOffset == null)
         {
             cell = -1;
         }
 
-        do
+        final List<BlockPos> cells = field.getWorkCells();
+        final boolean hasCompost = work == FARMER_HARVEST && InventoryUtils.getItemCountInItemHandler(worker.getInventoryCitizen(), this::isCompost) > 0;
+        while (++cell < cells.size())
         {
-            if (++cell == getLargestCell())
+            final BlockPos offset = cells.get(cell);
+            ScarecrowCellState state = field.getCellState(offset);
+            if (state == ScarecrowCellState.UNKNOWN)
             {
-                return null;
+                state = getCellState(field, field.getBlockPos().below().south(offset.getZ()).east(offset.getX()));
+                field.setCellState(offset, state);
             }
-            ring = (int) Math.floor((Math.sqrt(cell + 1) + 1) / 2.0);
-            ringCell = cell - (int) (4 * Math.pow(ring - 1, 2) + 4 * (ring - 1));
-            facing = Direction.from2DDataValue(Math.floorDiv(ringCell, 2 * ring));
 
-
-            if (facing.getAxis() == Direction.Axis.Z)
+            if (mayNeedWork(state, work, hasCompost))
             {
-                x = (facing == Direction.NORTH ? -1 : 1) * (ring - (ringCell % (2 * ring)));
-                z = (facing == Direction.NORTH ? -1 : 1) * ring;
-            }
-            else
-            {
-                x = (facing == Direction.WEST ? -1 : 1) * ring;
-                z = (facing == Direction.EAST ? -1 : 1) * (ring - (ringCell % (2 * ring)));
+                return offset;
             }
         }
-        while (
-          -z > field.getRadius(Direction.NORTH)
-            || x > field.getRadius(Direction.EAST)
-            || z > field.getRadius(Direction.SOUTH)
-            || -x > field.getRadius(Direction.WEST)
-        );
+        return null;
+    }
 
-        return new BlockPos(x, 0, z);
+    /**
+     * Check if a cell may need the given work. This is a pre-filter only, the cell is still checked before working on it.
+     *
+     * @param state      the state of the cell.
+     * @param work       the work state.
+     * @param hasCompost if the farmer can grow crops with compost.
+     * @return true if the cell should be looked at.
+     */
+    private static boolean mayNeedWork(final ScarecrowCellState state, final IAIState work, final boolean hasCompost)
+    {
+        if (work == FARMER_HOE)
+        {
+            return state == ScarecrowCellState.UNTILLED;
+        }
+        if (work == FARMER_PLANT)
+        {
+            return state == ScarecrowCellState.TILLED;
+        }
+        if (work == FARMER_HARVEST)
+        {
+            return state == ScarecrowCellState.MATURE || (hasCompost && state == ScarecrowCellState.GROWING);
+        }
+        return true;
     }
 
-    protected int getLargestCell()
+    /**
+     * Look at a cell of a field to find out which work it may need. Matches the checks of {@link #findHoeableSurface(BlockPos, ScarecrowTileEntity)},
+     * {@link #findPlantableSurface(BlockPos, ScarecrowTileEntity)} and {@link #findHarvestableSurface(BlockPos)}.
+     *
+     * @param field    the field.
+     * @param position the position of the cell.
+     * @return the state of the cell.
+     */
+    private ScarecrowCellState getCellState(@NotNull final ScarecrowTileEntity field, @NotNull final BlockPos position)
     {
-        return (int) Math.pow(ScarecrowTileEntity.getMaxRange() * 2 + 1, 2);
+        final BlockPos surface = getSurfacePos(position);
+        if (surface == null)
+        {
+            return ScarecrowCellState.NONE;
+        }
+
+        final BlockState aboveState = world.getBlockState(surface.above());
+        final Block above = aboveState.getBlock();
+        if (above == Blocks.PUMPKIN || above == Blocks.MELON)
+        {
+            return ScarecrowCellState.MATURE;
+        }
+
+        if (isCrop(above))
+        {
+            return ((CropBlock) above).isMaxAge(aboveState) ? ScarecrowCellState.MATURE : ScarecrowCellState.GROWING;
+        }
+
+        if (above instanceof BlockScarecrow || field.isNoPartOfField(world, surface))
+        {
+            return ScarecrowCellState.NONE;
+        }
+
+        final BlockState ground = world.getBlockState(surface);
+        if (ground.is(BlockTags.DIRT))
+        {
+            return ScarecrowCellState.UNTILLED;
+        }
+
+        if (ground.getBlock() instanceof FarmBlock && !(above instanceof StemBlock))
+        {
+            return ScarecrowCellState.TILLED;
+        }
+        return ScarecrowCellState.NONE;
     }
 
     /**
@@ -609,10 +665,11 @@ public class EntityAIWorkFarmer extends AbstractEntityAICrafting<JobFarmer, Buil
                         return PREPARING;
                 }
                 prevPos = position;
+                scarecrow.setCellState(workingOffset, ScarecrowCellState.UNKNOWN);
                 setDelay(getLevelDelay());
             }
 
-            workingOffset = nextValidCell(scarecrow);
+            workingOffset = nextValidCell(scarecrow, getState());
             if (workingOffset == null)
             {
                 shouldDumpInventory = true;
@@ -40,10 +40,14 @@ import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.effect.MobEffects;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.phys.AABB;
 import net.minecraftforge.registries.ForgeRegistries;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Random;
 
 import static com.minecolonies.api.entity.ai.statemachine.states.AIWorkerState.*;
@@ -812,4 +816,39 @@ public abstract class AbstractEntityAIGuard<J extends AbstractJobGuard<J>, B ext
 
         return false;
     }
+
+    /**
+     * Get the target candidates of a guard from the colony threat map, plus the sleeping guards of the colony in the area, so they can be woken up. The last attacker of
+     * the guard is always included, as the threat map may not have picked it up yet.
+     *
+     * @param user the guard.
+     * @param area the area to search in.
+     * @return the list of candidates.
+     */
+    public static List<LivingEntity> getThreatCandidates(final AbstractEntityCitizen user, final AABB area)
+    {
+        final IColony colony = user.getCitizenColonyHandler().getColony();
+        if (colony == null)
+        {
+            return Collections.emptyList();
+        }
+
+        final List<LivingEntity> candidates = new ArrayList<>(colony.getThreatManager().getThreats(area));
+        final LivingEntity attacker = user.getLastHurtByMob();
+        if (attacker != null && attacker.isAlive() && area.contains(attacker.position()) && !candidates.contains(attacker))
+        {
+            candidates.add(attacker);
+        }
+        for (final ICitizenData data : colony.getCitizenManager().getCitizensByJob(AbstractJobGuard.class))
+        {
+            final AbstractJobGuard<?> job = (AbstractJobGuard<?>) data.getJob();
+            data.getEntity().ifPresent(entity -> {
+                if (entity != user && job.isAsleep() && area.contains(entity.position()))
+                {
+                    candidates.add(entity);
+                }
+            });
+        }
+        return candidates;
+    }
 }
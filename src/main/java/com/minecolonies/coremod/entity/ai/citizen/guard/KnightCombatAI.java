@@ -37,6 +37,7 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.util.Mth;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.phys.AABB;
 
 import java.util.List;
 
@@ -314,6 +315,18 @@ public class KnightCombatAI extends AttackMoveAI<EntityCitizen>
         return parentAI.isWithinPersecutionDistance(target.blockPosition(), getAttackDistance());
     }
 
+    @Override
+    protected List<LivingEntity> getSearchCandidates(final AABB area)
+    {
+        return AbstractEntityAIGuard.getThreatCandidates(user, area);
+    }
+
+    @Override
+    protected boolean hasLineOfSight(final LivingEntity entity)
+    {
+        return user.getCitizenColonyHandler().getColony().getThreatManager().hasLineOfSight(user, entity);
+    }
+
     @Override
     protected boolean skipSearch(final LivingEntity entity)
     {
@@ -31,6 +31,9 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.sounds.SoundEvents;
+import net.minecraft.world.phys.AABB;
+
+import java.util.List;
 
 import static com.minecolonies.api.research.util.ResearchConstants.*;
 import static com.minecolonies.api.util.constant.GuardConstants.*;
@@ -316,6 +319,18 @@ public class RangerCombatAI extends AttackMoveAI<EntityCitizen>
         return parentAI.isWithinPersecutionDistance(target.blockPosition(), getAttackDistance());
     }
 
+    @Override
+    protected List<LivingEntity> getSearchCandidates(final AABB area)
+    {
+        return AbstractEntityAIGuard.getThreatCandidates(user, area);
+    }
+
+    @Override
+    protected boolean hasLineOfSight(final LivingEntity entity)
+    {
+        return user.getCitizenColonyHandler().getColony().getThreatManager().hasLineOfSight(user, entity);
+    }
+
     @Override
     protected boolean skipSearch(final LivingEntity entity)
     {
@@ -5,22 +5,24 @@ import com.minecolonies.api.entity.ai.statemachine.states.IAIState;
 import com.minecolonies.api.entity.citizen.VisibleCitizenStatus;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
-import com.minecolonies.api.util.WorldUtil;
 import com.minecolonies.api.util.constant.ToolType;
 import com.minecolonies.api.util.constant.TranslationConstants;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import com.minecolonies.coremod.colony.jobs.AbstractJob;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIInteract;
+import com.minecolonies.coremod.util.EntityTracker;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
+import net.minecraft.util.Tuple;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.entity.animal.Animal;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.phys.AABB;
 import net.minecraftforge.common.util.FakePlayer;
 import net.minecraftforge.common.util.FakePlayerFactory;
 import org.jetbrains.annotations.NotNull;
@@ -438,7 +440,7 @@ public abstract class AbstractEntityAIHerder<J extends AbstractJob<?, J>, B exte
      */
     public List<? extends T> searchForAnimals()
     {
-        return WorldUtil.getEntitiesWithinBuilding(world, getAnimalClass(), building, null);
+        return EntityTracker.get(world).getEntitiesOfClass(getAnimalClass(), getBuildingArea());
     }
 
     public int getMaxAnimalMultiplier()
@@ -453,7 +455,18 @@ public abstract class AbstractEntityAIHerder<J extends AbstractJob<?, J>, B exte
      */
     public List<? extends ItemEntity> searchForItemsInArea()
     {
-        return WorldUtil.getEntitiesWithinBuilding(world, ItemEntity.class, building, null);
+        return EntityTracker.get(world).getEntitiesOfClass(ItemEntity.class, getBuildingArea());
+    }
+
+    /**
+     * Get the area spanned by the corners of the hut.
+     *
+     * @return the {@link AABB} of the hut.
+     */
+    protected AABB getBuildingArea()
+    {
+        final Tuple<BlockPos, BlockPos> corners = building.getCorners();
+        return new AABB(corners.getA(), corners.getB());
     }
 
     /**
@@ -6,6 +6,7 @@ import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickingT
 import com.minecolonies.api.entity.combat.CombatAIStates;
 import com.minecolonies.api.entity.combat.threat.IThreatTableEntity;
 import com.minecolonies.api.entity.combat.threat.ThreatTableEntry;
+import com.minecolonies.coremod.util.EntityTracker;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.monster.Enemy;
@@ -138,7 +139,7 @@ public class TargetAI<T extends Mob & IThreatTableEntity> implements IStateAI
             return true;
         }
 
-        final List<LivingEntity> entities = user.level.getEntitiesOfClass(LivingEntity.class, getSearchArea());
+        final List<LivingEntity> entities = getSearchCandidates(getSearchArea());
 
         if (entities.isEmpty())
         {
@@ -158,7 +159,7 @@ public class TargetAI<T extends Mob & IThreatTableEntity> implements IStateAI
                 return false;
             }
 
-            if (isEntityValidTarget(entity) && user.getSensing().hasLineOfSight(entity))
+            if (isEntityValidTarget(entity) && hasLineOfSight(entity))
             {
                 user.getThreatTable().addThreat(entity, 0);
                 foundTarget = true;
@@ -168,6 +169,28 @@ public class TargetAI<T extends Mob & IThreatTableEntity> implements IStateAI
         return foundTarget;
     }
 
+    /**
+     * Get the entities to consider as target within the search area.
+     *
+     * @param area the search area.
+     * @return the list of candidates.
+     */
+    protected List<LivingEntity> getSearchCandidates(final AABB area)
+    {
+        return EntityTracker.get(user.level).getEntitiesOfClass(LivingEntity.class, area);
+    }
+
+    /**
+     * Check if the user can see a potential target.
+     *
+     * @param entity the potential target.
+     * @return true if so.
+     */
+    protected boolean hasLineOfSight(final LivingEntity entity)
+    {
+        return user.getSensing().hasLineOfSight(entity);
+    }
+
     /**
      * Skips the search if true
      *
@@ -1726,12 +1726,12 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
 
         List<AbstractEntityCitizen> possibleGuards = new ArrayList<>();
 
-        for (final ICitizenData entry : getCitizenColonyHandler().getColony().getCitizenManager().getCitizens())
+        for (final ICitizenData entry : getCitizenColonyHandler().getColony().getCitizenManager().getCitizensByJob(AbstractJobGuard.class))
         {
             if (entry.getEntity().isPresent())
             {
                 // Checking for guard nearby
-                if (entry.getJob() instanceof AbstractJobGuard && entry.getId() != citizenData.getId()
+                if (entry.getId() != citizenData.getId()
                       && BlockPosUtil.getDistanceSquared(entry.getEntity().get().blockPosition(), blockPosition()) < guardHelpRange && entry.getJob().getWorkerAI() != null)
                 {
                     final ThreatTable table = ((EntityCitizen) entry.getEntity().get()).getThreatTable();
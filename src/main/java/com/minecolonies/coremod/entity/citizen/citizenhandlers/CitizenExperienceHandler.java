@@ -15,6 +15,7 @@ import net.minecraft.world.phys.Vec3;
 import net.minecraft.world.level.GameRules;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import com.minecolonies.coremod.colony.buildings.modules.WorkerBuildingModule;
+import com.minecolonies.coremod.util.EntityTracker;
 import org.jetbrains.annotations.NotNull;
 
 import static com.minecolonies.api.research.util.ResearchConstants.LEVELING;
@@ -165,7 +166,7 @@ public class CitizenExperienceHandler implements ICitizenExperienceHandler
 
         boolean movedXp = false;
 
-        for (@NotNull final ExperienceOrb orb : citizen.level.getEntitiesOfClass(ExperienceOrb.class, box))
+        for (@NotNull final ExperienceOrb orb : EntityTracker.get(citizen.level).getEntitiesOfClass(ExperienceOrb.class, box))
         {
             if (orb.tickCount < 5)
             {
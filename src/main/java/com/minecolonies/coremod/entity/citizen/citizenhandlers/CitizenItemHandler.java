@@ -8,6 +8,7 @@ import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.WorldUtil;
 import com.minecolonies.coremod.Network;
 import com.minecolonies.coremod.network.messages.client.BlockParticleEffectMessage;
+import com.minecolonies.coremod.util.EntityTracker;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.sounds.SoundEvents;
@@ -278,7 +279,7 @@ public class CitizenItemHandler implements ICitizenItemHandler
     @Override
     public void pickupItems()
     {
-        for (final ItemEntity item : CompatibilityUtils.getWorldFromCitizen(citizen).getEntitiesOfClass(ItemEntity.class,
+        for (final ItemEntity item : EntityTracker.get(CompatibilityUtils.getWorldFromCitizen(citizen)).getEntitiesOfClass(ItemEntity.class,
           new AABB(citizen.blockPosition())
             .expandTowards(2.0F, 1.0F, 2.0F)
             .expandTowards(-2.0F, -1.0F, -2.0F)))
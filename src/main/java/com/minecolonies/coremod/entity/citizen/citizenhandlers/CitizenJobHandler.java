@@ -123,10 +123,7 @@ public class CitizenJobHandler implements ICitizenJobHandler
             if (job instanceof AbstractJobGuard)
             {
                 IColony colony = citizen.getCitizenColonyHandler().getColony();
-                int guards = ((int) colony.getCitizenManager().getCitizens()
-                  .stream()
-                  .filter(citizen -> citizen.getJob() instanceof AbstractJobGuard)
-                  .count());
+                int guards = colony.getCitizenManager().getCitizensByJob(AbstractJobGuard.class).size();
                 AdvancementUtils.TriggerAdvancementPlayersForColony(citizen.getCitizenColonyHandler().getColony(),
                   player -> AdvancementTriggers.ARMY_POPULATION.trigger(player, guards));
             }
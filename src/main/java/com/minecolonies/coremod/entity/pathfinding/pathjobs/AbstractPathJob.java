@@ -19,6 +19,7 @@ import com.minecolonies.coremod.entity.pathfinding.MNode;
 import com.minecolonies.coremod.entity.pathfinding.PathPointExtended;
 import com.minecolonies.coremod.network.messages.client.SyncPathMessage;
 import com.minecolonies.coremod.network.messages.client.SyncPathReachedMessage;
+import com.minecolonies.coremod.util.SubsystemTimings;
 import com.minecolonies.coremod.util.WorkerUtil;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -612,6 +613,7 @@ public abstract class AbstractPathJob implements Callable<Path>
     @Override
     public final Path call()
     {
+        final long start = SubsystemTimings.start();
         try
         {
             return search();
@@ -621,6 +623,10 @@ public abstract class AbstractPathJob implements Callable<Path>
             // Log everything, so exceptions of the pathfinding-thread show in Log
             Log.getLogger().warn("Pathfinding Exception", e);
         }
+        finally
+        {
+            SubsystemTimings.stop(SubsystemTimings.Subsystem.PATHFINDING, start);
+        }
 
         return null;
     }
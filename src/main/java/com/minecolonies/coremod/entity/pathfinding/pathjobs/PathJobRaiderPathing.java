@@ -1,9 +1,8 @@
 package com.minecolonies.coremod.entity.pathfinding.pathjobs;
 
-import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.entity.pathfinding.PathingOptions;
 import com.minecolonies.api.entity.pathfinding.SurfaceType;
-import com.minecolonies.coremod.colony.managers.RaidManager;
+import com.minecolonies.coremod.colony.managers.RaidPlanner;
 import com.minecolonies.coremod.entity.pathfinding.MNode;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.Blocks;
@@ -13,8 +12,6 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.Level;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.List;
-
 import static com.minecolonies.api.entity.pathfinding.PathingStuckHandler.HORIZONTAL_DIRS;
 
 /**
@@ -28,9 +25,9 @@ public class PathJobRaiderPathing extends AbstractPathJob
     private final double THROUGH_BLOCK_COST = 30;
 
     /**
-     * Buildings to avoid
+     * Spawn point validator of the buildings to avoid
      */
-    private final List<IBuilding> buildings;
+    private final RaidPlanner.SpawnValidator validator;
 
     /**
      * Targeted position
@@ -43,12 +40,12 @@ public class PathJobRaiderPathing extends AbstractPathJob
     private double addCost = 1.0;
 
     public PathJobRaiderPathing(
-      final List<IBuilding> buildings,
+      final RaidPlanner.SpawnValidator validator,
       final Level world,
       @NotNull final BlockPos start, final BlockPos targetSpawnPoint, final int range)
     {
         super(world, start, targetSpawnPoint, range, null);
-        this.buildings = buildings;
+        this.validator = validator;
         direction = targetSpawnPoint;
         setPathingOptions(new PathingOptions().withJumpCost(1).withStartSwimCost(1).withSwimCost(1).withCanSwim(true).withCanEnterDoors(true));
     }
@@ -67,7 +64,7 @@ public class PathJobRaiderPathing extends AbstractPathJob
             return false;
         }
 
-        return (direction.distSqr(n.pos) < 50 * 50) && RaidManager.isValidSpawnPoint(buildings, n.pos);
+        return (direction.distSqr(n.pos) < 50 * 50) && validator.isValid(n.pos);
     }
 
     @Override
@@ -8,16 +8,19 @@ import com.minecolonies.api.blocks.interfaces.IBuildingBrowsableBlock;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.colony.buildings.modules.ICraftingBuildingModule;
+import com.minecolonies.api.colony.event.ClientChunkUpdatedEvent;
 import com.minecolonies.api.colony.buildings.registry.BuildingEntry;
 import com.minecolonies.api.research.IGlobalResearch;
 import com.minecolonies.api.sounds.ModSoundEvents;
 import com.minecolonies.api.util.constant.Constants;
 import com.minecolonies.api.util.constant.TranslationConstants;
 import com.minecolonies.coremod.client.gui.WindowBuildingBrowser;
+import com.minecolonies.coremod.client.render.worldevent.ColonyBorderGeometry;
 import com.minecolonies.coremod.client.render.worldevent.ColonyBorderRenderer;
 import com.minecolonies.coremod.client.render.worldevent.WorldEventContext;
 import com.minecolonies.coremod.colony.crafting.CustomRecipe;
 import com.minecolonies.coremod.colony.crafting.CustomRecipeManager;
+import com.minecolonies.coremod.network.SyncPayloadCache;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.multiplayer.ClientLevel;
@@ -41,6 +44,7 @@ import net.minecraftforge.client.event.RenderLevelStageEvent;
 import net.minecraftforge.client.event.sound.PlaySoundEvent;
 import net.minecraftforge.common.util.Lazy;
 import net.minecraftforge.event.entity.player.ItemTooltipEvent;
+import net.minecraftforge.event.level.ChunkEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 import net.minecraftforge.eventbus.api.EventPriority;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
@@ -76,11 +80,27 @@ public class ClientEventHandler
         WorldEventContext.INSTANCE.renderWorldLastEvent(event);
     }
 
+    @SubscribeEvent
+    public static void onColonyChunkDataUpdated(@NotNull final ClientChunkUpdatedEvent event)
+    {
+        ColonyBorderGeometry.onClaimUpdated(event.getChunk());
+    }
+
+    @SubscribeEvent
+    public static void onChunkUnloaded(@NotNull final ChunkEvent.Unload event)
+    {
+        if (event.getLevel().isClientSide())
+        {
+            ColonyBorderGeometry.onChunkUnloaded(event.getLevel(), event.getChunk().getPos());
+        }
+    }
+
     @SubscribeEvent
     public static void onPlayerLogout(@NotNull final ClientPlayerNetworkEvent.LoggingOut event)
     {
         ColonyBorderRenderer.cleanup();
         WindowBuildingBrowser.clearCache();
+        SyncPayloadCache.clearPending();
     }
 
     @SubscribeEvent(priority = EventPriority.HIGH)
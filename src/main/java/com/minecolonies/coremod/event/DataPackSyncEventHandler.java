@@ -1,13 +1,10 @@
 package com.minecolonies.coremod.event;
 
 import com.minecolonies.api.IMinecoloniesAPI;
-import com.minecolonies.api.research.IGlobalResearchTree;
 import com.minecolonies.coremod.MineColonies;
-import com.minecolonies.coremod.Network;
 import com.minecolonies.coremod.colony.crafting.CustomRecipeManager;
 import com.minecolonies.coremod.compatibility.CraftingTagAuditor;
-import com.minecolonies.coremod.datalistener.QuestJsonListener;
-import com.minecolonies.coremod.network.messages.client.UpdateClientWithCompatibilityMessage;
+import com.minecolonies.coremod.network.SyncPayloadCache;
 import com.minecolonies.coremod.util.FurnaceRecipes;
 import com.mojang.authlib.GameProfile;
 import net.minecraft.client.Minecraft;
@@ -54,21 +51,6 @@ public class DataPackSyncEventHandler
             CustomRecipeManager.getInstance().buildLootData(server.getLootTables());
         }
 
-        /**
-         * Send custom sync packets to the given player.
-         *
-         * @param player    the player to send the sync packets to.
-         * @param compatMsg a cached copy of this message, to avoid rebuilding it for each player.
-         */
-        private static void sendPackets(@NotNull final ServerPlayer player,
-                                        @NotNull final UpdateClientWithCompatibilityMessage compatMsg)
-        {
-            Network.getNetwork().sendToPlayer(compatMsg, player);
-            CustomRecipeManager.getInstance().sendCustomRecipeManagerPackets(player);
-            IGlobalResearchTree.getInstance().sendGlobalResearchTreePackets(player);
-            QuestJsonListener.sendGlobalQuestPackets(player);
-        }
-
         /**
          * This event fires on server-side both at initial world load and whenever a new player
          * joins the server (with getPlayer() != null), and also on datapack reload (with null).
@@ -88,19 +70,20 @@ public class DataPackSyncEventHandler
                 // for a reload event, we also want to rebuild various lists (mirroring FMLServerStartedEvent)
                 discoverCompatLists(server);
 
+                SyncPayloadCache.invalidate();
+
                 // and then finally update every player with the results
-                final UpdateClientWithCompatibilityMessage compatMsg = new UpdateClientWithCompatibilityMessage(true);
                 for (final ServerPlayer player : event.getPlayerList().getPlayers())
                 {
                     if (player.getGameProfile() != owner)   // don't need to send them in SP, or LAN owner
                     {
-                        sendPackets(player, compatMsg);
+                        SyncPayloadCache.sendHashes(player);
                     }
                 }
             }
             else if (event.getPlayer().getGameProfile() != owner)
             {
-                sendPackets(event.getPlayer(), new UpdateClientWithCompatibilityMessage(true));
+                SyncPayloadCache.sendHashes(event.getPlayer());
             }
 
             if (MineColonies.getConfig().getServer().auditCraftingTags.get() &&
@@ -121,6 +104,7 @@ public class DataPackSyncEventHandler
         public static void onServerStarted(@NotNull final ServerStartedEvent event)
         {
             discoverCompatLists(event.getServer());
+            SyncPayloadCache.invalidate();
         }
     }
 
@@ -38,8 +38,11 @@ import com.minecolonies.coremod.loot.SupplyLoot;
 import com.minecolonies.coremod.network.messages.client.OpenSuggestionWindowMessage;
 import com.minecolonies.coremod.network.messages.client.UpdateChunkCapabilityMessage;
 import com.minecolonies.coremod.network.messages.client.UpdateChunkRangeCapabilityMessage;
+import com.minecolonies.coremod.tileentities.ScarecrowFieldIndex;
+import com.minecolonies.coremod.util.BeeHiveRegistry;
 import com.minecolonies.coremod.util.ChunkClientDataHelper;
 import com.minecolonies.coremod.util.ChunkDataHelper;
+import com.minecolonies.coremod.util.EntityTracker;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.Component;
@@ -48,6 +51,7 @@ import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.*;
 import net.minecraft.world.entity.ai.goal.target.NearestAttackableTargetGoal;
+import net.minecraft.world.entity.animal.Bee;
 import net.minecraft.world.entity.monster.Enemy;
 import net.minecraft.world.entity.monster.ZombieVillager;
 import net.minecraft.world.entity.player.Player;
@@ -66,6 +70,7 @@ import net.minecraft.world.level.block.state.properties.BedPart;
 import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraftforge.event.*;
 import net.minecraftforge.event.entity.EntityJoinLevelEvent;
+import net.minecraftforge.event.entity.EntityLeaveLevelEvent;
 import net.minecraftforge.event.entity.EntityTravelToDimensionEvent;
 import net.minecraftforge.event.entity.living.LivingConversionEvent;
 import net.minecraftforge.event.entity.living.LivingSpawnEvent;
@@ -128,6 +133,11 @@ public class EventHandler
     {
         if (!event.getLevel().isClientSide())
         {
+            EntityTracker.onEntityJoin(event.getEntity());
+            if (event.getEntity() instanceof Bee bee)
+            {
+                BeeHiveRegistry.onBeeJoin(bee);
+            }
             if (MineColonies.getConfig().getServer().mobAttackCitizens.get() && (event.getEntity() instanceof Enemy) && !(event.getEntity()
               .getType()
               .is(ModTags.mobAttackBlacklist)))
@@ -138,6 +148,52 @@ public class EventHandler
         }
     }
 
+    /**
+     * On Entity leave do this.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void onEntityRemoved(@NotNull final EntityLeaveLevelEvent event)
+    {
+        if (!event.getLevel().isClientSide())
+        {
+            EntityTracker.onEntityLeave(event.getEntity());
+            if (event.getEntity() instanceof Bee bee)
+            {
+                BeeHiveRegistry.onBeeLeave(bee);
+            }
+        }
+    }
+
+    /**
+     * Forward block changes to the cell index of the fields around them.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void onNeighborNotify(@NotNull final BlockEvent.NeighborNotifyEvent event)
+    {
+        if (!event.getLevel().isClientSide())
+        {
+            ScarecrowFieldIndex.onBlockChanged(event.getLevel(), event.getPos());
+        }
+    }
+
+    /**
+     * Forward crop growth to the cell index of the fields around them.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void onCropGrow(@NotNull final BlockEvent.CropGrowEvent.Post event)
+    {
+        if (!event.getLevel().isClientSide())
+        {
+            ScarecrowFieldIndex.onBlockChanged(event.getLevel(), event.getPos());
+        }
+    }
+
     /**
      * Event called to attach capabilities on a chunk.
      *
@@ -693,6 +749,8 @@ public class EventHandler
         if (!event.getLevel().isClientSide() && event.getLevel() instanceof Level)
         {
             IColonyManager.getInstance().onWorldUnload((Level) event.getLevel());
+            EntityTracker.onWorldUnload((Level) event.getLevel());
+            BeeHiveRegistry.onWorldUnload((Level) event.getLevel());
         }
         if (event.getLevel().isClientSide())
         {
@@ -2,6 +2,7 @@ package com.minecolonies.coremod.event;
 
 import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.coremod.Network;
+import com.minecolonies.coremod.colony.ColonyBenchmark;
 import com.minecolonies.coremod.datalistener.*;
 import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
 import com.minecolonies.coremod.network.messages.client.ServerUUIDMessage;
@@ -23,6 +24,7 @@ public class FMLEventHandler
     public static void onServerTick(final TickEvent.ServerTickEvent event)
     {
         IColonyManager.getInstance().onServerTick(event);
+        ColonyBenchmark.onServerTick(event);
     }
 
     @SubscribeEvent
@@ -69,6 +71,7 @@ public class FMLEventHandler
     @SubscribeEvent
     public static void onServerStopped(@NotNull final ServerStoppingEvent event)
     {
+        ColonyBenchmark.abort();
         Pathfinding.shutdown();
     }
 }
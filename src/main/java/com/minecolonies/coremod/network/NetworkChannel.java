@@ -30,7 +30,7 @@ import com.minecolonies.coremod.network.messages.server.colony.citizen.*;
 import com.minecolonies.coremod.network.messages.splitting.SplitPacketMessage;
 import com.minecolonies.coremod.research.GlobalResearchTreeMessage;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
+import io.netty.buffer.PooledByteBufAllocator;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.network.FriendlyByteBuf;
@@ -45,11 +45,12 @@ import net.minecraftforge.network.NetworkRegistry;
 import net.minecraftforge.network.PacketDistributor;
 import net.minecraftforge.network.simple.SimpleChannel;
 
-import java.util.Arrays;
+import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -245,6 +246,17 @@ public class NetworkChannel
 
         // Resource scroll NBT share message
         registerMessage(++idx, ResourceScrollSaveWarehouseSnapshotMessage.class, ResourceScrollSaveWarehouseSnapshotMessage::new);
+
+        // Datapack sync cache
+        registerMessage(++idx, SyncPayloadHashMessage.class, SyncPayloadHashMessage::new);
+        registerMessage(++idx, SyncPayloadDataMessage.class, SyncPayloadDataMessage::new);
+        registerMessage(++idx, RequestSyncPayloadMessage.class, RequestSyncPayloadMessage::new);
+
+        // Building storage queries
+        registerMessage(++idx, QueryBuildingStorageMessage.class, QueryBuildingStorageMessage::new);
+        registerMessage(++idx, BuildingStorageResultMessage.class, BuildingStorageResultMessage::new);
+        registerMessage(++idx, LocateBuildingStorageMessage.class, LocateBuildingStorageMessage::new);
+        registerMessage(++idx, BuildingStorageLocationsMessage.class, BuildingStorageLocationsMessage::new);
     }
 
     private void setupInternalMessages()
@@ -271,7 +283,7 @@ public class NetworkChannel
      */
     private <MSG extends IMessage> void registerMessage(final int id, final Class<MSG> msgClazz, final Supplier<MSG> msgCreator)
     {
-        this.messagesTypes.put(id, new NetworkingMessageEntry<>(msgCreator));
+        this.messagesTypes.put(id, new NetworkingMessageEntry<>(msgClazz, msgCreator));
         this.messageTypeToIdMap.put(msgClazz, id);
     }
 
@@ -282,7 +294,7 @@ public class NetworkChannel
      */
     public void sendToServer(final IMessage msg)
     {
-        handleSplitting(msg, rawChannel::sendToServer);
+        handleSplitting(msg, 1, false, rawChannel::sendToServer);
     }
 
     /**
@@ -293,7 +305,28 @@ public class NetworkChannel
      */
     public void sendToPlayer(final IMessage msg, final ServerPlayer player)
     {
-        handleSplitting(msg, s -> rawChannel.send(PacketDistributor.PLAYER.with(() -> player), s));
+        handleSplitting(msg, 1, s -> rawChannel.send(PacketDistributor.PLAYER.with(() -> player), s));
+    }
+
+    /**
+     * Sends to a group of players, the message is only encoded once and the encoded parts are shared between all players.
+     *
+     * @param msg     message to send
+     * @param players target players
+     */
+    public void sendToPlayers(final IMessage msg, final Collection<ServerPlayer> players)
+    {
+        if (players.isEmpty())
+        {
+            return;
+        }
+
+        handleSplitting(msg, players.size(), s -> {
+            for (final ServerPlayer player : players)
+            {
+                rawChannel.send(PacketDistributor.PLAYER.with(() -> player), s);
+            }
+        });
     }
 
     /**
@@ -335,7 +368,7 @@ public class NetworkChannel
      */
     public void sendToPosition(final IMessage msg, final net.minecraftforge.network.PacketDistributor.TargetPoint pos)
     {
-        handleSplitting(msg, s -> rawChannel.send(PacketDistributor.NEAR.with(() -> pos), s));
+        handleSplitting(msg, 1, s -> rawChannel.send(PacketDistributor.NEAR.with(() -> pos), s));
     }
 
     /**
@@ -345,7 +378,7 @@ public class NetworkChannel
      */
     public void sendToEveryone(final IMessage msg)
     {
-        handleSplitting(msg, s -> rawChannel.send(PacketDistributor.ALL.noArg(), s));
+        handleSplitting(msg, 1, s -> rawChannel.send(PacketDistributor.ALL.noArg(), s));
     }
 
     /**
@@ -362,7 +395,7 @@ public class NetworkChannel
      */
     public void sendToTrackingEntity(final IMessage msg, final Entity entity)
     {
-        handleSplitting(msg, s -> rawChannel.send(PacketDistributor.TRACKING_ENTITY.with(() -> entity), s));
+        handleSplitting(msg, 1, s -> rawChannel.send(PacketDistributor.TRACKING_ENTITY.with(() -> entity), s));
     }
 
     /**
@@ -379,7 +412,7 @@ public class NetworkChannel
      */
     public void sendToTrackingEntityAndSelf(final IMessage msg, final Entity entity)
     {
-        handleSplitting(msg, s -> rawChannel.send(PacketDistributor.TRACKING_ENTITY_AND_SELF.with(() -> entity), s));
+        handleSplitting(msg, 1, s -> rawChannel.send(PacketDistributor.TRACKING_ENTITY_AND_SELF.with(() -> entity), s));
     }
 
     /**
@@ -390,16 +423,31 @@ public class NetworkChannel
      */
     public void sendToTrackingChunk(final IMessage msg, final LevelChunk chunk)
     {
-        handleSplitting(msg, s -> rawChannel.send(PacketDistributor.TRACKING_CHUNK.with(() -> chunk), s));
+        handleSplitting(msg, 1, s -> rawChannel.send(PacketDistributor.TRACKING_CHUNK.with(() -> chunk), s));
     }
 
     /**
-     * Method that handles the splitting of the message into chunks if need be.
+     * Method that handles the splitting of the message into chunks if need be. The message is encoded once into a pooled buffer, the chunks are views on that buffer,
+     * which is released once the consumer handed all of them to the channel (the channel encodes them right away). Large payloads are compressed before splitting.
      *
      * @param msg                  The message to split in question.
+     * @param targets              The number of players the consumer sends each part to, for the metrics. Broadcasts count as one.
      * @param splitMessageConsumer The consumer that sends away the split parts of the message.
      */
-    private void handleSplitting(final IMessage msg, final Consumer<IMessage> splitMessageConsumer)
+    private void handleSplitting(final IMessage msg, final int targets, final Consumer<IMessage> splitMessageConsumer)
+    {
+        handleSplitting(msg, targets, true, splitMessageConsumer);
+    }
+
+    /**
+     * Method that handles the splitting of the message into chunks if need be, see {@link #handleSplitting(IMessage, int, Consumer)}.
+     *
+     * @param msg                  The message to split in question.
+     * @param targets              The number of players the consumer sends each part to, for the metrics. Broadcasts count as one.
+     * @param allowCompression     If large payloads may be compressed, the server drops compressed payloads sent by clients.
+     * @param splitMessageConsumer The consumer that sends away the split parts of the message.
+     */
+    private void handleSplitting(final IMessage msg, final int targets, final boolean allowCompression, final Consumer<IMessage> splitMessageConsumer)
     {
         //Get the inner message id and check if it is known.
         final int messageId = this.messageTypeToIdMap.getOrDefault(msg.getClass(), -1);
@@ -408,41 +456,70 @@ public class NetworkChannel
             throw new IllegalArgumentException("The message is unknown to this channel!");
         }
 
-        //Write the message into a buffer and copy that buffer into a byte array for processing.
-        final ByteBuf buffer = Unpooled.buffer();
-        final FriendlyByteBuf innerFriendlyByteBuf = new FriendlyByteBuf(buffer);
-        msg.toBytes(innerFriendlyByteBuf);
-        final byte[] data = buffer.array();
-        buffer.release();
-
-        //Some tracking variables.
-        //Max packet size: 90% of maximum.
-        final int max_packet_size = 943718; //This is 90% of max packet size.
-        //The current index in the data array.
-        int currentIndex = 0;
-        //The current index for the split packets.
-        int packetIndex = 0;
-        //The communication id.
-        final int comId = messageCounter.getAndIncrement();
-
-        //Loop while data is available.
-        while (currentIndex < data.length)
+        final NetworkingMessageEntry<?> messageEntry = this.getMessagesTypes().get(messageId);
+
+        //Write the message into a pooled buffer, only the written region is sent.
+        ByteBuf buffer = PooledByteBufAllocator.DEFAULT.buffer();
+        try
         {
-            //Tell the network message entry that we are splitting a packet.
-            this.getMessagesTypes().get(messageId).onSplitting(packetIndex);
+            msg.toBytes(new FriendlyByteBuf(buffer));
+            messageEntry.onEncoded(buffer.readableBytes());
+
+            //Compress large payloads, only kept if it actually saves space.
+            boolean compressed = false;
+            if (allowCompression && buffer.readableBytes() >= PayloadCompression.COMPRESSION_THRESHOLD)
+            {
+                final long start = System.nanoTime();
+                final ByteBuf compressedBuffer = PayloadCompression.compress(buffer, PooledByteBufAllocator.DEFAULT);
+                messageEntry.onCompressed(compressedBuffer.readableBytes(), System.nanoTime() - start);
+                if (compressedBuffer.readableBytes() < buffer.readableBytes())
+                {
+                    buffer.release();
+                    buffer = compressedBuffer;
+                    compressed = true;
+                }
+                else
+                {
+                    compressedBuffer.release();
+                }
+            }
+            final int dataLength = buffer.readableBytes();
+
+            //Some tracking variables.
+            //Max packet size: 90% of maximum.
+            final int max_packet_size = 943718; //This is 90% of max packet size.
+            //The current index in the data.
+            int currentIndex = 0;
+            //The current index for the split packets.
+            int packetIndex = 0;
+            //The communication id.
+            final int comId = messageCounter.getAndIncrement();
+
+            //Loop while data is available, an empty message is still sent as a single empty part.
+            do
+            {
+                //Tell the network message entry that we are splitting a packet.
+                messageEntry.onSplitting(packetIndex);
 
-            final int extra = Math.min(max_packet_size, data.length - currentIndex);
-            //Extract the sub data array.
-            final byte[] subPacketData = Arrays.copyOfRange(data, currentIndex, currentIndex + extra);
+                final int extra = Math.min(max_packet_size, dataLength - currentIndex);
+                //View on the sub data, no copy.
+                final ByteBuf subPacketData = buffer.slice(buffer.readerIndex() + currentIndex, extra);
 
-            //Construct the wrapping packet.
-            final SplitPacketMessage splitPacketMessage = new SplitPacketMessage(comId, packetIndex++, (currentIndex + extra) >= data.length, messageId, subPacketData);
+                //Construct the wrapping packet.
+                final SplitPacketMessage splitPacketMessage = new SplitPacketMessage(comId, packetIndex++, (currentIndex + extra) >= dataLength, messageId, compressed, subPacketData);
 
-            //Send the wrapping packet.
-            splitMessageConsumer.accept(splitPacketMessage);
+                //Send the wrapping packet.
+                splitMessageConsumer.accept(splitPacketMessage);
+                messageEntry.onSent(extra, targets);
 
-            //Move our working index.
-            currentIndex += extra;
+                //Move our working index.
+                currentIndex += extra;
+            }
+            while (currentIndex < dataLength);
+        }
+        finally
+        {
+            buffer.release();
         }
     }
 
@@ -478,12 +555,71 @@ public class NetworkChannel
          */
         private final AtomicBoolean hasWarned = new AtomicBoolean(true);
 
+        /**
+         * The message class.
+         */
+        private final Class<MSG> messageClass;
+
         /**
          * A callback to create a new message instance.
          */
         private final Supplier<MSG> creator;
 
-        private NetworkingMessageEntry(final Supplier<MSG> creator) {this.creator = creator;}
+        /**
+         * How often a message of this type was encoded for sending.
+         */
+        private final AtomicLong encodedCount = new AtomicLong();
+
+        /**
+         * The total encoded size of the messages of this type, in bytes.
+         */
+        private final AtomicLong encodedBytes = new AtomicLong();
+
+        /**
+         * How often a message of this type was compressed.
+         */
+        private final AtomicLong compressedCount = new AtomicLong();
+
+        /**
+         * The total compressed size of the messages of this type, in bytes.
+         */
+        private final AtomicLong compressedBytes = new AtomicLong();
+
+        /**
+         * The total time spent compressing messages of this type, in nanoseconds.
+         */
+        private final AtomicLong compressNanos = new AtomicLong();
+
+        /**
+         * The total time spent decompressing messages of this type, in nanoseconds.
+         */
+        private final AtomicLong decompressNanos = new AtomicLong();
+
+        /**
+         * How many parts of this type were handed to the channel, counted per target player, broadcasts count once.
+         */
+        private final AtomicLong sentCount = new AtomicLong();
+
+        /**
+         * The total payload handed to the channel for this type, counted per target player, broadcasts count once, in bytes.
+         */
+        private final AtomicLong sentBytes = new AtomicLong();
+
+        private NetworkingMessageEntry(final Class<MSG> messageClass, final Supplier<MSG> creator)
+        {
+            this.messageClass = messageClass;
+            this.creator = creator;
+        }
+
+        /**
+         * Gives access to the message class.
+         *
+         * @return The message class.
+         */
+        public Class<MSG> getMessageClass()
+        {
+            return messageClass;
+        }
 
         /**
          * Gives access to the callback that creates a new message instance.
@@ -514,5 +650,131 @@ public class NetworkChannel
                 Log.getLogger().warn("Splitting message: " + creator.get().getClass() + " it is too big to send normally. This message is only printed once");
             }
         }
+
+        /**
+         * Invoked when a message of this type was encoded.
+         *
+         * @param bytes The encoded size.
+         */
+        public void onEncoded(final int bytes)
+        {
+            encodedCount.incrementAndGet();
+            encodedBytes.addAndGet(bytes);
+        }
+
+        /**
+         * Invoked when a message of this type was compressed.
+         *
+         * @param bytes The compressed size.
+         * @param nanos The time it took.
+         */
+        public void onCompressed(final int bytes, final long nanos)
+        {
+            compressedCount.incrementAndGet();
+            compressedBytes.addAndGet(bytes);
+            compressNanos.addAndGet(nanos);
+        }
+
+        /**
+         * Invoked when a received message of this type was decompressed.
+         *
+         * @param nanos The time it took.
+         */
+        public void onDecompressed(final long nanos)
+        {
+            decompressNanos.addAndGet(nanos);
+        }
+
+        /**
+         * Invoked when a part of a message of this type was handed to the channel.
+         *
+         * @param bytes   The payload size of the part.
+         * @param targets The number of players it was sent to.
+         */
+        public void onSent(final int bytes, final int targets)
+        {
+            sentCount.addAndGet(targets);
+            sentBytes.addAndGet((long) bytes * targets);
+        }
+
+        /**
+         * Get how often a message of this type was encoded.
+         *
+         * @return The count.
+         */
+        public long getEncodedCount()
+        {
+            return encodedCount.get();
+        }
+
+        /**
+         * Get the total encoded size of this type.
+         *
+         * @return The size in bytes.
+         */
+        public long getEncodedBytes()
+        {
+            return encodedBytes.get();
+        }
+
+        /**
+         * Get how many parts of this type were sent.
+         *
+         * @return The count.
+         */
+        public long getSentCount()
+        {
+            return sentCount.get();
+        }
+
+        /**
+         * Get the total size of the parts of this type that were sent.
+         *
+         * @return The size in bytes.
+         */
+        public long getSentBytes()
+        {
+            return sentBytes.get();
+        }
+
+        /**
+         * Get how often a message of this type was compressed.
+         *
+         * @return The count.
+         */
+        public long getCompressedCount()
+        {
+            return compressedCount.get();
+        }
+
+        /**
+         * Get the total compressed size of this type.
+         *
+         * @return The size in bytes.
+         */
+        public long getCompressedBytes()
+        {
+            return compressedBytes.get();
+        }
+
+        /**
+         * Get the total time spent compressing this type.
+         *
+         * @return The time in nanoseconds.
+         */
+        public long getCompressNanos()
+        {
+            return compressNanos.get();
+        }
+
+        /**
+         * Get the total time spent decompressing this type.
+         *
+         * @return The time in nanoseconds.
+         */
+        public long getDecompressNanos()
+        {
+            return decompressNanos.get();
+        }
     }
 }
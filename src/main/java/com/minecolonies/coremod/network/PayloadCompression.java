@@ -0,0 +1,135 @@
+package com.minecolonies.coremod.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Deflate compression of large message payloads of our channel. Both sides share a preset dictionary of the strings our payloads repeat the most (namespaces, class
+ * names and nbt keys), so even the first occurrences compress well.
+ */
+public final class PayloadCompression
+{
+    /**
+     * Payloads from this size on are compressed, in bytes.
+     */
+    public static final int COMPRESSION_THRESHOLD = 8192;
+
+    /**
+     * Max size of a decompressed payload, to not blow up on corrupt data.
+     */
+    private static final int MAX_DECOMPRESSED_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * Size of the intermediate output chunks, and of the initial output buffer when decompressing.
+     */
+    private static final int CHUNK_SIZE = 8192;
+
+    /**
+     * The preset dictionary, the most frequent content goes last as deflate favours short distances.
+     */
+    private static final byte[] DICTIONARY = String.join("",
+      "Enchantments", "StoredEnchantments", "Damage", "display", "Name", "Lore", "Count", "tag", "lvl", "id",
+      "{\"text\":\"", "\"translate\":\"", "com.minecolonies.api.", "com.minecolonies.coremod.", "structurize:", "domum_ornamentum:",
+      "minecolonies:", "minecraft:").getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Deflater per thread, messages are sent from the server thread and the client thread.
+     */
+    private static final ThreadLocal<Deflater> DEFLATER = ThreadLocal.withInitial(() -> new Deflater(Deflater.BEST_SPEED));
+
+    /**
+     * Inflater per thread, split messages are reassembled on the netty threads.
+     */
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(Inflater::new);
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private PayloadCompression()
+    {
+    }
+
+    /**
+     * Compress the readable bytes of a buffer. The result starts with the uncompressed length.
+     *
+     * @param data      the data to compress, its reader index is not moved.
+     * @param allocator the allocator of the result buffer.
+     * @return the compressed data, to be released by the caller.
+     */
+    public static ByteBuf compress(final ByteBuf data, final ByteBufAllocator allocator)
+    {
+        final Deflater deflater = DEFLATER.get();
+        deflater.reset();
+        deflater.setDictionary(DICTIONARY);
+        deflater.setInput(data.nioBuffer());
+        deflater.finish();
+
+        final ByteBuf result = allocator.buffer(data.readableBytes() / 2 + 16);
+        new FriendlyByteBuf(result).writeVarInt(data.readableBytes());
+
+        final byte[] chunk = new byte[CHUNK_SIZE];
+        while (!deflater.finished())
+        {
+            final int written = deflater.deflate(chunk);
+            result.writeBytes(chunk, 0, written);
+        }
+        return result;
+    }
+
+    /**
+     * Decompress data created by {@link #compress(ByteBuf, ByteBufAllocator)}. The length in the header is only used as upper bound, the output grows as the data
+     * actually inflates, so a forged header can't make us allocate more than the data expands to.
+     *
+     * @param data the compressed data.
+     * @return the original data.
+     * @throws DataFormatException if the data is corrupt.
+     */
+    public static byte[] decompress(final byte[] data) throws DataFormatException
+    {
+        final FriendlyByteBuf header = new FriendlyByteBuf(Unpooled.wrappedBuffer(data));
+        final int length = header.readVarInt();
+        if (length < 0 || length > MAX_DECOMPRESSED_SIZE)
+        {
+            throw new DataFormatException("Invalid decompressed size: " + length);
+        }
+
+        final Inflater inflater = INFLATER.get();
+        inflater.reset();
+        inflater.setInput(data, header.readerIndex(), data.length - header.readerIndex());
+
+        byte[] result = new byte[Math.min(length, CHUNK_SIZE)];
+        int offset = 0;
+        while (offset < length)
+        {
+            if (offset == result.length)
+            {
+                result = Arrays.copyOf(result, (int) Math.min(length, result.length * 2L));
+            }
+
+            final int read = inflater.inflate(result, offset, result.length - offset);
+            if (read == 0)
+            {
+                if (inflater.needsDictionary())
+                {
+                    inflater.setDictionary(DICTIONARY);
+                    continue;
+                }
+
+                if (inflater.finished() || inflater.needsInput())
+                {
+                    throw new DataFormatException("Truncated payload, got " + offset + " of " + length + " bytes");
+                }
+            }
+            offset += read;
+        }
+        return result;
+    }
+}
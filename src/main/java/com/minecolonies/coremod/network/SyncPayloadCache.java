@@ -0,0 +1,429 @@
+package com.minecolonies.coremod.network;
+
+import com.google.common.hash.Hashing;
+import com.minecolonies.api.IMinecoloniesAPI;
+import com.minecolonies.api.network.IMessage;
+import com.minecolonies.api.research.IGlobalResearchTree;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.Network;
+import com.minecolonies.coremod.colony.crafting.CustomRecipeManager;
+import com.minecolonies.coremod.colony.crafting.CustomRecipeManagerMessage;
+import com.minecolonies.coremod.datalistener.QuestJsonListener;
+import com.minecolonies.coremod.network.messages.client.GlobalQuestSyncMessage;
+import com.minecolonies.coremod.network.messages.client.SyncPayloadDataMessage;
+import com.minecolonies.coremod.network.messages.client.SyncPayloadHashMessage;
+import com.minecolonies.coremod.network.messages.client.UpdateClientWithCompatibilityMessage;
+import com.minecolonies.coremod.network.messages.server.RequestSyncPayloadMessage;
+import com.minecolonies.coremod.research.GlobalResearchTree;
+import com.minecolonies.coremod.research.GlobalResearchTreeMessage;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.fml.loading.FMLPaths;
+import net.minecraftforge.network.NetworkEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Content addressed cache of the datapack driven sync payloads. The server encodes each payload once per datapack reload and only sends its hash on login, clients keep
+ * the payloads they received on disk and only request the data when they do not know the hash yet.
+ */
+public final class SyncPayloadCache
+{
+    /**
+     * The payloads which are synced on login.
+     */
+    public enum Payload
+    {
+        COMPATIBILITY(buf -> IMinecoloniesAPI.getInstance().getColonyManager().getCompatibilityManager().serialize(buf), UpdateClientWithCompatibilityMessage::new),
+        CUSTOM_RECIPES(buf -> CustomRecipeManager.getInstance().serializeNetworkData(buf), CustomRecipeManagerMessage::new),
+        RESEARCH_TREE(buf -> ((GlobalResearchTree) IGlobalResearchTree.getInstance()).serializeNetworkData(buf), GlobalResearchTreeMessage::new),
+        QUESTS(QuestJsonListener::serializeGlobalQuests, GlobalQuestSyncMessage::new);
+
+        /**
+         * Writes the payload on the server.
+         */
+        private final Consumer<FriendlyByteBuf> serializer;
+
+        /**
+         * Creates the message which applies the payload on the client.
+         */
+        private final Supplier<IMessage> messageCreator;
+
+        Payload(final Consumer<FriendlyByteBuf> serializer, final Supplier<IMessage> messageCreator)
+        {
+            this.serializer = serializer;
+            this.messageCreator = messageCreator;
+        }
+    }
+
+    /**
+     * An encoded payload.
+     *
+     * @param hash the content hash.
+     * @param data the encoded data.
+     */
+    public record Blob(String hash, byte[] data)
+    {
+    }
+
+    /**
+     * A payload waiting to be applied on the client.
+     */
+    private static final class PendingPayload
+    {
+        /**
+         * The payload.
+         */
+        private final Payload payload;
+
+        /**
+         * The content hash the server sent.
+         */
+        private final String hash;
+
+        /**
+         * The data, null while it still has to arrive from the server.
+         */
+        @Nullable
+        private byte[] data;
+
+        /**
+         * How often the data was requested.
+         */
+        private int attempts = 0;
+
+        /**
+         * Create a waiting payload.
+         *
+         * @param payload the payload.
+         * @param hash    the content hash the server sent.
+         * @param data    the data if cached, else null.
+         */
+        private PendingPayload(final Payload payload, final String hash, @Nullable final byte[] data)
+        {
+            this.payload = payload;
+            this.hash = hash;
+            this.data = data;
+        }
+    }
+
+    /**
+     * Valid hashes, also guards the cache file names.
+     */
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    /**
+     * Max amount of payloads kept in the client disk cache.
+     */
+    private static final int MAX_CACHED_FILES = 32;
+
+    /**
+     * How often the client requests a payload again whose data did not match its hash.
+     */
+    private static final int MAX_REQUEST_ATTEMPTS = 3;
+
+    /**
+     * The encoded payloads of the current datapacks, only accessed from the server thread.
+     */
+    private static final Map<Payload, Blob> BLOBS = new EnumMap<>(Payload.class);
+
+    /**
+     * The payloads the client received a hash for but did not apply yet, in the order the server sent them. Only accessed from the client thread.
+     */
+    private static final Deque<PendingPayload> PENDING = new ArrayDeque<>();
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private SyncPayloadCache()
+    {
+    }
+
+    /**
+     * Drop the encoded payloads, called whenever the underlying data was reloaded.
+     */
+    public static void invalidate()
+    {
+        BLOBS.clear();
+    }
+
+    /**
+     * Drop the payloads still waiting to be applied, called on logout so nothing received from one server is applied after connecting to the next.
+     */
+    public static void clearPending()
+    {
+        PENDING.clear();
+    }
+
+    /**
+     * Get the encoded payload, encoding it if needed.
+     *
+     * @param payload the payload.
+     * @return the blob.
+     */
+    public static Blob getBlob(final Payload payload)
+    {
+        return BLOBS.computeIfAbsent(payload, key -> {
+            final ByteBuf buffer = Unpooled.buffer();
+            key.serializer.accept(new FriendlyByteBuf(buffer));
+            final byte[] data = ByteBufUtil.getBytes(buffer);
+            buffer.release();
+            return new Blob(hash(data), data);
+        });
+    }
+
+    /**
+     * Send the hashes of all payloads to the player.
+     *
+     * @param player the player.
+     */
+    public static void sendHashes(final ServerPlayer player)
+    {
+        for (final Payload payload : Payload.values())
+        {
+            Network.getNetwork().sendToPlayer(new SyncPayloadHashMessage(payload, getBlob(payload).hash()), player);
+        }
+    }
+
+    /**
+     * A client requested the data of a payload.
+     *
+     * @param player  the requesting player.
+     * @param payload the payload.
+     */
+    public static void onRequest(final ServerPlayer player, final Payload payload)
+    {
+        final Blob blob = getBlob(payload);
+        Network.getNetwork().sendToPlayer(new SyncPayloadDataMessage(payload, blob.hash(), blob.data()), player);
+    }
+
+    /**
+     * The client received the hash of a payload. It is applied from disk if known, else the data is requested. Payloads are applied in the order the server sent
+     * their hashes, so one whose data is still missing holds back the following ones.
+     *
+     * @param payload the payload.
+     * @param hash    the content hash.
+     * @param ctx     the network context.
+     */
+    public static void onHashReceived(final Payload payload, final String hash, final NetworkEvent.Context ctx)
+    {
+        // A newer hash replaces whatever an earlier sync still waits for.
+        PENDING.removeIf(pending -> pending.payload == payload);
+
+        final PendingPayload pending = new PendingPayload(payload, hash, readCached(hash));
+        PENDING.addLast(pending);
+        if (pending.data == null)
+        {
+            request(pending);
+        }
+        applyReady(ctx);
+    }
+
+    /**
+     * The client received the data of a payload. It is stored and applied once it matches the hash the server sent, else it is requested again.
+     *
+     * @param payload the payload.
+     * @param hash    the content hash the server claims.
+     * @param data    the data.
+     * @param ctx     the network context.
+     */
+    public static void onDataReceived(final Payload payload, final String hash, final byte[] data, final NetworkEvent.Context ctx)
+    {
+        PendingPayload pending = null;
+        for (final PendingPayload candidate : PENDING)
+        {
+            if (candidate.payload == payload && candidate.data == null)
+            {
+                pending = candidate;
+                break;
+            }
+        }
+
+        if (pending == null)
+        {
+            // Superseded by a newer hash, or never asked for.
+            return;
+        }
+
+        if (!pending.hash.equals(hash) || !hash(data).equals(hash))
+        {
+            if (pending.attempts < MAX_REQUEST_ATTEMPTS)
+            {
+                Log.getLogger().warn("Received sync payload " + payload + " does not match its hash, requesting it again");
+                request(pending);
+            }
+            else
+            {
+                Log.getLogger().error("Received sync payload " + payload + " does not match its hash, giving up");
+                PENDING.remove(pending);
+                applyReady(ctx);
+            }
+            return;
+        }
+
+        writeCached(hash, data);
+        pending.data = data;
+        applyReady(ctx);
+    }
+
+    /**
+     * Request the data of a payload from the server.
+     *
+     * @param pending the waiting payload.
+     */
+    private static void request(final PendingPayload pending)
+    {
+        pending.attempts++;
+        Network.getNetwork().sendToServer(new RequestSyncPayloadMessage(pending.payload));
+    }
+
+    /**
+     * Apply the waiting payloads in order, up to the first one whose data is still missing.
+     *
+     * @param ctx the network context.
+     */
+    private static void applyReady(final NetworkEvent.Context ctx)
+    {
+        while (!PENDING.isEmpty() && PENDING.peekFirst().data != null)
+        {
+            final PendingPayload pending = PENDING.pollFirst();
+            apply(pending.payload, pending.data, ctx);
+        }
+    }
+
+    /**
+     * Apply a payload through the message that used to carry it.
+     *
+     * @param payload the payload.
+     * @param data    the data.
+     * @param ctx     the network context.
+     */
+    private static void apply(final Payload payload, final byte[] data, final NetworkEvent.Context ctx)
+    {
+        final IMessage message = payload.messageCreator.get();
+        final ByteBuf buffer = Unpooled.wrappedBuffer(data);
+        message.fromBytes(new FriendlyByteBuf(buffer));
+        buffer.release();
+        message.onExecute(ctx, false);
+    }
+
+    /**
+     * Calculate the content hash of some data.
+     *
+     * @param data the data.
+     * @return the hex hash.
+     */
+    private static String hash(final byte[] data)
+    {
+        return Hashing.sha256().hashBytes(data).toString();
+    }
+
+    /**
+     * Get the client disk cache folder.
+     *
+     * @return the path.
+     */
+    private static Path getCacheFolder()
+    {
+        return FMLPaths.GAMEDIR.get().resolve("minecolonies").resolve("synccache");
+    }
+
+    /**
+     * Read a payload from the client disk cache.
+     *
+     * @param hash the content hash.
+     * @return the data or null if not cached or invalid.
+     */
+    @Nullable
+    private static byte[] readCached(final String hash)
+    {
+        if (!HASH_PATTERN.matcher(hash).matches())
+        {
+            return null;
+        }
+
+        final Path file = getCacheFolder().resolve(hash);
+        if (!Files.isRegularFile(file))
+        {
+            return null;
+        }
+
+        try
+        {
+            final byte[] data = Files.readAllBytes(file);
+            if (hash(data).equals(hash))
+            {
+                // Touch, so pruning keeps the recently used ones.
+                Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+                return data;
+            }
+            Files.delete(file);
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Failed to read cached sync payload " + hash, e);
+        }
+        return null;
+    }
+
+    /**
+     * Store a payload in the client disk cache, dropping the least recently used ones beyond the limit.
+     *
+     * @param hash the content hash.
+     * @param data the data.
+     */
+    private static void writeCached(final String hash, final byte[] data)
+    {
+        try
+        {
+            final Path folder = getCacheFolder();
+            Files.createDirectories(folder);
+            Files.write(folder.resolve(hash), data);
+
+            final List<Path> files;
+            try (Stream<Path> stream = Files.list(folder))
+            {
+                files = stream.filter(Files::isRegularFile).sorted(Comparator.comparingLong(SyncPayloadCache::getLastModified).reversed()).toList();
+            }
+
+            for (int i = MAX_CACHED_FILES; i < files.size(); i++)
+            {
+                Files.deleteIfExists(files.get(i));
+            }
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Failed to cache sync payload " + hash, e);
+        }
+    }
+
+    /**
+     * Get the last modified time of a file.
+     *
+     * @param file the file.
+     * @return the time in millis, 0 if unknown.
+     */
+    private static long getLastModified(final Path file)
+    {
+        try
+        {
+            return Files.getLastModifiedTime(file).toMillis();
+        }
+        catch (final IOException e)
+        {
+            return 0;
+        }
+    }
+}
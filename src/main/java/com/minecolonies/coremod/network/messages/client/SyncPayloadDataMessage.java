@@ -0,0 +1,82 @@
+package com.minecolonies.coremod.network.messages.client;
+
+import com.minecolonies.api.network.IMessage;
+import com.minecolonies.coremod.network.SyncPayloadCache;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.fml.LogicalSide;
+import net.minecraftforge.network.NetworkEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Carries the data of a datapack sync payload the client did not have cached.
+ */
+public class SyncPayloadDataMessage implements IMessage
+{
+    /**
+     * The payload.
+     */
+    private SyncPayloadCache.Payload payload;
+
+    /**
+     * The content hash of the payload.
+     */
+    private String hash;
+
+    /**
+     * The encoded payload.
+     */
+    private byte[] data;
+
+    /**
+     * Empty constructor used when registering the message.
+     */
+    public SyncPayloadDataMessage()
+    {
+        super();
+    }
+
+    /**
+     * Create a new data message.
+     *
+     * @param payload the payload.
+     * @param hash    its content hash.
+     * @param data    the encoded payload.
+     */
+    public SyncPayloadDataMessage(final SyncPayloadCache.Payload payload, final String hash, final byte[] data)
+    {
+        super();
+        this.payload = payload;
+        this.hash = hash;
+        this.data = data;
+    }
+
+    @Override
+    public void toBytes(@NotNull final FriendlyByteBuf buf)
+    {
+        buf.writeEnum(payload);
+        buf.writeUtf(hash);
+        buf.writeByteArray(data);
+    }
+
+    @Override
+    public void fromBytes(@NotNull final FriendlyByteBuf buf)
+    {
+        payload = buf.readEnum(SyncPayloadCache.Payload.class);
+        hash = buf.readUtf(128);
+        data = buf.readByteArray();
+    }
+
+    @Nullable
+    @Override
+    public LogicalSide getExecutionSide()
+    {
+        return LogicalSide.CLIENT;
+    }
+
+    @Override
+    public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
+    {
+        SyncPayloadCache.onDataReceived(payload, hash, data, ctxIn);
+    }
+}
@@ -0,0 +1,73 @@
+package com.minecolonies.coremod.network.messages.client;
+
+import com.minecolonies.api.network.IMessage;
+import com.minecolonies.coremod.network.SyncPayloadCache;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.fml.LogicalSide;
+import net.minecraftforge.network.NetworkEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Tells the client the content hash of a datapack sync payload, the client applies it from its cache or requests the data.
+ */
+public class SyncPayloadHashMessage implements IMessage
+{
+    /**
+     * The payload.
+     */
+    private SyncPayloadCache.Payload payload;
+
+    /**
+     * The content hash of the payload.
+     */
+    private String hash;
+
+    /**
+     * Empty constructor used when registering the message.
+     */
+    public SyncPayloadHashMessage()
+    {
+        super();
+    }
+
+    /**
+     * Create a new hash message.
+     *
+     * @param payload the payload.
+     * @param hash    its content hash.
+     */
+    public SyncPayloadHashMessage(final SyncPayloadCache.Payload payload, final String hash)
+    {
+        super();
+        this.payload = payload;
+        this.hash = hash;
+    }
+
+    @Override
+    public void toBytes(@NotNull final FriendlyByteBuf buf)
+    {
+        buf.writeEnum(payload);
+        buf.writeUtf(hash);
+    }
+
+    @Override
+    public void fromBytes(@NotNull final FriendlyByteBuf buf)
+    {
+        payload = buf.readEnum(SyncPayloadCache.Payload.class);
+        hash = buf.readUtf(128);
+    }
+
+    @Nullable
+    @Override
+    public LogicalSide getExecutionSide()
+    {
+        return LogicalSide.CLIENT;
+    }
+
+    @Override
+    public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
+    {
+        SyncPayloadCache.onHashReceived(payload, hash, ctxIn);
+    }
+}
@@ -0,0 +1,67 @@
+package com.minecolonies.coremod.network.messages.client.colony;
+
+import com.minecolonies.api.network.IMessage;
+import com.minecolonies.coremod.client.gui.WindowHutAllInventory;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.fml.LogicalSide;
+import net.minecraftforge.network.NetworkEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+
+/**
+ * Answer to a locate query, the racks storing the item with the amount they store.
+ */
+public class BuildingStorageLocationsMessage implements IMessage
+{
+    /**
+     * The amount stored, by rack position.
+     */
+    private Map<BlockPos, Integer> locations;
+
+    /**
+     * Empty constructor used when registering the message.
+     */
+    public BuildingStorageLocationsMessage()
+    {
+        super();
+    }
+
+    /**
+     * Create a new locations message.
+     *
+     * @param locations the amount stored, by rack position.
+     */
+    public BuildingStorageLocationsMessage(final Map<BlockPos, Integer> locations)
+    {
+        super();
+        this.locations = locations;
+    }
+
+    @Override
+    public void toBytes(@NotNull final FriendlyByteBuf buf)
+    {
+        buf.writeMap(locations, FriendlyByteBuf::writeBlockPos, FriendlyByteBuf::writeVarInt);
+    }
+
+    @Override
+    public void fromBytes(@NotNull final FriendlyByteBuf buf)
+    {
+        locations = buf.readMap(FriendlyByteBuf::readBlockPos, FriendlyByteBuf::readVarInt);
+    }
+
+    @Nullable
+    @Override
+    public LogicalSide getExecutionSide()
+    {
+        return LogicalSide.CLIENT;
+    }
+
+    @Override
+    public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
+    {
+        WindowHutAllInventory.highlightLocations(locations);
+    }
+}
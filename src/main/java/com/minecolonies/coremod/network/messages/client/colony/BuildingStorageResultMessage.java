@@ -0,0 +1,112 @@
+package com.minecolonies.coremod.network.messages.client.colony;
+
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.network.IMessage;
+import com.minecolonies.coremod.client.gui.BuildingStorageQueries;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.fml.LogicalSide;
+import net.minecraftforge.network.NetworkEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Answer to a building storage query, a page of items with their stored amounts.
+ */
+public class BuildingStorageResultMessage implements IMessage
+{
+    /**
+     * Id of the query on the client.
+     */
+    private int queryId;
+
+    /**
+     * Total amount of entries of the query.
+     */
+    private int total;
+
+    /**
+     * Index of the first entry of this page.
+     */
+    private int offset;
+
+    /**
+     * The entries of this page.
+     */
+    private List<ItemStorage> entries;
+
+    /**
+     * Empty constructor used when registering the message.
+     */
+    public BuildingStorageResultMessage()
+    {
+        super();
+    }
+
+    /**
+     * Create a new result message.
+     *
+     * @param queryId the id of the query on the client.
+     * @param total   the total amount of entries.
+     * @param offset  the index of the first entry of this page.
+     * @param entries the entries, with their amount.
+     */
+    public BuildingStorageResultMessage(final int queryId, final int total, final int offset, final List<ItemStorage> entries)
+    {
+        super();
+        this.queryId = queryId;
+        this.total = total;
+        this.offset = offset;
+        this.entries = entries;
+    }
+
+    @Override
+    public void toBytes(@NotNull final FriendlyByteBuf buf)
+    {
+        buf.writeVarInt(queryId);
+        buf.writeVarInt(total);
+        buf.writeVarInt(offset);
+        buf.writeVarInt(entries.size());
+        for (final ItemStorage entry : entries)
+        {
+            // The amount can exceed what fits into the stack count.
+            final ItemStack stack = entry.getItemStack().copy();
+            stack.setCount(1);
+            buf.writeItem(stack);
+            buf.writeVarInt(entry.getAmount());
+            buf.writeBoolean(entry.ignoreDamageValue());
+        }
+    }
+
+    @Override
+    public void fromBytes(@NotNull final FriendlyByteBuf buf)
+    {
+        queryId = buf.readVarInt();
+        total = buf.readVarInt();
+        offset = buf.readVarInt();
+        final int size = buf.readVarInt();
+        entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+        {
+            final ItemStack stack = buf.readItem();
+            final int amount = buf.readVarInt();
+            entries.add(new ItemStorage(stack, amount, buf.readBoolean()));
+        }
+    }
+
+    @Nullable
+    @Override
+    public LogicalSide getExecutionSide()
+    {
+        return LogicalSide.CLIENT;
+    }
+
+    @Override
+    public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
+    {
+        BuildingStorageQueries.onResult(queryId, total, offset, entries);
+    }
+}
@@ -2,7 +2,7 @@ package com.minecolonies.coremod.network.messages.client.colony;
 
 import com.minecolonies.api.colony.*;
 import com.minecolonies.api.network.IMessage;
-import com.minecolonies.api.util.Log;
+import it.unimi.dsi.fastutil.ints.IntSet;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
@@ -35,6 +35,11 @@ public class ColonyVisitorViewDataMessage implements IMessage
      */
     private Set<IVisitorData> visitors;
 
+    /**
+     * Ids of the visitors removed since the last update.
+     */
+    private IntSet removed;
+
     /**
      * Visitor buf to read on client side.
      */
@@ -54,17 +59,21 @@ public class ColonyVisitorViewDataMessage implements IMessage
     }
 
     /**
-     * Updates a {@link com.minecolonies.coremod.colony.CitizenDataView} of the citizens.
+     * Updates the visitor views of a colony.
      *
-     * @param colony Colony of the citizen
+     * @param colony   Colony of the visitors
+     * @param visitors the visitors to update.
+     * @param refresh  if the visitors are a full snapshot, replacing all visitor views.
+     * @param removed  the ids of the removed visitors.
      */
-    public ColonyVisitorViewDataMessage(@NotNull final IColony colony, @NotNull final Set<IVisitorData> visitors, final boolean refresh)
+    public ColonyVisitorViewDataMessage(@NotNull final IColony colony, @NotNull final Set<IVisitorData> visitors, final boolean refresh, @NotNull final IntSet removed)
     {
         super();
         this.colonyId = colony.getID();
         this.dimension = colony.getDimension();
         this.visitors = visitors;
         this.refresh = refresh;
+        this.removed = removed;
     }
 
     @Override
@@ -73,14 +82,6 @@ public class ColonyVisitorViewDataMessage implements IMessage
         colonyId = buf.readInt();
         dimension = ResourceKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation(buf.readUtf(32767)));
         refresh = buf.readBoolean();
-        final IColonyView colony = IColonyManager.getInstance().getColonyView(colonyId, dimension);
-
-        if (colony == null)
-        {
-            Log.getLogger().warn("Received visitor data for nonexisting colony:" + colonyId + " dim:" + dimension);
-            return;
-        }
-
         this.visitorBuf = new FriendlyByteBuf(buf.retain());
     }
 
@@ -97,6 +98,12 @@ public class ColonyVisitorViewDataMessage implements IMessage
             buf.writeInt(data.getId());
             data.serializeViewNetworkData(buf);
         }
+
+        buf.writeVarInt(removed.size());
+        for (final int id : removed)
+        {
+            buf.writeVarInt(id);
+        }
     }
 
     @Nullable
@@ -109,15 +116,7 @@ public class ColonyVisitorViewDataMessage implements IMessage
     @Override
     public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
     {
-        final IColonyView colony = IColonyManager.getInstance().getColonyView(colonyId, dimension);
-
-        if (colony == null)
-        {
-            Log.getLogger().warn("Received visitor data for nonexisting colony:" + colonyId + " dim:" + dimension);
-            return;
-        }
-
-        colony.handleColonyViewVisitorMessage(visitorBuf, refresh);
+        IColonyManager.getInstance().handleColonyViewVisitorMessage(colonyId, visitorBuf, refresh, dimension);
         visitorBuf.release();
     }
 }
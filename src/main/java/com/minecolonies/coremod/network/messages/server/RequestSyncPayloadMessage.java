@@ -0,0 +1,69 @@
+package com.minecolonies.coremod.network.messages.server;
+
+import com.minecolonies.api.network.IMessage;
+import com.minecolonies.coremod.network.SyncPayloadCache;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.fml.LogicalSide;
+import net.minecraftforge.network.NetworkEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Sent by the client to request the data of a datapack sync payload it does not have cached.
+ */
+public class RequestSyncPayloadMessage implements IMessage
+{
+    /**
+     * The requested payload.
+     */
+    private SyncPayloadCache.Payload payload;
+
+    /**
+     * Empty constructor used when registering the message.
+     */
+    public RequestSyncPayloadMessage()
+    {
+        super();
+    }
+
+    /**
+     * Create a new request.
+     *
+     * @param payload the requested payload.
+     */
+    public RequestSyncPayloadMessage(final SyncPayloadCache.Payload payload)
+    {
+        super();
+        this.payload = payload;
+    }
+
+    @Override
+    public void toBytes(@NotNull final FriendlyByteBuf buf)
+    {
+        buf.writeEnum(payload);
+    }
+
+    @Override
+    public void fromBytes(@NotNull final FriendlyByteBuf buf)
+    {
+        payload = buf.readEnum(SyncPayloadCache.Payload.class);
+    }
+
+    @Nullable
+    @Override
+    public LogicalSide getExecutionSide()
+    {
+        return LogicalSide.SERVER;
+    }
+
+    @Override
+    public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
+    {
+        final ServerPlayer player = ctxIn.getSender();
+        if (player != null)
+        {
+            SyncPayloadCache.onRequest(player, payload);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.minecolonies.coremod.network.messages.server.colony.building;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.colony.buildings.views.IBuildingView;
+import com.minecolonies.api.colony.permissions.Action;
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.tileentities.TileEntityRack;
+import com.minecolonies.api.util.WorldUtil;
+import com.minecolonies.coremod.Network;
+import com.minecolonies.coremod.network.messages.client.colony.BuildingStorageLocationsMessage;
+import com.minecolonies.coremod.network.messages.server.AbstractBuildingServerMessage;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraftforge.network.NetworkEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Ask for the racks of a building storing an item. The server answers with a {@link BuildingStorageLocationsMessage}.
+ */
+public class LocateBuildingStorageMessage extends AbstractBuildingServerMessage<IBuilding>
+{
+    /**
+     * The item to locate.
+     */
+    private ItemStack stack;
+
+    /**
+     * If the damage value is ignored.
+     */
+    private boolean ignoreDamageValue;
+
+    /**
+     * Empty constructor used when registering the message.
+     */
+    public LocateBuildingStorageMessage()
+    {
+        super();
+    }
+
+    /**
+     * Locate an item in the racks of a building.
+     *
+     * @param building the building.
+     * @param storage  the item to locate.
+     */
+    public LocateBuildingStorageMessage(final IBuildingView building, final ItemStorage storage)
+    {
+        super(building);
+        this.stack = storage.getItemStack().copy();
+        this.stack.setCount(1);
+        this.ignoreDamageValue = storage.ignoreDamageValue();
+    }
+
+    @Nullable
+    @Override
+    public Action permissionNeeded()
+    {
+        return Action.ACCESS_HUTS;
+    }
+
+    @Override
+    protected void toBytesOverride(@NotNull final FriendlyByteBuf buf)
+    {
+        buf.writeItem(stack);
+        buf.writeBoolean(ignoreDamageValue);
+    }
+
+    @Override
+    protected void fromBytesOverride(@NotNull final FriendlyByteBuf buf)
+    {
+        stack = buf.readItem();
+        ignoreDamageValue = buf.readBoolean();
+    }
+
+    @Override
+    protected void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer, final IColony colony, final IBuilding building)
+    {
+        if (ctxIn.getSender() == null)
+        {
+            return;
+        }
+
+        final Map<BlockPos, Integer> locations = new HashMap<>();
+        for (final BlockPos pos : building.getContainers())
+        {
+            if (WorldUtil.isBlockLoaded(colony.getWorld(), pos))
+            {
+                final BlockEntity entity = colony.getWorld().getBlockEntity(pos);
+                if (entity instanceof TileEntityRack rack)
+                {
+                    final int count = rack.getCount(stack, ignoreDamageValue, false);
+                    if (count > 0)
+                    {
+                        locations.put(pos, count);
+                    }
+                }
+            }
+        }
+
+        Network.getNetwork().sendToPlayer(new BuildingStorageLocationsMessage(locations), ctxIn.getSender());
+    }
+}
@@ -0,0 +1,173 @@
+package com.minecolonies.coremod.network.messages.server.colony.building;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.colony.buildings.views.IBuildingView;
+import com.minecolonies.api.colony.permissions.Action;
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.inventory.BuildingStorageView;
+import com.minecolonies.coremod.Network;
+import com.minecolonies.coremod.network.messages.client.colony.BuildingStorageResultMessage;
+import com.minecolonies.coremod.network.messages.server.AbstractBuildingServerMessage;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.util.Mth;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.network.NetworkEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Query a page of the aggregated storage of a building, or the amounts of a list of items. The server answers with a {@link BuildingStorageResultMessage}.
+ */
+public class QueryBuildingStorageMessage extends AbstractBuildingServerMessage<IBuilding>
+{
+    /**
+     * Max amount of entries per page.
+     */
+    public static final int MAX_PAGE_SIZE = 128;
+
+    /**
+     * Max length of the filter.
+     */
+    private static final int MAX_FILTER_LENGTH = 256;
+
+    /**
+     * Id of the query on the client.
+     */
+    private int queryId;
+
+    /**
+     * The filter for the content.
+     */
+    private String filter;
+
+    /**
+     * The sort of the content.
+     */
+    private int sort;
+
+    /**
+     * First entry of the page.
+     */
+    private int offset;
+
+    /**
+     * Size of the page.
+     */
+    private int limit;
+
+    /**
+     * The items to count, if empty the page of the content is queried.
+     */
+    private List<ItemStack> items;
+
+    /**
+     * Empty constructor used when registering the message.
+     */
+    public QueryBuildingStorageMessage()
+    {
+        super();
+    }
+
+    /**
+     * Query a page of the sorted and filtered storage content.
+     *
+     * @param building the building.
+     * @param queryId  the id of the query on the client.
+     * @param filter   the filter, empty for all.
+     * @param sort     the sort, one of the sort window constants.
+     * @param offset   the first entry of the page.
+     * @param limit    the size of the page.
+     */
+    public QueryBuildingStorageMessage(final IBuildingView building, final int queryId, final String filter, final int sort, final int offset, final int limit)
+    {
+        super(building);
+        this.queryId = queryId;
+        this.filter = filter;
+        this.sort = sort;
+        this.offset = offset;
+        this.limit = limit;
+        this.items = Collections.emptyList();
+    }
+
+    /**
+     * Query the stored amounts of some items.
+     *
+     * @param building the building.
+     * @param queryId  the id of the query on the client.
+     * @param items    the items to count.
+     */
+    public QueryBuildingStorageMessage(final IBuildingView building, final int queryId, final List<ItemStack> items)
+    {
+        super(building);
+        this.queryId = queryId;
+        this.filter = "";
+        this.items = items;
+    }
+
+    @Nullable
+    @Override
+    public Action permissionNeeded()
+    {
+        return Action.ACCESS_HUTS;
+    }
+
+    @Override
+    protected void toBytesOverride(@NotNull final FriendlyByteBuf buf)
+    {
+        buf.writeVarInt(queryId);
+        buf.writeUtf(filter, MAX_FILTER_LENGTH);
+        buf.writeVarInt(sort);
+        buf.writeVarInt(offset);
+        buf.writeVarInt(limit);
+        buf.writeCollection(items, FriendlyByteBuf::writeItem);
+    }
+
+    @Override
+    protected void fromBytesOverride(@NotNull final FriendlyByteBuf buf)
+    {
+        queryId = buf.readVarInt();
+        filter = buf.readUtf(MAX_FILTER_LENGTH);
+        sort = buf.readVarInt();
+        offset = buf.readVarInt();
+        limit = buf.readVarInt();
+        items = buf.readList(FriendlyByteBuf::readItem);
+    }
+
+    @Override
+    protected void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer, final IColony colony, final IBuilding building)
+    {
+        if (ctxIn.getSender() == null)
+        {
+            return;
+        }
+
+        final BuildingStorageView storage = building.getStorageView();
+        final List<ItemStorage> result = new ArrayList<>();
+        final int total;
+        if (items.isEmpty())
+        {
+            final List<ItemStorage> content = storage.query(filter.toLowerCase(Locale.US), sort);
+            total = content.size();
+            final int from = Mth.clamp(offset, 0, total);
+            result.addAll(content.subList(from, Math.min(total, from + Mth.clamp(limit, 0, MAX_PAGE_SIZE))));
+        }
+        else
+        {
+            for (final ItemStack stack : items)
+            {
+                final ItemStorage item = new ItemStorage(stack);
+                item.setAmount(storage.getCount(item));
+                result.add(item);
+            }
+            total = result.size();
+        }
+
+        Network.getNetwork().sendToPlayer(new BuildingStorageResultMessage(queryId, total, items.isEmpty() ? Mth.clamp(offset, 0, total) : 0, result), ctxIn.getSender());
+    }
+}
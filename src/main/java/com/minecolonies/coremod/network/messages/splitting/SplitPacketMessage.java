@@ -6,6 +6,7 @@ import com.minecolonies.api.network.IMessage;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.Network;
 import com.minecolonies.coremod.network.NetworkChannel;
+import com.minecolonies.coremod.network.PayloadCompression;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import net.minecraft.network.FriendlyByteBuf;
@@ -14,6 +15,7 @@ import net.minecraftforge.network.NetworkEvent;
 
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.zip.DataFormatException;
 
 /**
  * Represents a class that wrappers other messages in byte form and is used to split the wrapped messages data into several chunks.
@@ -41,10 +43,20 @@ public class SplitPacketMessage implements IMessage
     private int innerMessageId = -1;
 
     /**
-     * The payload.
+     * Whether the wrapped message data is compressed.
+     */
+    private boolean compressed = false;
+
+    /**
+     * The received payload.
      */
     private byte[] payload;
 
+    /**
+     * The payload to send, a view on the buffer of the encoded wrapped message which is shared between all recipients.
+     */
+    private ByteBuf payloadSlice;
+
     /**
      * The network receiving constructor.
      */
@@ -52,13 +64,24 @@ public class SplitPacketMessage implements IMessage
     {
     }
 
-    public SplitPacketMessage(final int communicationId, final int packetIndex, final boolean terminator, final int innerMessageId, final byte[] payload)
+    /**
+     * Create a new part of a split message.
+     *
+     * @param communicationId the id of the wrapped message.
+     * @param packetIndex     the index of this part.
+     * @param terminator      whether this is the last part.
+     * @param innerMessageId  the id of the wrapped message type.
+     * @param compressed      whether the wrapped message data is compressed.
+     * @param payloadSlice    the part of the wrapped message data, it is not copied and only read when encoding.
+     */
+    public SplitPacketMessage(final int communicationId, final int packetIndex, final boolean terminator, final int innerMessageId, final boolean compressed, final ByteBuf payloadSlice)
     {
         this.communicationId = communicationId;
         this.packetIndex = packetIndex;
         this.terminator = terminator;
         this.innerMessageId = innerMessageId;
-        this.payload = payload;
+        this.compressed = compressed;
+        this.payloadSlice = payloadSlice;
     }
 
     @Override
@@ -68,7 +91,10 @@ public class SplitPacketMessage implements IMessage
         buf.writeVarInt(this.packetIndex);
         buf.writeBoolean(this.terminator);
         buf.writeVarInt(this.innerMessageId);
-        buf.writeByteArray(this.payload);
+        buf.writeBoolean(this.compressed);
+        // Same layout as writeByteArray, without moving the reader index of the shared slice.
+        buf.writeVarInt(this.payloadSlice.readableBytes());
+        buf.writeBytes(this.payloadSlice, this.payloadSlice.readerIndex(), this.payloadSlice.readableBytes());
     }
 
     @Override
@@ -78,12 +104,20 @@ public class SplitPacketMessage implements IMessage
         this.packetIndex = buf.readVarInt();
         this.terminator = buf.readBoolean();
         this.innerMessageId = buf.readVarInt();
+        this.compressed = buf.readBoolean();
         this.payload = buf.readByteArray();
     }
 
     @Override
     public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
     {
+        if (this.compressed && ctxIn.getDirection().getOriginationSide() == LogicalSide.CLIENT)
+        {
+            // Only the server compresses, don't let a client make us inflate anything.
+            Log.getLogger().warn("Dropping compressed split packet sent by a client");
+            return;
+        }
+
         try
         {
             //Sync on the message cache since this is still on the Netty thread.
@@ -100,7 +134,7 @@ public class SplitPacketMessage implements IMessage
 
             //No need to sync again, since we are now the last packet to arrive.
             //All data gets sorted and appended.
-            final byte[] packetData = Network.getNetwork().getMessageCache().get(this.communicationId, Maps::newConcurrentMap).entrySet()
+            byte[] packetData = Network.getNetwork().getMessageCache().get(this.communicationId, Maps::newConcurrentMap).entrySet()
                                         .stream()
                                         .sorted(Map.Entry.comparingByKey())
                                         .map(Map.Entry::getValue)
@@ -109,6 +143,13 @@ public class SplitPacketMessage implements IMessage
             //Grab the entry from the inner message id.
             final NetworkChannel.NetworkingMessageEntry<?> messageEntry = Network.getNetwork().getMessagesTypes().get(this.innerMessageId);
 
+            if (this.compressed)
+            {
+                final long start = System.nanoTime();
+                packetData = PayloadCompression.decompress(packetData);
+                messageEntry.onDecompressed(System.nanoTime() - start);
+            }
+
             //Create a message.
             final IMessage message = messageEntry.getCreator().get();
 
@@ -127,7 +168,7 @@ public class SplitPacketMessage implements IMessage
             // boolean param MUST equals true if packet arrived at logical server
             ctxIn.enqueueWork(() -> message.onExecute(ctxIn, packetOrigin.equals(LogicalSide.CLIENT)));
         }
-        catch (ExecutionException e)
+        catch (ExecutionException | DataFormatException e)
         {
             Log.getLogger().error("Failed to handle split packet.", e);
         }
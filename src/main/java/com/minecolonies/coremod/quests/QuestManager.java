@@ -4,6 +4,7 @@ import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.quests.IQuestInstance;
 import com.minecolonies.api.quests.IQuestTemplate;
 import com.minecolonies.api.quests.IQuestManager;
+import com.minecolonies.api.quests.QuestTriggerSignal;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
@@ -19,6 +20,21 @@ import static com.minecolonies.api.util.constant.NbtTagConstants.*;
  */
 public class QuestManager implements IQuestManager
 {
+    /**
+     * The quests by the signals their triggers depend on.
+     */
+    private static Map<QuestTriggerSignal, List<ResourceLocation>> questsBySignal = Collections.emptyMap();
+
+    /**
+     * The quests by their parent quests.
+     */
+    private static Map<ResourceLocation, List<ResourceLocation>> questsByParent = Collections.emptyMap();
+
+    /**
+     * Version of the quest index, increased on every quest reload.
+     */
+    private static int indexVersion = 0;
+
     /**
      * All quests that have been unlocked.
      */
@@ -39,6 +55,31 @@ public class QuestManager implements IQuestManager
      */
     private final IColony colony;
 
+    /**
+     * Interval in colony ticks at which the quests depending on the colony state are re-evaluated without a signal.
+     */
+    private static final int STATE_REFRESH_INTERVAL = 12;
+
+    /**
+     * The colony ticks since the quests depending on the colony state were last re-evaluated.
+     */
+    private int ticksSinceStateRefresh = 0;
+
+    /**
+     * The index version this colony last evaluated all quests for.
+     */
+    private int seenIndexVersion = -1;
+
+    /**
+     * The signals fired since the last colony tick.
+     */
+    private final Set<QuestTriggerSignal> pendingSignals = EnumSet.noneOf(QuestTriggerSignal.class);
+
+    /**
+     * The quests to re-evaluate on the next colony tick.
+     */
+    private final Set<ResourceLocation> pendingQuests = new HashSet<>();
+
     public QuestManager(final IColony colony)
     {
         this.colony = colony;
@@ -64,66 +105,160 @@ public class QuestManager implements IQuestManager
         {
             inProgressQuests.remove(questId);
             finishedQuests.put(questId, finishedQuests.getOrDefault(questId, 0) + 1);
+            onQuestStateChanged(questId);
         }
         else if (availableQuests.containsKey(questId))
         {
             // When a player short-cut quits a job without accepting it. (E.g. been there, done that options).
             availableQuests.remove(questId);
             finishedQuests.put(questId, finishedQuests.getOrDefault(questId, 0) + 1);
+            onQuestStateChanged(questId);
         }
     }
 
-    @Override
-    public void onColonyTick()
+    /**
+     * Rebuild the quest index from the loaded quests, called after every quest reload.
+     */
+    public static void rebuildIndex()
     {
+        final Map<QuestTriggerSignal, List<ResourceLocation>> bySignal = new EnumMap<>(QuestTriggerSignal.class);
+        final Map<ResourceLocation, List<ResourceLocation>> byParent = new HashMap<>();
         for (final Map.Entry<ResourceLocation, IQuestTemplate> quest : GLOBAL_SERVER_QUESTS.entrySet())
         {
-            if (availableQuests.containsKey(quest.getKey())
-                  || inProgressQuests.containsKey(quest.getKey())
-                  || finishedQuests.getOrDefault(quest.getKey(), 0) >= quest.getValue().getMaxOccurrence())
+            for (final QuestTriggerSignal signal : quest.getValue().getTriggerSignals())
             {
-                continue;
+                bySignal.computeIfAbsent(signal, key -> new ArrayList<>()).add(quest.getKey());
             }
 
-            boolean missingParent = false;
-            for (final ResourceLocation parent: quest.getValue().getParents())
+            for (final ResourceLocation parent : quest.getValue().getParents())
             {
-                if (!finishedQuests.containsKey(parent))
-                {
-                    missingParent = true;
-                    break;
-                }
+                byParent.computeIfAbsent(parent, key -> new ArrayList<>()).add(quest.getKey());
             }
+        }
+
+        questsBySignal = bySignal;
+        questsByParent = byParent;
+        indexVersion++;
+    }
 
-            if (missingParent)
+    @Override
+    public void onSignal(final QuestTriggerSignal signal)
+    {
+        pendingSignals.add(signal);
+    }
+
+    /**
+     * A quest finished or was dropped, re-evaluate it and the quests waiting on it.
+     *
+     * @param questId the id of the quest.
+     */
+    private void onQuestStateChanged(final ResourceLocation questId)
+    {
+        pendingQuests.add(questId);
+        pendingQuests.addAll(questsByParent.getOrDefault(questId, Collections.emptyList()));
+    }
+
+    @Override
+    public void onColonyTick()
+    {
+        if (seenIndexVersion != indexVersion)
+        {
+            // Quests were (re)loaded, evaluate everything once.
+            seenIndexVersion = indexVersion;
+            pendingQuests.addAll(GLOBAL_SERVER_QUESTS.keySet());
+        }
+
+        pendingQuests.addAll(questsBySignal.getOrDefault(QuestTriggerSignal.ALWAYS, Collections.emptyList()));
+        if (++ticksSinceStateRefresh >= STATE_REFRESH_INTERVAL)
+        {
+            pendingSignals.add(QuestTriggerSignal.COLONY_STATE);
+        }
+        if (pendingSignals.contains(QuestTriggerSignal.COLONY_STATE))
+        {
+            ticksSinceStateRefresh = 0;
+        }
+
+        for (final QuestTriggerSignal signal : pendingSignals)
+        {
+            pendingQuests.addAll(questsBySignal.getOrDefault(signal, Collections.emptyList()));
+        }
+        pendingSignals.clear();
+
+        if (!pendingQuests.isEmpty())
+        {
+            final List<ResourceLocation> toEvaluate = new ArrayList<>(pendingQuests);
+            pendingQuests.clear();
+            for (final ResourceLocation questId : toEvaluate)
             {
-                continue;
+                attemptStart(questId);
             }
+        }
 
-            final IQuestInstance colonyQuest = quest.getValue().attemptStart(colony);
-            if (colonyQuest != null)
+        removeInvalidQuests(availableQuests);
+        removeInvalidQuests(inProgressQuests);
+    }
+
+    /**
+     * Drop the quests which timed out or no longer exist. Only the invalid ones are collected, as deletion calls back into this manager.
+     *
+     * @param quests the available or in progress quests.
+     */
+    private void removeInvalidQuests(final Map<ResourceLocation, IQuestInstance> quests)
+    {
+        List<IQuestInstance> invalidQuests = null;
+        for (final Map.Entry<ResourceLocation, IQuestInstance> quest : quests.entrySet())
+        {
+            if (!GLOBAL_SERVER_QUESTS.containsKey(quest.getKey()) || !quest.getValue().isValid(colony))
             {
-                this.availableQuests.put(quest.getKey(), colonyQuest);
+                if (invalidQuests == null)
+                {
+                    invalidQuests = new ArrayList<>();
+                }
+                invalidQuests.add(quest.getValue());
             }
         }
 
-        for (final Map.Entry<ResourceLocation, IQuestInstance> availableQuest : new ArrayList<>(availableQuests.entrySet()))
+        if (invalidQuests != null)
         {
-            if (!GLOBAL_SERVER_QUESTS.containsKey(availableQuest.getKey()) || !availableQuest.getValue().isValid(colony))
+            for (final IQuestInstance quest : invalidQuests)
             {
-                availableQuest.getValue().onDeletion();
-                this.availableQuests.remove(availableQuest.getKey());
+                final ResourceLocation questId = quest.getId();
+                quest.onDeletion();
+                quests.remove(questId);
+                onQuestStateChanged(questId);
             }
         }
+    }
 
-        for (final Map.Entry<ResourceLocation, IQuestInstance> inProgressQuest : new ArrayList<>(inProgressQuests.entrySet()))
+    /**
+     * Try to make a quest available to the colony if it is not active, not exhausted and its parents are finished.
+     *
+     * @param questId the id of the quest.
+     */
+    private void attemptStart(final ResourceLocation questId)
+    {
+        final IQuestTemplate quest = GLOBAL_SERVER_QUESTS.get(questId);
+        if (quest == null
+              || availableQuests.containsKey(questId)
+              || inProgressQuests.containsKey(questId)
+              || finishedQuests.getOrDefault(questId, 0) >= quest.getMaxOccurrence())
+        {
+            return;
+        }
+
+        for (final ResourceLocation parent : quest.getParents())
         {
-            if (!GLOBAL_SERVER_QUESTS.containsKey(inProgressQuest.getKey()) || !inProgressQuest.getValue().isValid(colony))
+            if (!finishedQuests.containsKey(parent))
             {
-                inProgressQuest.getValue().onDeletion();
-                this.inProgressQuests.remove(inProgressQuest.getKey());
+                return;
             }
         }
+
+        final IQuestInstance colonyQuest = quest.attemptStart(colony);
+        if (colonyQuest != null)
+        {
+            this.availableQuests.put(questId, colonyQuest);
+        }
     }
 
     @Override
@@ -131,6 +266,7 @@ public class QuestManager implements IQuestManager
     {
         this.availableQuests.remove(questID);
         this.inProgressQuests.remove(questID);
+        onQuestStateChanged(questID);
     }
 
     @Override
@@ -209,6 +345,9 @@ public class QuestManager implements IQuestManager
         this.inProgressQuests.clear();
         this.inProgressQuests.putAll(localInProgressQuests);
 
+        // Loaded state may differ, evaluate all quests again on the next tick.
+        this.seenIndexVersion = -1;
+
 
         this.finishedQuests.clear();
         final ListTag finishedListTag = nbt.getList(TAG_FINISHED, Tag.TAG_COMPOUND);
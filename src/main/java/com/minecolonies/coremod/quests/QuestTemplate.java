@@ -7,6 +7,7 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.entity.player.Player;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
 
 /**
@@ -29,6 +30,11 @@ public class QuestTemplate implements IQuestTemplate
      */
     private final Function<IColony, List<ITriggerReturnData>> questTriggerList;
 
+    /**
+     * The colony changes the quest triggers depend on.
+     */
+    private final Set<QuestTriggerSignal> triggerSignals;
+
     private final List<IQuestObjectiveTemplate> objectives;
 
     private final List<IQuestRewardTemplate> questRewards;
@@ -50,18 +56,20 @@ public class QuestTemplate implements IQuestTemplate
      * @param parents the parent quests.
      * @param maxOccurrence the max num of occurrences.
      * @param questTriggerList the list of triggers.
+     * @param triggerSignals the colony changes the triggers depend on.
      * @param questObjectives the quest objectives.
      * @param questTimeout the time until it times out.
      * @param questRewards its rewards
      */
     public QuestTemplate(final ResourceLocation questID, final String name,
       final List<ResourceLocation> parents,
-      final int maxOccurrence, final Function<IColony, List<ITriggerReturnData>> questTriggerList, final List<IQuestObjectiveTemplate> questObjectives, final int questTimeout, final List<IQuestRewardTemplate> questRewards)
+      final int maxOccurrence, final Function<IColony, List<ITriggerReturnData>> questTriggerList, final Set<QuestTriggerSignal> triggerSignals, final List<IQuestObjectiveTemplate> questObjectives, final int questTimeout, final List<IQuestRewardTemplate> questRewards)
     {
         this.questID = questID;
         this.name = name;
         this.parents = parents;
         this.questTriggerList = questTriggerList;
+        this.triggerSignals = triggerSignals;
         this.maxOccurrence = maxOccurrence;
         this.objectives = questObjectives;
         this.questTimeout = questTimeout;
@@ -124,4 +132,10 @@ public class QuestTemplate implements IQuestTemplate
     {
         return this.parents;
     }
+
+    @Override
+    public Set<QuestTriggerSignal> getTriggerSignals()
+    {
+        return this.triggerSignals;
+    }
 }
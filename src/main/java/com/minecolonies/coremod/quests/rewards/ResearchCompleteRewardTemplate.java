@@ -4,6 +4,7 @@ import com.google.gson.JsonObject;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.quests.IQuestInstance;
 import com.minecolonies.api.quests.IQuestRewardTemplate;
+import com.minecolonies.api.quests.QuestTriggerSignal;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.entity.player.Player;
 
@@ -44,5 +45,6 @@ public class ResearchCompleteRewardTemplate implements IQuestRewardTemplate
     public void applyReward(final IColony colony, final Player player, final IQuestInstance colonyQuest)
     {
         colony.getResearchManager().getResearchTree().finishResearch(research);
+        colony.getQuestManager().onSignal(QuestTriggerSignal.COLONY_STATE);
     }
 }
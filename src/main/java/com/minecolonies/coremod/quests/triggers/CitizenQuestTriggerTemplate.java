@@ -6,9 +6,9 @@ import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.quests.IQuestTriggerTemplate;
 import com.minecolonies.api.quests.ITriggerReturnData;
+import com.minecolonies.api.quests.QuestTriggerSignal;
 
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
 
 import static com.minecolonies.api.quests.QuestParseConstant.MATCH_ID;
 import static com.minecolonies.api.quests.QuestParseConstant.STATE_ID;
@@ -45,7 +45,7 @@ public class CitizenQuestTriggerTemplate implements IQuestTriggerTemplate
     @Override
     public ITriggerReturnData canTriggerQuest(final IColony colony)
     {
-        final List<ICitizenData> citizenDataList = colony.getCitizenManager().getCitizens();
+        final List<ICitizenData> citizenDataList = new ArrayList<>(colony.getCitizenManager().getCitizens());
         Collections.shuffle(citizenDataList);
         for (final ICitizenData data : citizenDataList)
         {
@@ -56,4 +56,10 @@ public class CitizenQuestTriggerTemplate implements IQuestTriggerTemplate
         }
         return new CitizenTriggerReturnData(null);
     }
+
+    @Override
+    public Set<QuestTriggerSignal> getSignals()
+    {
+        return EnumSet.of(QuestTriggerSignal.CITIZENS);
+    }
 }
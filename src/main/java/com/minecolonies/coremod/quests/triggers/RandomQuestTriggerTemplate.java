@@ -4,6 +4,10 @@ import com.google.gson.JsonObject;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.quests.IQuestTriggerTemplate;
 import com.minecolonies.api.quests.ITriggerReturnData;
+import com.minecolonies.api.quests.QuestTriggerSignal;
+
+import java.util.EnumSet;
+import java.util.Set;
 
 import static com.minecolonies.api.quests.QuestParseConstant.RARITY_ID;
 
@@ -40,4 +44,10 @@ public class RandomQuestTriggerTemplate implements IQuestTriggerTemplate
     {
         return new BooleanTriggerReturnData(colony.getWorld().random.nextInt(oneInChance) <= 1);
     }
+
+    @Override
+    public Set<QuestTriggerSignal> getSignals()
+    {
+        return EnumSet.of(QuestTriggerSignal.ALWAYS);
+    }
 }
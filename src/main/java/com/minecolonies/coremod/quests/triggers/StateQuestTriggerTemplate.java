@@ -5,11 +5,16 @@ import com.google.gson.JsonObject;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.quests.IQuestTriggerTemplate;
 import com.minecolonies.api.quests.ITriggerReturnData;
+import com.minecolonies.api.quests.QuestTriggerSignal;
 import net.minecraft.nbt.*;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 import static com.minecolonies.api.quests.QuestParseConstant.*;
+import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_BUILDING_MANAGER;
+import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_CITIZEN_MANAGER;
 
 /**
  * Random quest trigger.
@@ -81,4 +86,18 @@ public class StateQuestTriggerTemplate implements IQuestTriggerTemplate
 
         return new BooleanTriggerReturnData(IQuestTriggerTemplate.matchNbt(subPathCompound, matchTag, matchCount));
     }
+
+    @Override
+    public Set<QuestTriggerSignal> getSignals()
+    {
+        if (!nbtPath.isEmpty() && nbtPath.get(0).equals(TAG_BUILDING_MANAGER))
+        {
+            return EnumSet.of(QuestTriggerSignal.BUILDINGS);
+        }
+        if (!nbtPath.isEmpty() && nbtPath.get(0).equals(TAG_CITIZEN_MANAGER))
+        {
+            return EnumSet.of(QuestTriggerSignal.CITIZENS);
+        }
+        return EnumSet.of(QuestTriggerSignal.COLONY_STATE);
+    }
 }
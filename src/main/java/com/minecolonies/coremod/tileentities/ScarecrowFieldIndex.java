@@ -0,0 +1,113 @@
+package com.minecolonies.coremod.tileentities;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.LevelAccessor;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.LongConsumer;
+
+/**
+ * Index of the loaded server side fields by the chunks they cover, so block changes can be forwarded to the cell index of the fields containing them.
+ */
+public final class ScarecrowFieldIndex
+{
+    /**
+     * The fields per level and chunk. Only accessed from the server thread.
+     */
+    private static final Map<LevelAccessor, Long2ObjectMap<List<ScarecrowTileEntity>>> FIELDS = new WeakHashMap<>();
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private ScarecrowFieldIndex()
+    {
+    }
+
+    /**
+     * Add a field to the index, in all chunks its largest area covers.
+     *
+     * @param field the field.
+     */
+    public static void add(@NotNull final ScarecrowTileEntity field)
+    {
+        final Long2ObjectMap<List<ScarecrowTileEntity>> chunks = FIELDS.computeIfAbsent(field.getLevel(), level -> new Long2ObjectOpenHashMap<>());
+        forEachChunk(field.getBlockPos(), chunk -> {
+            final List<ScarecrowTileEntity> fields = chunks.computeIfAbsent(chunk, key -> new ArrayList<>());
+            if (!fields.contains(field))
+            {
+                fields.add(field);
+            }
+        });
+    }
+
+    /**
+     * Remove a field from the index.
+     *
+     * @param field the field.
+     */
+    public static void remove(@NotNull final ScarecrowTileEntity field)
+    {
+        final Long2ObjectMap<List<ScarecrowTileEntity>> chunks = FIELDS.get(field.getLevel());
+        if (chunks == null)
+        {
+            return;
+        }
+
+        forEachChunk(field.getBlockPos(), chunk -> {
+            final List<ScarecrowTileEntity> fields = chunks.get(chunk);
+            if (fields != null && fields.remove(field) && fields.isEmpty())
+            {
+                chunks.remove(chunk);
+            }
+        });
+    }
+
+    /**
+     * A block changed, let the fields containing it update their cell index.
+     *
+     * @param level the level.
+     * @param pos   the changed position.
+     */
+    public static void onBlockChanged(@NotNull final LevelAccessor level, @NotNull final BlockPos pos)
+    {
+        final Long2ObjectMap<List<ScarecrowTileEntity>> chunks = FIELDS.get(level);
+        if (chunks == null)
+        {
+            return;
+        }
+
+        final List<ScarecrowTileEntity> fields = chunks.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+        if (fields != null)
+        {
+            for (final ScarecrowTileEntity field : fields)
+            {
+                field.onBlockChanged(pos);
+            }
+        }
+    }
+
+    /**
+     * Run an action for every chunk the largest field around a scarecrow can cover.
+     *
+     * @param center the scarecrow position.
+     * @param action the action, gets the chunk key.
+     */
+    private static void forEachChunk(final BlockPos center, final LongConsumer action)
+    {
+        final int range = ScarecrowTileEntity.getMaxRange();
+        for (int chunkX = (center.getX() - range) >> 4; chunkX <= (center.getX() + range) >> 4; chunkX++)
+        {
+            for (int chunkZ = (center.getZ() - range) >> 4; chunkZ <= (center.getZ() + range) >> 4; chunkZ++)
+            {
+                action.accept(ChunkPos.asLong(chunkX, chunkZ));
+            }
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.minecolonies.api.colony.IColonyView;
 import com.minecolonies.api.inventory.container.ContainerField;
 import com.minecolonies.api.tileentities.AbstractScarecrowTileEntity;
 import com.minecolonies.api.tileentities.ScareCrowType;
+import com.minecolonies.api.tileentities.ScarecrowCellState;
 import com.minecolonies.api.tileentities.ScarecrowFieldStage;
 import com.minecolonies.api.util.ItemStackUtils;
 import net.minecraft.nbt.Tag;
@@ -29,6 +30,10 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Random;
 
 import static com.minecolonies.api.util.constant.NbtTagConstants.*;
@@ -52,6 +57,21 @@ public class ScarecrowTileEntity extends AbstractScarecrowTileEntity
      */
     private static final int MAX_RANGE = 5;
 
+    /**
+     * Max vertical distance of a block change to the scarecrow to still affect a cell, the farmer searches the surface a few blocks up and down.
+     */
+    private static final int CELL_HEIGHT_RANGE = 8;
+
+    /**
+     * Width of the largest field.
+     */
+    private static final int MAX_WIDTH = MAX_RANGE * 2 + 1;
+
+    /**
+     * All cell offsets of the largest field, spiraling outwards from the scarecrow.
+     */
+    private static final List<BlockPos> SPIRAL = createSpiral();
+
     /**
      * Has the field be taken by any worker?
      */
@@ -99,6 +119,17 @@ public class ScarecrowTileEntity extends AbstractScarecrowTileEntity
      */
     private final ItemStackHandler inventory;
 
+    /**
+     * The cell offsets within the current radii in work order, null if the radii changed.
+     */
+    @Nullable
+    private List<BlockPos> workCells;
+
+    /**
+     * The known state of every cell of the largest field, indexed by {@link #getCellIndex(int, int)}.
+     */
+    private final ScarecrowCellState[] cellStates = new ScarecrowCellState[MAX_WIDTH * MAX_WIDTH];
+
     /**
      * Creates an instance of the tileEntity.
      */
@@ -116,6 +147,38 @@ public class ScarecrowTileEntity extends AbstractScarecrowTileEntity
                 return stack.is(Tags.Items.SEEDS) || (stack.getItem() instanceof BlockItem && ((BlockItem) stack.getItem()).getBlock() instanceof CropBlock);
             }
         };
+        Arrays.fill(cellStates, ScarecrowCellState.UNKNOWN);
+    }
+
+    /**
+     * Create the cell offsets of the largest field. The scarecrow is in the center, the rings around it are walked starting north-east.
+     *
+     * @return the offsets.
+     */
+    private static List<BlockPos> createSpiral()
+    {
+        final List<BlockPos> spiral = new ArrayList<>();
+        for (int cell = 0; cell < MAX_WIDTH * MAX_WIDTH - 1; cell++)
+        {
+            final int ring = (int) Math.floor((Math.sqrt(cell + 1) + 1) / 2.0);
+            final int ringCell = cell - (4 * (ring - 1) * (ring - 1) + 4 * (ring - 1));
+            final Direction facing = Direction.from2DDataValue(Math.floorDiv(ringCell, 2 * ring));
+
+            final int x;
+            final int z;
+            if (facing.getAxis() == Direction.Axis.Z)
+            {
+                x = (facing == Direction.NORTH ? -1 : 1) * (ring - (ringCell % (2 * ring)));
+                z = (facing == Direction.NORTH ? -1 : 1) * ring;
+            }
+            else
+            {
+                x = (facing == Direction.WEST ? -1 : 1) * ring;
+                z = (facing == Direction.EAST ? -1 : 1) * (ring - (ringCell % (2 * ring)));
+            }
+            spiral.add(new BlockPos(x, 0, z));
+        }
+        return Collections.unmodifiableList(spiral);
     }
 
     /**
@@ -142,6 +205,7 @@ public class ScarecrowTileEntity extends AbstractScarecrowTileEntity
     public void setRadius(Direction direction, int radius)
     {
         this.radii[direction.get2DDataValue()] = radius;
+        this.workCells = null;
         setChanged();
         level.sendBlockUpdated(this.getBlockPos(), this.getBlockState(), this.getBlockState(), 2);
     }
@@ -155,6 +219,80 @@ public class ScarecrowTileEntity extends AbstractScarecrowTileEntity
         return radii[direction.get2DDataValue()];
     }
 
+    /**
+     * Get the cell offsets within the current radii, in the order the farmer works them.
+     *
+     * @return the offsets relative to the scarecrow.
+     */
+    public List<BlockPos> getWorkCells()
+    {
+        if (workCells == null)
+        {
+            final List<BlockPos> cells = new ArrayList<>();
+            for (final BlockPos offset : SPIRAL)
+            {
+                if (-offset.getZ() <= getRadius(Direction.NORTH)
+                      && offset.getX() <= getRadius(Direction.EAST)
+                      && offset.getZ() <= getRadius(Direction.SOUTH)
+                      && -offset.getX() <= getRadius(Direction.WEST))
+                {
+                    cells.add(offset);
+                }
+            }
+            workCells = cells;
+        }
+        return workCells;
+    }
+
+    /**
+     * Get the known state of a cell.
+     *
+     * @param offset the offset of the cell.
+     * @return the state, unknown if not looked at since the last change.
+     */
+    public ScarecrowCellState getCellState(final BlockPos offset)
+    {
+        return cellStates[getCellIndex(offset.getX(), offset.getZ())];
+    }
+
+    /**
+     * Set the known state of a cell.
+     *
+     * @param offset the offset of the cell.
+     * @param state  the state.
+     */
+    public void setCellState(final BlockPos offset, final ScarecrowCellState state)
+    {
+        cellStates[getCellIndex(offset.getX(), offset.getZ())] = state;
+    }
+
+    /**
+     * A block changed near the field, forget the state of its cell.
+     *
+     * @param pos the changed position.
+     */
+    public void onBlockChanged(final BlockPos pos)
+    {
+        final int x = pos.getX() - getBlockPos().getX();
+        final int z = pos.getZ() - getBlockPos().getZ();
+        if (Math.abs(x) <= MAX_RANGE && Math.abs(z) <= MAX_RANGE && Math.abs(pos.getY() - getBlockPos().getY()) <= CELL_HEIGHT_RANGE)
+        {
+            cellStates[getCellIndex(x, z)] = ScarecrowCellState.UNKNOWN;
+        }
+    }
+
+    /**
+     * Get the index of a cell in the state array.
+     *
+     * @param x the x offset.
+     * @param z the z offset.
+     * @return the index.
+     */
+    private static int getCellIndex(final int x, final int z)
+    {
+        return (x + MAX_RANGE) * MAX_WIDTH + z + MAX_RANGE;
+    }
+
     /**
      * Checks if a certain position is part of the field. Complies with the definition of field block.
      *
@@ -222,6 +360,8 @@ public class ScarecrowTileEntity extends AbstractScarecrowTileEntity
         {
             doesNeedWork = false;
             setFieldStage(ScarecrowFieldStage.values()[0]);
+            // Look at every cell again once per cycle, in case a change was missed.
+            Arrays.fill(cellStates, ScarecrowCellState.UNKNOWN);
             return;
         }
         setFieldStage(ScarecrowFieldStage.values()[getFieldStage().ordinal() + 1]);
@@ -404,6 +544,30 @@ public class ScarecrowTileEntity extends AbstractScarecrowTileEntity
 
     /////////////--------------------------- End Synchronization-area ---------------------------- /////////////
 
+    @Override
+    public void onLoad()
+    {
+        super.onLoad();
+        if (level != null && !level.isClientSide)
+        {
+            ScarecrowFieldIndex.add(this);
+        }
+    }
+
+    @Override
+    public void onChunkUnloaded()
+    {
+        super.onChunkUnloaded();
+        ScarecrowFieldIndex.remove(this);
+    }
+
+    @Override
+    public void setRemoved()
+    {
+        super.setRemoved();
+        ScarecrowFieldIndex.remove(this);
+    }
+
     @Override
     public void load(final CompoundTag compound)
     {
@@ -430,6 +594,8 @@ public class ScarecrowTileEntity extends AbstractScarecrowTileEntity
         radii[0] = compound.contains(TAG_FIELD_SOUTH) ? compound.getInt(TAG_FIELD_SOUTH) : MAX_RANGE;
         ownerId = compound.getInt(TAG_OWNER);
         setOwner(ownerId);
+        workCells = null;
+        Arrays.fill(cellStates, ScarecrowCellState.UNKNOWN);
 
         super.load(compound);
     }
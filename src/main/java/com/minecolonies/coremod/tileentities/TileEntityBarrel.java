@@ -183,7 +183,7 @@ public class TileEntityBarrel extends AbstractTileEntityBarrel implements ITicka
     private static CompostRecipe findCompostRecipe(final ItemStack itemStack)
     {
         return IColonyManager.getInstance().getCompatibilityManager()
-                .getCopyOfCompostRecipes().get(itemStack.getItem());
+                .getCompostRecipe(itemStack.getItem());
         // TODO: use the recipe to get the ferment time and output count?
         // tricky because they might use multiple items with different values
     }
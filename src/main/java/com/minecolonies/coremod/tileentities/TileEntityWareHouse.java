@@ -1,5 +1,6 @@
 package com.minecolonies.coremod.tileentities;
 
+import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.inventory.InventoryCitizen;
 import com.minecolonies.api.tileentities.AbstractTileEntityRack;
 import com.minecolonies.api.tileentities.AbstractTileEntityWareHouse;
@@ -7,6 +8,10 @@ import com.minecolonies.api.tileentities.MinecoloniesTileEntities;
 import com.minecolonies.api.tileentities.TileEntityRack;
 import com.minecolonies.api.util.*;
 import com.minecolonies.coremod.colony.buildings.modules.WarehouseModule;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.ChestBlockEntity;
 import net.minecraft.world.level.block.entity.BlockEntity;
@@ -15,14 +20,14 @@ import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 import java.util.function.Predicate;
 
 import static com.minecolonies.api.util.constant.Constants.TICKS_FIVE_MIN;
 import static com.minecolonies.api.util.constant.TranslationConstants.*;
 import static com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingWareHouse.MAX_STORAGE_UPGRADE;
 import net.minecraftforge.common.capabilities.ForgeCapabilities;
+import net.minecraftforge.items.IItemHandler;
 
 /**
  * Class which handles the tileEntity of our colony warehouse.
@@ -116,41 +121,81 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
     @Override
     public void dumpInventoryIntoWareHouse(@NotNull final InventoryCitizen inventoryCitizen)
     {
+        // Group the slots by item, so each item only looks up its rack once.
+        final Map<ItemStorage, IntList> slotsByItem = new LinkedHashMap<>();
         for (int i = 0; i < inventoryCitizen.getSlots(); i++)
         {
             final ItemStack stack = inventoryCitizen.getStackInSlot(i);
-            if (ItemStackUtils.isEmpty(stack))
+            if (!ItemStackUtils.isEmpty(stack))
             {
-                continue;
+                slotsByItem.computeIfAbsent(new ItemStorage(stack, true), key -> new IntArrayList()).add(i);
             }
+        }
+
+        if (slotsByItem.isEmpty())
+        {
+            return;
+        }
 
-            @Nullable final BlockEntity chest = getRackForStack(stack);
-            if (chest == null)
+        final RackIndex index = new RackIndex();
+        for (final Map.Entry<ItemStorage, IntList> entry : slotsByItem.entrySet())
+        {
+            final IntList slots = entry.getValue();
+            final Set<TileEntityRack> excluded = new HashSet<>();
+            int next = 0;
+            while (next < slots.size())
             {
-                if(level.getGameTime() - lastNotification > TICKS_FIVE_MIN)
+                @Nullable final TileEntityRack rack = index.getRackFor(entry.getKey(), excluded);
+                if (rack == null)
                 {
-                    lastNotification = level.getGameTime();
-                    if (getBuilding().getBuildingLevel() == getBuilding().getMaxBuildingLevel())
+                    if (excluded.isEmpty())
                     {
-                        if (getBuilding().getFirstModuleOccurance(WarehouseModule.class).getStorageUpgrade() < MAX_STORAGE_UPGRADE)
-                        {
-                            MessageUtils.format(COM_MINECOLONIES_COREMOD_WAREHOUSE_FULL_LEVEL5_UPGRADE).sendTo(getColony()).forAllPlayers();
-                        }
-                        else
-                        {
-                            MessageUtils.format(COM_MINECOLONIES_COREMOD_WAREHOUSE_FULL_MAX_UPGRADE).sendTo(getColony()).forAllPlayers();
-                        }
-                    }
-                    else
-                    {
-                        MessageUtils.format(COM_MINECOLONIES_COREMOD_WAREHOUSE_FULL).sendTo(getColony()).forAllPlayers();
+                        notifyWarehouseFull();
+                        return;
                     }
+                    // None of the racks with space could take the rest of this item, leave it in the inventory.
+                    break;
                 }
-                return;
+
+                @Nullable final IItemHandler handler = rack.getCapability(ForgeCapabilities.ITEM_HANDLER, null).resolve().orElse(null);
+                final int first = next;
+                while (handler != null && next < slots.size() && InventoryUtils.transferItemStackIntoNextBestSlotInItemHandler(inventoryCitizen, slots.getInt(next), handler))
+                {
+                    next++;
+                }
+
+                if (next > first)
+                {
+                    index.onInserted(rack, entry.getKey());
+                }
+                excluded.add(rack);
             }
+        }
+    }
 
-            final int index = i;
-            chest.getCapability(ForgeCapabilities.ITEM_HANDLER, null).ifPresent(handler -> InventoryUtils.transferItemStackIntoNextBestSlotInItemHandler(inventoryCitizen, index, handler));
+    /**
+     * Notify the colony that the warehouse is full, at most once every five minutes.
+     */
+    private void notifyWarehouseFull()
+    {
+        if (level.getGameTime() - lastNotification > TICKS_FIVE_MIN)
+        {
+            lastNotification = level.getGameTime();
+            if (getBuilding().getBuildingLevel() == getBuilding().getMaxBuildingLevel())
+            {
+                if (getBuilding().getFirstModuleOccurance(WarehouseModule.class).getStorageUpgrade() < MAX_STORAGE_UPGRADE)
+                {
+                    MessageUtils.format(COM_MINECOLONIES_COREMOD_WAREHOUSE_FULL_LEVEL5_UPGRADE).sendTo(getColony()).forAllPlayers();
+                }
+                else
+                {
+                    MessageUtils.format(COM_MINECOLONIES_COREMOD_WAREHOUSE_FULL_MAX_UPGRADE).sendTo(getColony()).forAllPlayers();
+                }
+            }
+            else
+            {
+                MessageUtils.format(COM_MINECOLONIES_COREMOD_WAREHOUSE_FULL).sendTo(getColony()).forAllPlayers();
+            }
         }
     }
 
@@ -256,4 +301,129 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
         }
         return emptiestChest;
     }
+
+    /**
+     * Index of the loaded racks of the warehouse by item and by creative tab, built once per dump. Free slots are read live from the racks, the index only tracks which
+     * racks already hold an item or category, following the same preference as {@link #getRackForStack(ItemStack)}.
+     */
+    private final class RackIndex
+    {
+        /**
+         * All loaded racks.
+         */
+        private final List<TileEntityRack> racks = new ArrayList<>();
+
+        /**
+         * Racks by the items they hold, damage ignored.
+         */
+        private final Map<ItemStorage, List<TileEntityRack>> byItem = new HashMap<>();
+
+        /**
+         * Racks by the primary creative tab of the items they hold.
+         */
+        private final Int2ObjectMap<List<TileEntityRack>> byCategory = new Int2ObjectOpenHashMap<>();
+
+        /**
+         * Scan the warehouse racks once.
+         */
+        private RackIndex()
+        {
+            for (@NotNull final BlockPos pos : getBuilding().getContainers())
+            {
+                if (WorldUtil.isBlockLoaded(level, pos) && getLevel().getBlockEntity(pos) instanceof TileEntityRack rack)
+                {
+                    racks.add(rack);
+                    for (final ItemStorage storage : rack.getAllContent().keySet())
+                    {
+                        onInserted(rack, new ItemStorage(storage.getItemStack(), true));
+                    }
+                }
+            }
+        }
+
+        /**
+         * Pick the rack for an item: a rack with the same item, then one with the same category, then the emptiest one.
+         *
+         * @param item     the item, damage ignored.
+         * @param excluded racks which could not take the item anymore.
+         * @return the rack or null if none has space.
+         */
+        @Nullable
+        private TileEntityRack getRackFor(final ItemStorage item, final Set<TileEntityRack> excluded)
+        {
+            @Nullable TileEntityRack rack = firstWithSpace(byItem.get(item), excluded);
+            if (rack == null)
+            {
+                rack = firstWithSpace(byCategory.get(item.getPrimaryCreativeTabIndex()), excluded);
+            }
+
+            if (rack == null)
+            {
+                int freeSlots = 0;
+                for (final TileEntityRack candidate : racks)
+                {
+                    if (excluded.contains(candidate))
+                    {
+                        continue;
+                    }
+
+                    if (candidate.isEmpty())
+                    {
+                        return candidate;
+                    }
+
+                    if (candidate.getFreeSlots() > freeSlots)
+                    {
+                        freeSlots = candidate.getFreeSlots();
+                        rack = candidate;
+                    }
+                }
+            }
+            return rack;
+        }
+
+        /**
+         * Record that a rack now holds an item.
+         *
+         * @param rack the rack.
+         * @param item the item, damage ignored.
+         */
+        private void onInserted(final TileEntityRack rack, final ItemStorage item)
+        {
+            final List<TileEntityRack> itemRacks = byItem.computeIfAbsent(item, key -> new ArrayList<>());
+            if (!itemRacks.contains(rack))
+            {
+                itemRacks.add(rack);
+            }
+
+            final List<TileEntityRack> categoryRacks = byCategory.computeIfAbsent(item.getPrimaryCreativeTabIndex(), key -> new ArrayList<>());
+            if (!categoryRacks.contains(rack))
+            {
+                categoryRacks.add(rack);
+            }
+        }
+
+        /**
+         * Get the first rack of the list which has free slots.
+         *
+         * @param candidates the racks, may be null.
+         * @param excluded   racks to skip.
+         * @return the rack or null.
+         */
+        @Nullable
+        private TileEntityRack firstWithSpace(@Nullable final List<TileEntityRack> candidates, final Set<TileEntityRack> excluded)
+        {
+            if (candidates != null)
+            {
+                for (final TileEntityRack candidate : candidates)
+                {
+                    if (candidate.getFreeSlots() > 0 && !excluded.contains(candidate))
+                    {
+                        return candidate;
+                    }
+                }
+            }
+            return null;
+        }
+    }
 }
@@ -0,0 +1,273 @@
+package com.minecolonies.coremod.util;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.entity.animal.Bee;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.BeehiveBlock;
+import net.minecraft.world.level.block.entity.BeehiveBlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.phys.AABB;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Registry of the bees of a level by the hive they belong to, kept up to date from the entity join and leave events. Bees inside of a hive are not entities, those are
+ * counted from the occupancy of the hive block entity. As bees leave the level when entering a hive and join it again when leaving, the home of a bee is re-read on every
+ * hive visit. Bees can also lose their hive without visiting it, when the hive is destroyed, so all registered bees are checked again on each query.
+ */
+public final class BeeHiveRegistry
+{
+    /**
+     * The registries per dimension, only accessed from the server thread.
+     */
+    private static final Map<ResourceKey<Level>, BeeHiveRegistry> REGISTRIES = new HashMap<>();
+
+    /**
+     * The bees outside of their hive, by hive.
+     */
+    private final Map<BlockPos, Set<Bee>> beesByHive = new HashMap<>();
+
+    /**
+     * The hive each registered bee is registered at, null for bees without a hive.
+     */
+    private final Map<Bee, BlockPos> hiveOfBee = new HashMap<>();
+
+    /**
+     * The bees without a hive.
+     */
+    private final Set<Bee> homelessBees = new HashSet<>();
+
+    /**
+     * Private constructor, use {@link #get(Level)}.
+     */
+    private BeeHiveRegistry()
+    {
+    }
+
+    /**
+     * Get the registry of a level.
+     *
+     * @param level the server level.
+     * @return the registry.
+     */
+    public static BeeHiveRegistry get(@NotNull final Level level)
+    {
+        return REGISTRIES.computeIfAbsent(level.dimension(), dim -> new BeeHiveRegistry());
+    }
+
+    /**
+     * Called when a bee joins a server level.
+     *
+     * @param bee the bee.
+     */
+    public static void onBeeJoin(@NotNull final Bee bee)
+    {
+        get(bee.level).register(bee, bee.getHivePos());
+    }
+
+    /**
+     * Called when a bee leaves a server level.
+     *
+     * @param bee the bee.
+     */
+    public static void onBeeLeave(@NotNull final Bee bee)
+    {
+        final BeeHiveRegistry registry = REGISTRIES.get(bee.level.dimension());
+        if (registry != null)
+        {
+            registry.unregister(bee);
+        }
+    }
+
+    /**
+     * Drop the registry of an unloaded level.
+     *
+     * @param level the level.
+     */
+    public static void onWorldUnload(@NotNull final Level level)
+    {
+        REGISTRIES.remove(level.dimension());
+    }
+
+    /**
+     * Get the bees outside of the given hives which belong to one of them or have no hive, within the given range of one of the hives. Every bee is returned once.
+     *
+     * @param hives  the hive positions.
+     * @param radius the range around the hives.
+     * @return the bees.
+     */
+    public List<Bee> getBees(@NotNull final Collection<BlockPos> hives, final double radius)
+    {
+        // Bees registered at other hives may have lost their hive in the meantime and be homeless now.
+        rehome(new ArrayList<>(hiveOfBee.keySet()));
+
+        final List<AABB> areas = new ArrayList<>(hives.size());
+        for (final BlockPos hive : hives)
+        {
+            areas.add(new AABB(hive).inflate(radius));
+        }
+
+        final List<Bee> result = new ArrayList<>();
+        for (final BlockPos hive : hives)
+        {
+            final Set<Bee> bees = beesByHive.get(hive);
+            if (bees != null)
+            {
+                addInRange(bees, areas, result);
+            }
+        }
+        addInRange(homelessBees, areas, result);
+        return result;
+    }
+
+    /**
+     * Add the bees which are within one of the areas.
+     *
+     * @param bees   the bees to check.
+     * @param areas  the areas.
+     * @param result the list to add the bees to.
+     */
+    private static void addInRange(final Collection<Bee> bees, final List<AABB> areas, final List<Bee> result)
+    {
+        for (final Bee bee : bees)
+        {
+            for (final AABB area : areas)
+            {
+                if (area.contains(bee.position()))
+                {
+                    result.add(bee);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Count the bees inside of the given hives.
+     *
+     * @param level the level.
+     * @param hives the hive positions.
+     * @return the amount of bees.
+     */
+    public static int getBeesInHives(@NotNull final Level level, @NotNull final Collection<BlockPos> hives)
+    {
+        int count = 0;
+        for (final BlockPos hive : hives)
+        {
+            final BlockEntity blockEntity = level.getBlockEntity(hive);
+            if (blockEntity instanceof BeehiveBlockEntity)
+            {
+                count += ((BeehiveBlockEntity) blockEntity).getOccupantCount();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the hives which are full of honey.
+     *
+     * @param level the level.
+     * @param hives the hive positions.
+     * @return the full hives, in the order of the given positions.
+     */
+    public static List<BlockPos> getReadyHives(@NotNull final Level level, @NotNull final Collection<BlockPos> hives)
+    {
+        final List<BlockPos> ready = new ArrayList<>();
+        for (final BlockPos hive : hives)
+        {
+            if (BeehiveBlockEntity.getHoneyLevel(level.getBlockState(hive)) >= BeehiveBlock.MAX_HONEY_LEVELS)
+            {
+                ready.add(hive);
+            }
+        }
+        return ready;
+    }
+
+    /**
+     * Register a bee at a hive.
+     *
+     * @param bee  the bee.
+     * @param hive the hive position, null for none.
+     */
+    private void register(final Bee bee, final BlockPos hive)
+    {
+        unregister(bee);
+        hiveOfBee.put(bee, hive);
+        if (hive == null)
+        {
+            homelessBees.add(bee);
+        }
+        else
+        {
+            beesByHive.computeIfAbsent(hive, pos -> new HashSet<>()).add(bee);
+        }
+    }
+
+    /**
+     * Remove a bee from the registry.
+     *
+     * @param bee the bee.
+     */
+    private void unregister(final Bee bee)
+    {
+        if (!hiveOfBee.containsKey(bee))
+        {
+            return;
+        }
+
+        final BlockPos hive = hiveOfBee.remove(bee);
+        if (hive == null)
+        {
+            homelessBees.remove(bee);
+            return;
+        }
+
+        final Set<Bee> bees = beesByHive.get(hive);
+        if (bees != null && bees.remove(bee) && bees.isEmpty())
+        {
+            beesByHive.remove(hive);
+        }
+    }
+
+    /**
+     * Move bees which changed or lost their hive, and drop the dead ones.
+     *
+     * @param bees the bees to check.
+     */
+    private void rehome(final List<Bee> bees)
+    {
+        for (final Bee bee : bees)
+        {
+            if (!bee.isAlive())
+            {
+                unregister(bee);
+            }
+            else
+            {
+                final BlockPos hive = getHive(bee);
+                if (!Objects.equals(hive, hiveOfBee.get(bee)))
+                {
+                    register(bee, hive);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the hive of a bee. A bee keeps the position of a destroyed hive until it tries to enter it again, so a loaded position without a hive counts as no hive.
+     *
+     * @param bee the bee.
+     * @return the hive position, or null if none.
+     */
+    private static BlockPos getHive(final Bee bee)
+    {
+        final BlockPos hive = bee.getHivePos();
+        if (hive != null && bee.level.isLoaded(hive) && !(bee.level.getBlockEntity(hive) instanceof BeehiveBlockEntity))
+        {
+            return null;
+        }
+        return hive;
+    }
+}
@@ -0,0 +1,310 @@
+package com.minecolonies.coremod.util;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.ExperienceOrb;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Index of the entities the colony workers look for (living entities, item entities and xp orbs), bucketed by chunk section. It is kept up to date from the entity join and
+ * leave events and answers range queries without walking the vanilla entity sections. The index is kept per level, as animals, items and mobs freely cross colony borders.
+ * Results of identical queries within the same tick are shared.
+ */
+public final class EntityTracker
+{
+    /**
+     * The trackers per dimension, only accessed from the server thread.
+     */
+    private static final Map<ResourceKey<Level>, EntityTracker> TRACKERS = new HashMap<>();
+
+    /**
+     * The level this tracker indexes.
+     */
+    private final Level level;
+
+    /**
+     * The tracked entities by chunk section.
+     */
+    private final Long2ObjectMap<List<Entity>> sections = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * The section each tracked entity is currently bucketed in.
+     */
+    private final Map<Entity, Long> entitySections = new HashMap<>();
+
+    /**
+     * The results of the queries done in the current tick.
+     */
+    private final Map<Query, List<? extends Entity>> queryCache = new HashMap<>();
+
+    /**
+     * The game time the buckets were last refreshed at.
+     */
+    private long lastRefresh = -1;
+
+    /**
+     * Private constructor, use {@link #get(Level)}.
+     *
+     * @param level the level to index.
+     */
+    private EntityTracker(final Level level)
+    {
+        this.level = level;
+    }
+
+    /**
+     * Get the tracker of a level.
+     *
+     * @param level the server level.
+     * @return the tracker.
+     */
+    public static EntityTracker get(@NotNull final Level level)
+    {
+        return TRACKERS.computeIfAbsent(level.dimension(), dim -> new EntityTracker(level));
+    }
+
+    /**
+     * Called when an entity joins a server level.
+     *
+     * @param entity the entity.
+     */
+    public static void onEntityJoin(@NotNull final Entity entity)
+    {
+        if (isTracked(entity))
+        {
+            get(entity.level).add(entity);
+        }
+    }
+
+    /**
+     * Called when an entity leaves a server level.
+     *
+     * @param entity the entity.
+     */
+    public static void onEntityLeave(@NotNull final Entity entity)
+    {
+        if (isTracked(entity))
+        {
+            final EntityTracker tracker = TRACKERS.get(entity.level.dimension());
+            if (tracker != null)
+            {
+                tracker.remove(entity);
+            }
+        }
+    }
+
+    /**
+     * Drop the tracker of an unloaded level.
+     *
+     * @param level the level.
+     */
+    public static void onWorldUnload(@NotNull final Level level)
+    {
+        TRACKERS.remove(level.dimension());
+    }
+
+    /**
+     * Check if the given entity is of a class that is indexed.
+     *
+     * @param entity the entity to check.
+     * @return true if so.
+     */
+    private static boolean isTracked(final Entity entity)
+    {
+        return entity instanceof LivingEntity || entity instanceof ItemEntity || entity instanceof ExperienceOrb;
+    }
+
+    /**
+     * Get all alive entities of a class within the box. Only living entities, item entities and xp orbs are indexed.
+     *
+     * @param clazz the class of the entities.
+     * @param box   the area.
+     * @param <T>   the entity type.
+     * @return an immutable list of entities, shared with identical queries in the same tick.
+     */
+    public <T extends Entity> List<T> getEntitiesOfClass(@NotNull final Class<T> clazz, @NotNull final AABB box)
+    {
+        return getEntitiesOfClass(clazz, box, null);
+    }
+
+    /**
+     * Get all alive entities of a class within the box which match the predicate. Only living entities, item entities and xp orbs are indexed.
+     *
+     * @param clazz     the class of the entities.
+     * @param box       the area.
+     * @param predicate an optional additional filter, queries with a filter are not shared.
+     * @param <T>       the entity type.
+     * @return an immutable list of entities.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> List<T> getEntitiesOfClass(@NotNull final Class<T> clazz, @NotNull final AABB box, @Nullable final Predicate<? super T> predicate)
+    {
+        if (entitySections.isEmpty())
+        {
+            return Collections.emptyList();
+        }
+
+        refresh();
+
+        if (predicate != null)
+        {
+            return collect(clazz, box, predicate);
+        }
+
+        final Query query = new Query(clazz, box);
+        final List<T> cached = (List<T>) queryCache.get(query);
+        if (cached != null && cached.stream().noneMatch(Entity::isRemoved))
+        {
+            return cached;
+        }
+
+        final List<T> result = collect(clazz, box, null);
+        queryCache.put(query, result);
+        return result;
+    }
+
+    /**
+     * Walk the sections overlapping the box and collect the matching entities.
+     *
+     * @param clazz     the class of the entities.
+     * @param box       the area.
+     * @param predicate the optional filter.
+     * @param <T>       the entity type.
+     * @return an immutable list of entities.
+     */
+    private <T extends Entity> List<T> collect(final Class<T> clazz, final AABB box, @Nullable final Predicate<? super T> predicate)
+    {
+        final List<T> result = new ArrayList<>();
+        final int minX = SectionPos.blockToSectionCoord(Mth.floor(box.minX - 2.0D));
+        final int minY = SectionPos.blockToSectionCoord(Mth.floor(box.minY - 4.0D));
+        final int minZ = SectionPos.blockToSectionCoord(Mth.floor(box.minZ - 2.0D));
+        final int maxX = SectionPos.blockToSectionCoord(Mth.floor(box.maxX + 2.0D));
+        final int maxY = SectionPos.blockToSectionCoord(Mth.floor(box.maxY));
+        final int maxZ = SectionPos.blockToSectionCoord(Mth.floor(box.maxZ + 2.0D));
+
+        for (int x = minX; x <= maxX; x++)
+        {
+            for (int z = minZ; z <= maxZ; z++)
+            {
+                for (int y = minY; y <= maxY; y++)
+                {
+                    final List<Entity> section = sections.get(SectionPos.asLong(x, y, z));
+                    if (section == null)
+                    {
+                        continue;
+                    }
+
+                    for (final Entity entity : section)
+                    {
+                        if (clazz.isInstance(entity) && entity.isAlive() && entity.getBoundingBox().intersects(box))
+                        {
+                            final T match = clazz.cast(entity);
+                            if (predicate == null || predicate.test(match))
+                            {
+                                result.add(match);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Once per tick, move the entities which changed section into their new bucket and drop the previous tick's query results.
+     */
+    private void refresh()
+    {
+        final long gameTime = level.getGameTime();
+        if (gameTime == lastRefresh)
+        {
+            return;
+        }
+        lastRefresh = gameTime;
+        queryCache.clear();
+
+        for (final Map.Entry<Entity, Long> entry : entitySections.entrySet())
+        {
+            final long current = SectionPos.asLong(entry.getKey().blockPosition());
+            if (current != entry.getValue())
+            {
+                removeFromSection(entry.getKey(), entry.getValue());
+                sections.computeIfAbsent(current, key -> new ArrayList<>()).add(entry.getKey());
+                entry.setValue(current);
+            }
+        }
+    }
+
+    /**
+     * Start tracking an entity.
+     *
+     * @param entity the entity.
+     */
+    private void add(final Entity entity)
+    {
+        if (entitySections.containsKey(entity))
+        {
+            return;
+        }
+
+        final long section = SectionPos.asLong(entity.blockPosition());
+        entitySections.put(entity, section);
+        sections.computeIfAbsent(section, key -> new ArrayList<>()).add(entity);
+    }
+
+    /**
+     * Stop tracking an entity.
+     *
+     * @param entity the entity.
+     */
+    private void remove(final Entity entity)
+    {
+        final Long section = entitySections.remove(entity);
+        if (section != null)
+        {
+            removeFromSection(entity, section);
+        }
+    }
+
+    /**
+     * Remove an entity from a section bucket, dropping the bucket when it runs empty.
+     *
+     * @param entity  the entity.
+     * @param section the section key.
+     */
+    private void removeFromSection(final Entity entity, final long section)
+    {
+        final List<Entity> bucket = sections.get(section);
+        if (bucket != null)
+        {
+            bucket.remove(entity);
+            if (bucket.isEmpty())
+            {
+                sections.remove(section);
+            }
+        }
+    }
+
+    /**
+     * Key of a shared query.
+     *
+     * @param clazz the queried class.
+     * @param box   the queried area.
+     */
+    private record Query(Class<?> clazz, AABB box)
+    {
+    }
+}
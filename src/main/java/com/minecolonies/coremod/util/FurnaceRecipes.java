@@ -1,6 +1,7 @@
 package com.minecolonies.coremod.util;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
 import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
 import com.minecolonies.api.compatibility.IFurnaceRecipes;
 import com.minecolonies.api.crafting.ItemStorage;
@@ -8,24 +9,35 @@ import com.minecolonies.api.crafting.RecipeStorage;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.constant.TypeConstants;
 import net.minecraft.core.NonNullList;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.item.crafting.RecipeType;
 import net.minecraft.world.level.block.Blocks;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.function.Predicate;
 
 public class FurnaceRecipes implements IFurnaceRecipes
 {
     /**
-     * Furnace recipes.
+     * Furnace recipes by input item, built on datapack reload and replaced as a whole.
      */
-    private Map<ItemStorage, RecipeStorage> recipes = new HashMap<>();
-    private Map<ItemStorage, RecipeStorage> reverseRecipes = new HashMap<>();
+    private volatile ImmutableListMultimap<Item, RecipeStorage> recipesByInput = ImmutableListMultimap.of();
+
+    /**
+     * Furnace recipes by output item, built on datapack reload and replaced as a whole.
+     */
+    private volatile ImmutableListMultimap<Item, RecipeStorage> recipesByOutput = ImmutableListMultimap.of();
+
+    /**
+     * One furnace recipe per distinct output, for predicate lookups.
+     */
+    private volatile ImmutableList<RecipeStorage> recipesPerOutput = ImmutableList.of();
 
     /**
      * Instance of the furnace recipes.
@@ -39,8 +51,8 @@ public class FurnaceRecipes implements IFurnaceRecipes
      */
     public void loadRecipes(final RecipeManager recipeManager)
     {
-        recipes.clear();
-        reverseRecipes.clear();
+        final Map<ItemStorage, RecipeStorage> recipes = new LinkedHashMap<>();
+        final Map<ItemStorage, RecipeStorage> reverseRecipes = new LinkedHashMap<>();
         loadUtilityPredicates();
         recipeManager.byType(RecipeType.SMELTING).values().forEach(recipe -> {
             final NonNullList<Ingredient> list = recipe.getIngredients();
@@ -68,6 +80,18 @@ public class FurnaceRecipes implements IFurnaceRecipes
                 }
             }
         });
+
+        // Compile the keyed tables once, so lookups never have to scan or create item storages.
+        final ImmutableListMultimap.Builder<Item, RecipeStorage> byInput = ImmutableListMultimap.builder();
+        final ImmutableListMultimap.Builder<Item, RecipeStorage> byOutput = ImmutableListMultimap.builder();
+        for (final Map.Entry<ItemStorage, RecipeStorage> entry : recipes.entrySet())
+        {
+            byInput.put(entry.getKey().getItem(), entry.getValue());
+            byOutput.put(entry.getValue().getPrimaryOutput().getItem(), entry.getValue());
+        }
+        recipesByInput = byInput.build();
+        recipesByOutput = byOutput.build();
+        recipesPerOutput = ImmutableList.copyOf(reverseRecipes.values());
     }
 
     /**
@@ -89,29 +113,50 @@ public class FurnaceRecipes implements IFurnaceRecipes
      */
     public ItemStack getSmeltingResult(final ItemStack itemStack)
     {
-        final RecipeStorage storage = recipes.getOrDefault(new ItemStorage(itemStack), null);
-        if (storage != null)
+        for (final RecipeStorage storage : recipesByInput.get(itemStack.getItem()))
         {
-            return storage.getPrimaryOutput();
+            if (ItemStackUtils.compareItemStacksIgnoreStackSize(storage.getCleanedInput().get(0).getItemStack(), itemStack, true, true))
+            {
+                return storage.getPrimaryOutput();
+            }
         }
         return ItemStack.EMPTY;
     }
 
-    /**
-     * Get the first smelting recipe by result for a certain itemStack predicate.
-     *
-     * @param stackPredicate the predicate to test.
-     * @return the result or null if not existent.
-     */
+    @Override
     public RecipeStorage getFirstSmeltingRecipeByResult(final Predicate<ItemStack> stackPredicate)
     {
-        Optional<ItemStorage> index = reverseRecipes.keySet().stream().filter(item -> stackPredicate.test(item.getItemStack())).findFirst();
-        if(index.isPresent()) {
-            return reverseRecipes.getOrDefault(index.get(), null);
+        for (final RecipeStorage storage : recipesPerOutput)
+        {
+            if (stackPredicate.test(storage.getPrimaryOutput()))
+            {
+                return storage;
+            }
         }
         return null;
     }
 
+    @Override
+    public RecipeStorage getFirstSmeltingRecipeByResult(final ItemStack result)
+    {
+        final List<RecipeStorage> matching = getSmeltingRecipesByResult(result);
+        return matching.isEmpty() ? null : matching.get(0);
+    }
+
+    @Override
+    public List<RecipeStorage> getSmeltingRecipesByResult(final ItemStack result)
+    {
+        final List<RecipeStorage> matching = new ArrayList<>();
+        for (final RecipeStorage storage : recipesByOutput.get(result.getItem()))
+        {
+            if (ItemStackUtils.compareItemStacksIgnoreStackSize(storage.getPrimaryOutput(), result, true, true))
+            {
+                matching.add(storage);
+            }
+        }
+        return matching;
+    }
+
     /**
      * Get the instance of the class.
      *
@@ -0,0 +1,124 @@
+package com.minecolonies.coremod.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Accumulated time spent in the main colony subsystems, only recorded while enabled by a benchmark. Pathfinding runs on its own threads, so all counters are atomic.
+ */
+public final class SubsystemTimings
+{
+    /**
+     * The measured subsystems.
+     */
+    public enum Subsystem
+    {
+        /**
+         * The whole colony world tick, includes the request system and view sync.
+         */
+        COLONY_TICK,
+        REQUEST_SYSTEM,
+        PATHFINDING,
+        VIEW_SYNC
+    }
+
+    /**
+     * If timings are recorded.
+     */
+    private static volatile boolean enabled = false;
+
+    /**
+     * The total time per subsystem, in nanoseconds.
+     */
+    private static final AtomicLong[] NANOS = new AtomicLong[Subsystem.values().length];
+
+    /**
+     * The number of measured calls per subsystem.
+     */
+    private static final AtomicLong[] CALLS = new AtomicLong[Subsystem.values().length];
+
+    static
+    {
+        for (int i = 0; i < NANOS.length; i++)
+        {
+            NANOS[i] = new AtomicLong();
+            CALLS[i] = new AtomicLong();
+        }
+    }
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private SubsystemTimings()
+    {
+    }
+
+    /**
+     * Start a measurement.
+     *
+     * @return the start time to pass to {@link #stop(Subsystem, long)}, 0 if not recording.
+     */
+    public static long start()
+    {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * End a measurement.
+     *
+     * @param subsystem the measured subsystem.
+     * @param start     the value returned by {@link #start()}.
+     */
+    public static void stop(final Subsystem subsystem, final long start)
+    {
+        if (start != 0)
+        {
+            NANOS[subsystem.ordinal()].addAndGet(System.nanoTime() - start);
+            CALLS[subsystem.ordinal()].incrementAndGet();
+        }
+    }
+
+    /**
+     * Clear the counters and start or stop recording.
+     *
+     * @param enable true to record.
+     */
+    public static void reset(final boolean enable)
+    {
+        for (int i = 0; i < NANOS.length; i++)
+        {
+            NANOS[i].set(0);
+            CALLS[i].set(0);
+        }
+        enabled = enable;
+    }
+
+    /**
+     * Stop recording, keeping the counters.
+     */
+    public static void disable()
+    {
+        enabled = false;
+    }
+
+    /**
+     * Get the total time spent in a subsystem.
+     *
+     * @param subsystem the subsystem.
+     * @return the time in nanoseconds.
+     */
+    public static long getNanos(final Subsystem subsystem)
+    {
+        return NANOS[subsystem.ordinal()].get();
+    }
+
+    /**
+     * Get the number of measured calls of a subsystem.
+     *
+     * @param subsystem the subsystem.
+     * @return the number of calls.
+     */
+    public static long getCalls(final Subsystem subsystem)
+    {
+        return CALLS[subsystem.ordinal()].get();
+    }
+}